@@ -3,6 +3,11 @@ package io.github.milesreimann.packetsystem.api.connection;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.api.packet.listener.PacketListenerRegistry;
 import io.github.milesreimann.packetsystem.api.packet.registry.PacketRegistry;
+import io.github.milesreimann.packetsystem.api.stream.StreamReceiver;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a network connection capable of sending and receiving {@link Packet}s.
@@ -28,6 +33,18 @@ public interface Connection {
      */
     void open();
 
+    /**
+     * Opens the connection without blocking the calling thread.
+     * <p>
+     * The returned future completes once the underlying transport has been established, or
+     * exceptionally if it could not be established. If the connection is already open or
+     * opening, the future of that attempt is returned.
+     * </p>
+     *
+     * @return a future completed once the connection is open
+     */
+    CompletableFuture<Void> openAsync();
+
     /**
      * Closes the connection gracefully, releasing any underlying resources.
      * <p>
@@ -41,13 +58,69 @@ public interface Connection {
      * Sends a {@link Packet} through the connection.
      * <p>
      * If the connection is not ready, the packet may be queued or dropped,
-     * depending on the implementation.
+     * depending on the implementation. A connection with several sessions may reject
+     * the packet, as its target is ambiguous; it has to be sent through a {@link Session}.
      * </p>
      *
      * @param packet the non-null packet to be sent
      */
     void sendPacket(Packet packet);
 
+    /**
+     * Sends a {@link Packet} through the connection and reports when it has been written.
+     * <p>
+     * The returned future completes once the packet has been written to the transport, or has
+     * been queued because the connection is not ready. It completes exceptionally if the packet
+     * could not be encoded or written.
+     * </p>
+     *
+     * @param packet the non-null packet to be sent
+     * @return a future completed once the packet has been written
+     */
+    CompletableFuture<Void> sendPacketAsync(Packet packet);
+
+    /**
+     * Sends a request and waits for its response without blocking.
+     * <p>
+     * The request is assigned a new identifier, and the response is the first inbound packet
+     * of the given type that carries the same identifier. Responses are handed to the returned
+     * future instead of the packet listeners, on the executor the listeners of the response
+     * type are dispatched on. The caller owns the response and has to
+     * {@link Packet#releaseResources() release} its resources if it holds any.
+     * </p>
+     *
+     * @param request       the non-null request to be sent
+     * @param responseClass the type of the expected response
+     * @param timeout       the time to wait for the response
+     * @param unit          the unit of the timeout
+     * @param <R>           the response type
+     * @return a future completed with the response, or exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} if no response arrived in time
+     */
+    <R extends Packet> CompletableFuture<R> request(Packet request, Class<R> responseClass, long timeout, TimeUnit unit);
+
+    /**
+     * Sends a response to a request received on this connection, carrying the identifier of the request.
+     *
+     * @param request  the received request, not null
+     * @param response the non-null response to be sent
+     */
+    default void reply(Packet request, Packet response) {
+        response.assignUniqueId(request.getUniqueIdMostSigBits(), request.getUniqueIdLeastSigBits());
+        sendPacket(response);
+    }
+
+    /**
+     * Sends multiple {@link Packet}s through the connection in the given order.
+     * <p>
+     * Unlike calling {@link #sendPacket(Packet)} repeatedly, the packets are handed to the
+     * transport at once and may share a single flush, depending on the implementation.
+     * </p>
+     *
+     * @param packets the non-null packets to be sent
+     */
+    void sendPackets(Collection<? extends Packet> packets);
+
     /**
      * Checks whether the connection is currently active and usable.
      *
@@ -90,4 +163,41 @@ public interface Connection {
      * @return the packet listener registry, never {@code null}
      */
     PacketListenerRegistry getPacketListenerRegistry();
+
+    /**
+     * Sets the receiver of streams opened by the sessions of this connection.
+     * Streams are discarded while no receiver is set.
+     *
+     * @param receiver the receiver, or {@code null} to discard inbound streams
+     */
+    void setStreamReceiver(StreamReceiver receiver);
+
+    /**
+     * Gets a connected {@link Session} by its identifier.
+     *
+     * @param id the session ID
+     * @return the session, or {@code null} if no session with this ID is connected
+     */
+    Session getSession(long id);
+
+    /**
+     * Gets all currently connected {@link Session}s.
+     *
+     * @return an unmodifiable live view of the connected sessions, never {@code null}
+     */
+    Collection<? extends Session> getSessions();
+
+    /**
+     * Registers a listener that is notified whenever a session connects or disconnects.
+     *
+     * @param listener the listener to register, not null
+     */
+    void addSessionListener(SessionListener listener);
+
+    /**
+     * Unregisters a previously registered session listener.
+     *
+     * @param listener the listener to unregister, not null
+     */
+    void removeSessionListener(SessionListener listener);
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package io.github.milesreimann.packetsystem.api.connection;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.stream.StreamReceiver;
+
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single remote peer of a {@link Connection}.
+ * <p>
+ * A server connection has one session per accepted client, a client connection has exactly
+ * one session while it is connected. Packet listeners receive the session a packet arrived on,
+ * so {@link #sendPacket(Packet)} replies to the sender only.
+ * </p>
+ *
+ * <p>
+ * Sessions share the registries and session lookups of their parent connection.
+ * {@link #open()} has no effect, as a session is created once its peer has connected,
+ * and {@link #close()} only disconnects this peer.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface Session extends Connection {
+    /**
+     * Gets the identifier of this session, unique within its parent connection.
+     *
+     * @return the session ID
+     */
+    long getId();
+
+    /**
+     * Gets the connection that accepted or established this session.
+     *
+     * @return the parent connection, never {@code null}
+     */
+    Connection getConnection();
+
+    /**
+     * Checks whether the outbound buffer of this session is below its high water mark.
+     * <p>
+     * Producers should stop sending while a session is not writable, either by waiting with
+     * {@link #awaitWritable(long, TimeUnit)} or by reacting to
+     * {@link SessionListener#onWritabilityChanged(Session, boolean)}.
+     * </p>
+     *
+     * @return {@code true} if packets can be sent without growing the outbound buffer further
+     */
+    boolean isWritable();
+
+    /**
+     * Blocks until this session is writable again, the timeout elapses or the session disconnects.
+     * <p>
+     * Must not be called from the I/O thread of the session, such as from a listener dispatched
+     * inline or from {@link SessionListener#onWritabilityChanged(Session, boolean)}, since that
+     * thread is the one making the session writable again.
+     * </p>
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if the session is writable, {@code false} if the timeout elapsed or the session disconnected
+     * @throws InterruptedException  if the current thread is interrupted while waiting
+     * @throws IllegalStateException if called from the I/O thread of the session while it is not writable
+     */
+    boolean awaitWritable(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Streams a payload to the {@link StreamReceiver} of the peer.
+     * <p>
+     * The payload is split into chunks that are written only while the session is writable,
+     * so packets sent in the meantime are interleaved with the chunks instead of waiting for
+     * the whole payload.
+     * </p>
+     *
+     * @param name    the name of the stream, passed to the receiver
+     * @param payload the payload, not null
+     * @return a future completed once the last chunk has been written
+     */
+    CompletableFuture<Void> sendStream(String name, byte[] payload);
+
+    /**
+     * Streams the remaining content of the input stream to the {@link StreamReceiver} of the peer.
+     * The input stream is read chunk by chunk on a separate thread and closed afterwards.
+     *
+     * @param name        the name of the stream, passed to the receiver
+     * @param inputStream the source, not null
+     * @return a future completed once the last chunk has been written
+     * @see #sendStream(String, byte[])
+     */
+    CompletableFuture<Void> sendStream(String name, InputStream inputStream);
+
+    /**
+     * Streams the content of the file to the {@link StreamReceiver} of the peer.
+     * The file is read chunk by chunk on a separate thread; the channel is not closed.
+     *
+     * @param name        the name of the stream, passed to the receiver
+     * @param fileChannel the source, not null
+     * @return a future completed once the last chunk has been written
+     * @see #sendStream(String, byte[])
+     */
+    CompletableFuture<Void> sendStream(String name, FileChannel fileChannel);
+
+    /**
+     * Gets an attribute of this session.
+     *
+     * @param key the attribute key, not null
+     * @param <T> the attribute type
+     * @return the attribute value, or {@code null} if not set
+     */
+    <T> T getAttribute(String key);
+
+    /**
+     * Sets an attribute of this session.
+     *
+     * @param key   the attribute key, not null
+     * @param value the attribute value, or {@code null} to remove the attribute
+     * @param <T>   the attribute type
+     */
+    <T> void setAttribute(String key, T value);
+}
@@ -0,0 +1,34 @@
+package io.github.milesreimann.packetsystem.api.connection;
+
+/**
+ * Listener for sessions connecting to and disconnecting from a {@link Connection}.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface SessionListener {
+    /**
+     * Called once the peer of the session has connected and the session can send packets.
+     *
+     * @param session the connected session, not null
+     */
+    default void onConnect(Session session) {
+    }
+
+    /**
+     * Called once the peer of the session has disconnected.
+     *
+     * @param session the disconnected session, not null
+     */
+    default void onDisconnect(Session session) {
+    }
+
+    /**
+     * Called on the I/O thread of the session once its outbound buffer crosses a water mark.
+     *
+     * @param session  the session, not null
+     * @param writable whether the session is writable again
+     */
+    default void onWritabilityChanged(Session session, boolean writable) {
+    }
+}
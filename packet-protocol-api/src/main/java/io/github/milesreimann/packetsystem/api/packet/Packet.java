@@ -1,8 +1,10 @@
 package io.github.milesreimann.packetsystem.api.packet;
 
-import lombok.Getter;
-import lombok.Setter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -14,24 +16,124 @@ import java.util.UUID;
  * </p>
  *
  * <p>
- * Each packet is assigned a {@link #getUniqueId() uniqueId} during the
- * encoding/decoding process. While technically nullable during construction,
- * the ID should be considered mandatory and will always be set once the
- * packet is fully processed.
+ * Depending on the header mode of the connection, each packet is assigned a
+ * {@link #getUniqueId() uniqueId} during the encoding/decoding process. Decoded
+ * identifiers are kept as two raw {@code long} values and only turned into a
+ * {@link UUID} once {@link #getUniqueId()} is called.
+ * </p>
+ *
+ * <p>
+ * Field values that reference the inbound buffer, such as lazily decoded strings, are
+ * attached to the decoded packet as {@link #attachResource(ReferenceCounted) resources}
+ * and released after all listeners have handled it. Listeners that keep such a value
+ * beyond their invocation must {@link ReferenceCounted#retain() retain} it.
  * </p>
  *
  * @author Miles
  * @since 28.08.25
  */
-@Getter
-@Setter
 public abstract class Packet {
     /**
-     * The unique identifier of this packet.
+     * The unique identifier of this packet, materialized on first access.
+     */
+    private UUID uniqueId;
+    private long uniqueIdMostSigBits;
+    private long uniqueIdLeastSigBits;
+    private boolean uniqueIdAssigned;
+    private List<ReferenceCounted> resources;
+    private PacketPriority priority;
+
+    /**
+     * Returns the unique identifier of this packet.
      * <p>
-     * Initially {@code null}, but guaranteed to be assigned when the
-     * packet has been encoded or decoded.
+     * Initially {@code null}. Assigned when the packet has been encoded or decoded,
+     * unless the connection does not transmit packet identifiers at all. Sequence
+     * identifiers are exposed as a {@link UUID} with the most significant bits set to zero.
      * </p>
+     *
+     * @return the unique identifier, or {@code null} if none has been assigned
      */
-    private UUID uniqueId;
-}
\ No newline at end of file
+    public UUID getUniqueId() {
+        if (uniqueId == null && uniqueIdAssigned) {
+            uniqueId = new UUID(uniqueIdMostSigBits, uniqueIdLeastSigBits);
+        }
+
+        return uniqueId;
+    }
+
+    public void setUniqueId(UUID uniqueId) {
+        this.uniqueId = uniqueId;
+        this.uniqueIdAssigned = uniqueId != null;
+
+        if (uniqueId != null) {
+            this.uniqueIdMostSigBits = uniqueId.getMostSignificantBits();
+            this.uniqueIdLeastSigBits = uniqueId.getLeastSignificantBits();
+        }
+    }
+
+    /**
+     * Assigns the unique identifier from its raw bits without allocating a {@link UUID}.
+     *
+     * @param mostSigBits  the most significant 64 bits of the identifier
+     * @param leastSigBits the least significant 64 bits of the identifier
+     */
+    public void assignUniqueId(long mostSigBits, long leastSigBits) {
+        this.uniqueId = null;
+        this.uniqueIdMostSigBits = mostSigBits;
+        this.uniqueIdLeastSigBits = leastSigBits;
+        this.uniqueIdAssigned = true;
+    }
+
+    public boolean hasUniqueId() {
+        return uniqueIdAssigned;
+    }
+
+    public long getUniqueIdMostSigBits() {
+        return uniqueIdMostSigBits;
+    }
+
+    public long getUniqueIdLeastSigBits() {
+        return uniqueIdLeastSigBits;
+    }
+
+    /**
+     * Returns the priority this packet is sent with, overriding the {@link Priority} of its type.
+     *
+     * @return the priority, or {@code null} to use the priority of the packet type
+     */
+    public PacketPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PacketPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Attaches a reference-counted resource that is released together with this packet.
+     *
+     * @param resource the resource owned by this packet, not null
+     */
+    public void attachResource(ReferenceCounted resource) {
+        if (resources == null) {
+            resources = new ArrayList<>(2);
+        }
+
+        resources.add(resource);
+    }
+
+    /**
+     * Releases all attached resources. Called once the packet has been handled.
+     */
+    public void releaseResources() {
+        if (resources == null) {
+            return;
+        }
+
+        for (ReferenceCounted resource : resources) {
+            ReferenceCountUtil.safeRelease(resource);
+        }
+
+        resources = null;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.milesreimann.packetsystem.api.packet;
+
+/**
+ * Priority classes of outbound {@link Packet}s.
+ * <p>
+ * Priorities only take effect if the connection schedules its writes by priority. Packets
+ * of the same priority are always sent in order; packets of different priorities may
+ * overtake each other.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum PacketPriority {
+    /**
+     * Control traffic such as heartbeats, sent ahead of all other packets.
+     */
+    HIGH,
+
+    /**
+     * Regular traffic. The default for packets without a priority.
+     */
+    NORMAL,
+
+    /**
+     * Bulk traffic such as stream chunks, sent when no other packets are waiting.
+     */
+    LOW
+}
@@ -0,0 +1,27 @@
+package io.github.milesreimann.packetsystem.api.packet;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the {@link PacketPriority} all packets of the annotated type are sent with.
+ * <p>
+ * Individual packets can override it with {@link Packet#setPriority(PacketPriority)}.
+ * Packet types without this annotation are sent with {@link PacketPriority#NORMAL}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Priority {
+    /**
+     * The priority of the packet type.
+     *
+     * @return the priority, never {@code null}
+     */
+    PacketPriority value();
+}
@@ -28,4 +28,18 @@ public interface PacketFieldCodec<T> {
      * @return the decoded field value, may be {@code null} if the field allows it
      */
     T decode(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Object, ByteBuf)} writes for the given value.
+     * <p>
+     * Used to allocate outbound frames with their final size up front. Codecs that cannot
+     * tell the size cheaply keep the default, which falls back to a growing buffer.
+     * </p>
+     *
+     * @param value the value to measure; may be {@code null} if the field allows it
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOf(T value) {
+        return -1;
+    }
 }
@@ -0,0 +1,24 @@
+package io.github.milesreimann.packetsystem.api.packet.codec;
+
+/**
+ * Resolves the registered {@link PacketFieldCodec} instance for a codec class.
+ * <p>
+ * Passed to compile-time generated {@link PacketSerializer}s so they can bind
+ * the codec instances registered on a connection once, on construction.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@FunctionalInterface
+public interface PacketFieldCodecResolver {
+    /**
+     * Resolves the codec instance registered for the given codec class.
+     *
+     * @param codecClass the codec class referenced by a {@link PacketField}, not null
+     * @return the registered codec instance, never {@code null}
+     * @throws java.util.NoSuchElementException if no codec of that class was registered
+     */
+    @SuppressWarnings("rawtypes")
+    PacketFieldCodec<?> resolve(Class<? extends PacketFieldCodec> codecClass);
+}
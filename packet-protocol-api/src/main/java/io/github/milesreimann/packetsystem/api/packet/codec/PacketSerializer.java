@@ -0,0 +1,44 @@
+package io.github.milesreimann.packetsystem.api.packet.codec;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Serializer for the body of a single concrete {@link Packet} type.
+ * <p>
+ * A serializer writes and reads all {@link PacketField}-annotated fields of its packet type
+ * in declaration order. Field codecs are resolved once when the serializer is created, so
+ * encoding and decoding a packet does not involve any per-field lookups.
+ * </p>
+ *
+ * @param <P> the packet type handled by this serializer
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketSerializer<P extends Packet> {
+    /**
+     * Encodes all fields of the given packet into the provided {@link ByteBuf}.
+     *
+     * @param packet  the packet to encode, not null
+     * @param byteBuf the buffer to write the encoded fields into, not null
+     */
+    void encode(P packet, ByteBuf byteBuf);
+
+    /**
+     * Creates a new packet instance and populates its fields from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read the encoded fields from, not null
+     * @return the decoded packet, never {@code null}
+     */
+    P decode(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Packet, ByteBuf)} writes for the given packet.
+     *
+     * @param packet the packet to measure, not null
+     * @return the encoded size in bytes, or {@code -1} if the size of any field is unknown
+     */
+    default int sizeOf(P packet) {
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.milesreimann.packetsystem.api.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Codec for {@code boolean} packet fields that works on the primitive value without boxing.
+ * <p>
+ * Bound to a {@code boolean} field, the value is read, encoded, decoded and written back
+ * as a primitive. The boxed {@link PacketFieldCodec} methods delegate to the primitive ones and
+ * do not support {@code null}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketFieldBooleanCodec extends PacketFieldCodec<Boolean> {
+    /**
+     * Encodes the given value into the provided {@link ByteBuf}.
+     *
+     * @param value   the value to encode
+     * @param byteBuf the buffer to write the encoded data into, not null
+     */
+    void encodeBoolean(boolean value, ByteBuf byteBuf);
+
+    /**
+     * Decodes a value from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read data from, not null
+     * @return the decoded value
+     */
+    boolean decodeBoolean(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encodeBoolean(boolean, ByteBuf)} writes for the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOfBoolean(boolean value) {
+        return -1;
+    }
+
+    @Override
+    default void encode(Boolean value, ByteBuf byteBuf) {
+        encodeBoolean(value, byteBuf);
+    }
+
+    @Override
+    default Boolean decode(ByteBuf byteBuf) {
+        return decodeBoolean(byteBuf);
+    }
+
+    @Override
+    default int sizeOf(Boolean value) {
+        return sizeOfBoolean(value);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.milesreimann.packetsystem.api.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Codec for {@code byte} packet fields that works on the primitive value without boxing.
+ * <p>
+ * Bound to a {@code byte} field, the value is read, encoded, decoded and written back
+ * as a primitive. The boxed {@link PacketFieldCodec} methods delegate to the primitive ones and
+ * do not support {@code null}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketFieldByteCodec extends PacketFieldCodec<Byte> {
+    /**
+     * Encodes the given value into the provided {@link ByteBuf}.
+     *
+     * @param value   the value to encode
+     * @param byteBuf the buffer to write the encoded data into, not null
+     */
+    void encodeByte(byte value, ByteBuf byteBuf);
+
+    /**
+     * Decodes a value from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read data from, not null
+     * @return the decoded value
+     */
+    byte decodeByte(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encodeByte(byte, ByteBuf)} writes for the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOfByte(byte value) {
+        return -1;
+    }
+
+    @Override
+    default void encode(Byte value, ByteBuf byteBuf) {
+        encodeByte(value, byteBuf);
+    }
+
+    @Override
+    default Byte decode(ByteBuf byteBuf) {
+        return decodeByte(byteBuf);
+    }
+
+    @Override
+    default int sizeOf(Byte value) {
+        return sizeOfByte(value);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.milesreimann.packetsystem.api.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Codec for {@code float} packet fields that works on the primitive value without boxing.
+ * <p>
+ * Bound to a {@code float} field, the value is read, encoded, decoded and written back
+ * as a primitive. The boxed {@link PacketFieldCodec} methods delegate to the primitive ones and
+ * do not support {@code null}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketFieldFloatCodec extends PacketFieldCodec<Float> {
+    /**
+     * Encodes the given value into the provided {@link ByteBuf}.
+     *
+     * @param value   the value to encode
+     * @param byteBuf the buffer to write the encoded data into, not null
+     */
+    void encodeFloat(float value, ByteBuf byteBuf);
+
+    /**
+     * Decodes a value from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read data from, not null
+     * @return the decoded value
+     */
+    float decodeFloat(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encodeFloat(float, ByteBuf)} writes for the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOfFloat(float value) {
+        return -1;
+    }
+
+    @Override
+    default void encode(Float value, ByteBuf byteBuf) {
+        encodeFloat(value, byteBuf);
+    }
+
+    @Override
+    default Float decode(ByteBuf byteBuf) {
+        return decodeFloat(byteBuf);
+    }
+
+    @Override
+    default int sizeOf(Float value) {
+        return sizeOfFloat(value);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.milesreimann.packetsystem.api.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Codec for {@code long} packet fields that works on the primitive value without boxing.
+ * <p>
+ * Bound to a {@code long} field, the value is read, encoded, decoded and written back
+ * as a primitive. The boxed {@link PacketFieldCodec} methods delegate to the primitive ones and
+ * do not support {@code null}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketFieldLongCodec extends PacketFieldCodec<Long> {
+    /**
+     * Encodes the given value into the provided {@link ByteBuf}.
+     *
+     * @param value   the value to encode
+     * @param byteBuf the buffer to write the encoded data into, not null
+     */
+    void encodeLong(long value, ByteBuf byteBuf);
+
+    /**
+     * Decodes a value from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read data from, not null
+     * @return the decoded value
+     */
+    long decodeLong(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encodeLong(long, ByteBuf)} writes for the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOfLong(long value) {
+        return -1;
+    }
+
+    @Override
+    default void encode(Long value, ByteBuf byteBuf) {
+        encodeLong(value, byteBuf);
+    }
+
+    @Override
+    default Long decode(ByteBuf byteBuf) {
+        return decodeLong(byteBuf);
+    }
+
+    @Override
+    default int sizeOf(Long value) {
+        return sizeOfLong(value);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.milesreimann.packetsystem.api.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Codec for {@code short} packet fields that works on the primitive value without boxing.
+ * <p>
+ * Bound to a {@code short} field, the value is read, encoded, decoded and written back
+ * as a primitive. The boxed {@link PacketFieldCodec} methods delegate to the primitive ones and
+ * do not support {@code null}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface PacketFieldShortCodec extends PacketFieldCodec<Short> {
+    /**
+     * Encodes the given value into the provided {@link ByteBuf}.
+     *
+     * @param value   the value to encode
+     * @param byteBuf the buffer to write the encoded data into, not null
+     */
+    void encodeShort(short value, ByteBuf byteBuf);
+
+    /**
+     * Decodes a value from the provided {@link ByteBuf}.
+     *
+     * @param byteBuf the buffer to read data from, not null
+     * @return the decoded value
+     */
+    short decodeShort(ByteBuf byteBuf);
+
+    /**
+     * Returns the exact number of bytes {@link #encodeShort(short, ByteBuf)} writes for the given value.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes, or {@code -1} if unknown
+     */
+    default int sizeOfShort(short value) {
+        return -1;
+    }
+
+    @Override
+    default void encode(Short value, ByteBuf byteBuf) {
+        encodeShort(value, byteBuf);
+    }
+
+    @Override
+    default Short decode(ByteBuf byteBuf) {
+        return decodeShort(byteBuf);
+    }
+
+    @Override
+    default int sizeOf(Short value) {
+        return sizeOfShort(value);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.milesreimann.packetsystem.api.stream;
+
+import io.github.milesreimann.packetsystem.api.connection.Session;
+
+/**
+ * Accepts inbound streams of a connection.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@FunctionalInterface
+public interface StreamReceiver {
+    /**
+     * Called when a session opens a new stream.
+     *
+     * @param session the session that opened the stream, not null
+     * @param name    the name given to the stream by the sender
+     * @param length  the total length of the stream in bytes, or {@code -1} if unknown
+     * @return the sink consuming the stream, or {@code null} to discard it
+     */
+    StreamSink open(Session session, String name, long length);
+}
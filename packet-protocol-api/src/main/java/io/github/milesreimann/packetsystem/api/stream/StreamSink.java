@@ -0,0 +1,40 @@
+package io.github.milesreimann.packetsystem.api.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Consumer of the data of a single inbound stream.
+ * <p>
+ * Chunks are passed to the sink in order, as soon as they arrive, so the receiver never
+ * buffers more than one chunk. All methods of a sink are called from the same thread at a time.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface StreamSink {
+    /**
+     * Consumes the next chunk of the stream. The buffer is only valid during this call.
+     *
+     * @param data the chunk data, not null
+     * @throws IOException if the data could not be consumed; the stream is aborted
+     */
+    void write(ByteBuffer data) throws IOException;
+
+    /**
+     * Called once all chunks of the stream have been written.
+     *
+     * @throws IOException if the stream could not be completed
+     */
+    default void complete() throws IOException {
+    }
+
+    /**
+     * Called if the stream has been aborted by the sender, by a failing sink or by the session disconnecting.
+     *
+     * @param reason the reason of the abort, not null
+     */
+    default void abort(String reason) {
+    }
+}
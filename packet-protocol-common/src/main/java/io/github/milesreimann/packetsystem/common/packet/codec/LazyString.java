@@ -0,0 +1,148 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ReferenceCounted;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharSequence} that keeps the encoded bytes of a decoded string and only decodes
+ * them once the characters are accessed.
+ * <p>
+ * A decoded instance holds a retained slice of the inbound buffer and is released together
+ * with its packet. Keep it beyond the packet listener only after calling {@link #retain()},
+ * or convert it with {@link #toString()} while it is still alive. Re-encoding a lazy string
+ * that has not been accessed copies the raw bytes without decoding them.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public final class LazyString extends AbstractReferenceCounted implements CharSequence {
+    private final Charset charset;
+    private ByteBuf bytes;
+    private String value;
+
+    /**
+     * Creates a lazy string that takes ownership of the given bytes.
+     *
+     * @param bytes   the encoded characters, released when this string is deallocated
+     * @param charset the charset the bytes are encoded in
+     */
+    public LazyString(ByteBuf bytes, Charset charset) {
+        this.bytes = bytes;
+        this.charset = charset;
+    }
+
+    private LazyString(String value) {
+        this.charset = StandardCharsets.UTF_8;
+        this.value = value;
+    }
+
+    /**
+     * Wraps an already decoded string, e.g. for outbound packets.
+     *
+     * @param value the string value, not null
+     * @return a lazy string backed by the given value
+     */
+    public static LazyString of(String value) {
+        return new LazyString(value);
+    }
+
+    /**
+     * Writes the raw bytes of this string into the given buffer if they are still available
+     * in the requested charset.
+     *
+     * @return the number of bytes written, or {@code -1} if the string has to be encoded again
+     */
+    int writeRawBytes(ByteBuf byteBuf, Charset targetCharset) {
+        ByteBuf source = bytes;
+        if (source == null || !charset.equals(targetCharset)) {
+            return -1;
+        }
+
+        int length = source.readableBytes();
+        byteBuf.writeBytes(source, source.readerIndex(), length);
+        return length;
+    }
+
+    /**
+     * Returns the number of raw bytes {@link #writeRawBytes(ByteBuf, Charset)} would write.
+     *
+     * @return the raw length, or {@code -1} if the string has to be encoded again
+     */
+    int rawLength(Charset targetCharset) {
+        ByteBuf source = bytes;
+        if (source == null || !charset.equals(targetCharset)) {
+            return -1;
+        }
+
+        return source.readableBytes();
+    }
+
+    public boolean isDecoded() {
+        return value != null;
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String s = value;
+        if (s != null) {
+            return s;
+        }
+
+        ByteBuf source = bytes;
+        if (source == null) {
+            throw new IllegalReferenceCountException(0);
+        }
+
+        s = source.toString(charset);
+        value = s;
+        return s;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LazyString other && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        if (bytes != null) {
+            bytes.touch(hint);
+        }
+
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        if (bytes != null) {
+            bytes.release();
+            bytes = null;
+        }
+    }
+}
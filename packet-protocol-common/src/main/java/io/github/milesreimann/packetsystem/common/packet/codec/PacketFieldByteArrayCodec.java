@@ -1,6 +1,7 @@
 package io.github.milesreimann.packetsystem.common.packet.codec;
 
 import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.common.util.GatheringByteBuf;
 import io.netty.buffer.ByteBuf;
 
 /**
@@ -20,7 +21,7 @@ public class PacketFieldByteArrayCodec implements PacketFieldCodec<byte[]> {
         int length = value.length;
         byteBuf.writeInt(length);
 
-        if (length > 0) {
+        if (length > 0 && !GatheringByteBuf.tryWrap(byteBuf, value)) {
             byteBuf.writeBytes(value);
         }
     }
@@ -41,4 +42,9 @@ public class PacketFieldByteArrayCodec implements PacketFieldCodec<byte[]> {
 
         return data;
     }
-}
\ No newline at end of file
+
+    @Override
+    public int sizeOf(byte[] value) {
+        return value == null ? 1 : 1 + Integer.BYTES + value.length;
+    }
+}
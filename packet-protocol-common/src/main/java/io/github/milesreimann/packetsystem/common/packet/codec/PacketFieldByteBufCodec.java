@@ -0,0 +1,63 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.common.util.GatheringByteBuf;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Binary codec for {@link ByteBuf} fields that avoids copying payloads on decode.
+ * <p>
+ * Uses the same wire layout as {@link PacketFieldByteArrayCodec}. Decoded values are
+ * retained slices of the inbound frame and are released automatically after the packet
+ * listeners ran. A listener that keeps the buffer afterwards must {@link ByteBuf#retain()
+ * retain} it and release it once done. Note that a slice keeps the whole inbound buffer
+ * alive until it is released.
+ * </p>
+ *
+ * <p>
+ * Encoding copies the readable bytes of the value without changing its indices, or wraps
+ * them if the connection uses gathering writes. Outbound buffers remain owned by the caller
+ * and are not released by the connection.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldByteBufCodec implements PacketFieldCodec<ByteBuf> {
+    @Override
+    public void encode(ByteBuf value, ByteBuf byteBuf) {
+        boolean isNull = value == null;
+        byteBuf.writeBoolean(isNull);
+
+        if (isNull) {
+            return;
+        }
+
+        int length = value.readableBytes();
+        byteBuf.writeInt(length);
+
+        if (length > 0 && !GatheringByteBuf.tryWrap(byteBuf, value)) {
+            byteBuf.writeBytes(value, value.readerIndex(), length);
+        }
+    }
+
+    @Override
+    public ByteBuf decode(ByteBuf byteBuf) {
+        if (byteBuf.readBoolean()) {
+            return null;
+        }
+
+        int length = byteBuf.readInt();
+        if (length == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        return byteBuf.readRetainedSlice(length);
+    }
+
+    @Override
+    public int sizeOf(ByteBuf value) {
+        return value == null ? 1 : 1 + Integer.BYTES + value.readableBytes();
+    }
+}
@@ -1,5 +1,21 @@
 package io.github.milesreimann.packetsystem.common.packet.codec;
 
+import io.github.milesreimann.packetsystem.common.packet.codec.collection.PacketFieldDoubleArrayCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.collection.PacketFieldIntArrayCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.collection.PacketFieldLongArrayCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.collection.PacketFieldStringListCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldBooleanCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldByteCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldCharCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldDoubleCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldFloatCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldShortCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarIntCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarLongCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldZigZagIntCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldZigZagLongCodec;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -10,7 +26,29 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PacketFieldCodecs {
     public static final PacketFieldStringUTF8Codec STRING_UTF8_CODEC = new PacketFieldStringUTF8Codec();
+    public static final PacketFieldStringASCIICodec STRING_ASCII_CODEC = new PacketFieldStringASCIICodec();
+    public static final PacketFieldLazyStringUTF8Codec LAZY_STRING_UTF8_CODEC = new PacketFieldLazyStringUTF8Codec();
     public static final PacketFieldIntegerCodec INTEGER_CODEC = new PacketFieldIntegerCodec();
     public static final PacketFieldUUIDCodec UUID_CODEC = new PacketFieldUUIDCodec();
     public static final PacketFieldByteArrayCodec BYTE_ARRAY_CODEC = new PacketFieldByteArrayCodec();
+    public static final PacketFieldByteBufCodec BYTE_BUF_CODEC = new PacketFieldByteBufCodec();
+
+    public static final DefaultPacketFieldIntCodec PRIMITIVE_INT_CODEC = new DefaultPacketFieldIntCodec();
+    public static final DefaultPacketFieldLongCodec PRIMITIVE_LONG_CODEC = new DefaultPacketFieldLongCodec();
+    public static final DefaultPacketFieldDoubleCodec PRIMITIVE_DOUBLE_CODEC = new DefaultPacketFieldDoubleCodec();
+    public static final DefaultPacketFieldFloatCodec PRIMITIVE_FLOAT_CODEC = new DefaultPacketFieldFloatCodec();
+    public static final DefaultPacketFieldShortCodec PRIMITIVE_SHORT_CODEC = new DefaultPacketFieldShortCodec();
+    public static final DefaultPacketFieldByteCodec PRIMITIVE_BYTE_CODEC = new DefaultPacketFieldByteCodec();
+    public static final DefaultPacketFieldBooleanCodec PRIMITIVE_BOOLEAN_CODEC = new DefaultPacketFieldBooleanCodec();
+    public static final DefaultPacketFieldCharCodec PRIMITIVE_CHAR_CODEC = new DefaultPacketFieldCharCodec();
+
+    public static final PacketFieldVarIntCodec VAR_INT_CODEC = new PacketFieldVarIntCodec();
+    public static final PacketFieldVarLongCodec VAR_LONG_CODEC = new PacketFieldVarLongCodec();
+    public static final PacketFieldZigZagIntCodec ZIG_ZAG_INT_CODEC = new PacketFieldZigZagIntCodec();
+    public static final PacketFieldZigZagLongCodec ZIG_ZAG_LONG_CODEC = new PacketFieldZigZagLongCodec();
+
+    public static final PacketFieldIntArrayCodec INT_ARRAY_CODEC = new PacketFieldIntArrayCodec();
+    public static final PacketFieldLongArrayCodec LONG_ARRAY_CODEC = new PacketFieldLongArrayCodec();
+    public static final PacketFieldDoubleArrayCodec DOUBLE_ARRAY_CODEC = new PacketFieldDoubleArrayCodec();
+    public static final PacketFieldStringListCodec STRING_LIST_CODEC = new PacketFieldStringListCodec();
 }
\ No newline at end of file
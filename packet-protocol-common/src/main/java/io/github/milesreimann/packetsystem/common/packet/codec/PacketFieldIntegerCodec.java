@@ -27,4 +27,9 @@ public class PacketFieldIntegerCodec implements PacketFieldCodec<Integer> {
 
         return byteBuf.readInt();
     }
-}
\ No newline at end of file
+
+    @Override
+    public int sizeOf(Integer value) {
+        return value == null ? 1 : 1 + Integer.BYTES;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+
+/**
+ * String codec for {@link CharSequence} fields that defers decoding until first access.
+ * <p>
+ * Uses the same wire layout as {@link PacketFieldStringCodec}, so both codecs can be mixed
+ * between peers. Decoded values are {@link LazyString lazy strings} backed by a retained
+ * slice of the inbound buffer.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public abstract class PacketFieldLazyStringCodec implements PacketFieldCodec<CharSequence> {
+    private final Charset charset;
+
+    @Override
+    public void encode(CharSequence s, ByteBuf byteBuf) {
+        if (s == null) {
+            byteBuf.writeInt(0);
+            return;
+        }
+
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+
+        int length = s instanceof LazyString lazyString
+            ? lazyString.writeRawBytes(byteBuf, charset)
+            : -1;
+
+        if (length < 0) {
+            length = byteBuf.writeCharSequence(s, charset);
+        }
+
+        byteBuf.setInt(lengthIndex, length);
+    }
+
+    @Override
+    public CharSequence decode(ByteBuf byteBuf) {
+        int length = byteBuf.readInt();
+        if (length == 0) {
+            return null;
+        }
+
+        return new LazyString(byteBuf.readRetainedSlice(length), charset);
+    }
+
+    @Override
+    public int sizeOf(CharSequence s) {
+        if (s == null) {
+            return Integer.BYTES;
+        }
+
+        int length = s instanceof LazyString lazyString
+            ? lazyString.rawLength(charset)
+            : -1;
+
+        if (length < 0) {
+            length = PacketFieldStringCodec.encodedLength(s, charset);
+        }
+
+        return length < 0 ? -1 : Integer.BYTES + length;
+    }
+}
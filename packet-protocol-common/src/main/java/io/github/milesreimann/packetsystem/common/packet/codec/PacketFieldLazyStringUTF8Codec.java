@@ -0,0 +1,13 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldLazyStringUTF8Codec extends PacketFieldLazyStringCodec {
+    public PacketFieldLazyStringUTF8Codec() {
+        super(StandardCharsets.UTF_8);
+    }
+}
@@ -2,12 +2,21 @@ package io.github.milesreimann.packetsystem.common.packet.codec;
 
 import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.RequiredArgsConstructor;
 
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
+ * Length-prefixed string codec.
+ * <p>
+ * Strings are encoded straight into the buffer without an intermediate byte array; the
+ * length prefix is reserved up front and patched afterwards. Decoding reads the bytes in
+ * bulk from the buffer. An empty string is decoded as {@code null}.
+ * </p>
+ *
  * @author Miles
  * @since 28.08.25
  */
@@ -22,9 +31,11 @@ public abstract class PacketFieldStringCodec implements PacketFieldCodec<String>
             return;
         }
 
-        byte[] bytes = s.getBytes(charset);
-        byteBuf.writeInt(bytes.length);
-        byteBuf.writeBytes(bytes);
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+
+        int length = byteBuf.writeCharSequence(s, charset);
+        byteBuf.setInt(lengthIndex, length);
     }
 
     @Override
@@ -34,12 +45,35 @@ public abstract class PacketFieldStringCodec implements PacketFieldCodec<String>
             return null;
         }
 
-        byte[] bytes = new byte[length];
+        int index = byteBuf.readerIndex();
+        byteBuf.skipBytes(length);
+
+        return byteBuf.toString(index, length, charset);
+    }
+
+    @Override
+    public int sizeOf(String s) {
+        if (s == null) {
+            return Integer.BYTES;
+        }
+
+        int length = encodedLength(s, charset);
+        return length < 0 ? -1 : Integer.BYTES + length;
+    }
+
+    /**
+     * Returns the number of bytes the given characters take in the given charset, or {@code -1}
+     * if the charset cannot be measured without encoding.
+     */
+    static int encodedLength(CharSequence s, Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return ByteBufUtil.utf8Bytes(s);
+        }
 
-        for (int i = 0; i < length; i++) {
-            bytes[i] = byteBuf.readByte();
+        if (StandardCharsets.US_ASCII.equals(charset)) {
+            return s.length();
         }
 
-        return new String(bytes, charset);
+        return -1;
     }
-}
\ No newline at end of file
+}
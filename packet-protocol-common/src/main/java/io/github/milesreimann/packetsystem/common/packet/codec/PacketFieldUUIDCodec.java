@@ -31,4 +31,9 @@ public class PacketFieldUUIDCodec implements PacketFieldCodec<UUID> {
 
         return new UUID(mostSigBits, byteBuf.readLong());
     }
-}
\ No newline at end of file
+
+    @Override
+    public int sizeOf(UUID value) {
+        return value == null ? Long.BYTES : 2 * Long.BYTES;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.IntFunction;
+
+/**
+ * Codec for object array fields whose elements are encoded with another field codec.
+ * <p>
+ * Uses the same layout as {@link PacketFieldListCodec}. Subclass it with a no-args
+ * constructor passing the element codec and an array constructor such as
+ * {@code String[]::new}, then register the subclass like any other field codec.
+ * </p>
+ *
+ * @param <E> the element type
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public abstract class PacketFieldArrayCodec<E> implements PacketFieldCodec<E[]> {
+    private final PacketFieldCodec<E> elementCodec;
+    private final IntFunction<E[]> arrayFactory;
+
+    @Override
+    public void encode(E[] array, ByteBuf byteBuf) {
+        if (array == null) {
+            byteBuf.writeInt(PacketFieldCollectionCodec.NULL_LENGTH);
+            return;
+        }
+
+        byteBuf.writeInt(array.length);
+
+        for (E element : array) {
+            elementCodec.encode(element, byteBuf);
+        }
+    }
+
+    @Override
+    public E[] decode(ByteBuf byteBuf) {
+        int length = PacketFieldCollectionCodec.readLength(byteBuf, 1);
+        if (length == PacketFieldCollectionCodec.NULL_LENGTH) {
+            return null;
+        }
+
+        E[] array = arrayFactory.apply(length);
+
+        for (int i = 0; i < length; i++) {
+            array[i] = elementCodec.decode(byteBuf);
+        }
+
+        return array;
+    }
+
+    @Override
+    public int sizeOf(E[] array) {
+        if (array == null) {
+            return Integer.BYTES;
+        }
+
+        int size = Integer.BYTES;
+
+        for (E element : array) {
+            int elementSize = elementCodec.sizeOf(element);
+            if (elementSize < 0) {
+                return -1;
+            }
+
+            size += elementSize;
+        }
+
+        return size;
+    }
+}
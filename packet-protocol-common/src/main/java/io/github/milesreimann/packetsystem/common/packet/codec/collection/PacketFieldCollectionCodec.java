@@ -0,0 +1,96 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * Base codec for collections whose elements are encoded with another field codec.
+ * <p>
+ * A collection is written as its size followed by its elements; a size of {@code -1}
+ * denotes {@code null}. Decoded collections are created with the exact size up front.
+ * </p>
+ *
+ * @param <E> the element type
+ * @param <C> the collection type
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public abstract class PacketFieldCollectionCodec<E, C extends Collection<E>> implements PacketFieldCodec<C> {
+    static final int NULL_LENGTH = -1;
+
+    private final PacketFieldCodec<E> elementCodec;
+
+    protected abstract C newCollection(int size);
+
+    @Override
+    public void encode(C collection, ByteBuf byteBuf) {
+        if (collection == null) {
+            byteBuf.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        byteBuf.writeInt(collection.size());
+
+        for (E element : collection) {
+            elementCodec.encode(element, byteBuf);
+        }
+    }
+
+    @Override
+    public C decode(ByteBuf byteBuf) {
+        int size = readLength(byteBuf, 1);
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        C collection = newCollection(size);
+
+        for (int i = 0; i < size; i++) {
+            collection.add(elementCodec.decode(byteBuf));
+        }
+
+        return collection;
+    }
+
+    /**
+     * Reads a length prefix and rejects lengths that cannot fit into the remaining bytes, so a
+     * corrupt prefix does not lead to a huge up-front allocation.
+     */
+    static int readLength(ByteBuf byteBuf, int minElementSize) {
+        int length = byteBuf.readInt();
+
+        if (length < NULL_LENGTH || (long) length * minElementSize > byteBuf.readableBytes()) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Invalid length %d, only %d bytes readable",
+                length,
+                byteBuf.readableBytes()
+            ));
+        }
+
+        return length;
+    }
+
+    @Override
+    public int sizeOf(C collection) {
+        if (collection == null) {
+            return Integer.BYTES;
+        }
+
+        int size = Integer.BYTES;
+
+        for (E element : collection) {
+            int elementSize = elementCodec.sizeOf(element);
+            if (elementSize < 0) {
+                return -1;
+            }
+
+            size += elementSize;
+        }
+
+        return size;
+    }
+}
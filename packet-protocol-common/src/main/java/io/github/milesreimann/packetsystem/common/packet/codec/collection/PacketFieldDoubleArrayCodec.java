@@ -0,0 +1,49 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldDoubleArrayCodec extends PacketFieldPrimitiveArrayCodec<double[]> {
+    public PacketFieldDoubleArrayCodec() {
+        super(Double.BYTES);
+    }
+
+    @Override
+    protected int length(double[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected double[] newArray(int length) {
+        return new double[length];
+    }
+
+    @Override
+    protected void writeElements(double[] array, ByteBuf byteBuf) {
+        for (double value : array) {
+            byteBuf.writeDouble(value);
+        }
+    }
+
+    @Override
+    protected void readElements(ByteBuf byteBuf, double[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = byteBuf.readDouble();
+        }
+    }
+
+    @Override
+    protected void putElements(double[] array, ByteBuffer byteBuffer) {
+        byteBuffer.asDoubleBuffer().put(array);
+    }
+
+    @Override
+    protected void getElements(ByteBuffer byteBuffer, double[] array) {
+        byteBuffer.asDoubleBuffer().get(array);
+    }
+}
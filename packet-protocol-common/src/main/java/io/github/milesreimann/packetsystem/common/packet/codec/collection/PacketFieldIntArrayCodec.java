@@ -0,0 +1,49 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldIntArrayCodec extends PacketFieldPrimitiveArrayCodec<int[]> {
+    public PacketFieldIntArrayCodec() {
+        super(Integer.BYTES);
+    }
+
+    @Override
+    protected int length(int[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected int[] newArray(int length) {
+        return new int[length];
+    }
+
+    @Override
+    protected void writeElements(int[] array, ByteBuf byteBuf) {
+        for (int value : array) {
+            byteBuf.writeInt(value);
+        }
+    }
+
+    @Override
+    protected void readElements(ByteBuf byteBuf, int[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = byteBuf.readInt();
+        }
+    }
+
+    @Override
+    protected void putElements(int[] array, ByteBuffer byteBuffer) {
+        byteBuffer.asIntBuffer().put(array);
+    }
+
+    @Override
+    protected void getElements(ByteBuffer byteBuffer, int[] array) {
+        byteBuffer.asIntBuffer().get(array);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec for {@link List} fields, decoded as pre-sized {@link ArrayList}.
+ * <p>
+ * Subclass it with a no-args constructor passing the element codec, then register the
+ * subclass like any other field codec.
+ * </p>
+ *
+ * @param <E> the element type
+ * @author Miles
+ * @since 28.08.25
+ */
+public abstract class PacketFieldListCodec<E> extends PacketFieldCollectionCodec<E, List<E>> {
+    protected PacketFieldListCodec(PacketFieldCodec<E> elementCodec) {
+        super(elementCodec);
+    }
+
+    @Override
+    protected List<E> newCollection(int size) {
+        return new ArrayList<>(size);
+    }
+}
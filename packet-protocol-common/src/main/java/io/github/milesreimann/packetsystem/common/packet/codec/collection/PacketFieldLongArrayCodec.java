@@ -0,0 +1,49 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldLongArrayCodec extends PacketFieldPrimitiveArrayCodec<long[]> {
+    public PacketFieldLongArrayCodec() {
+        super(Long.BYTES);
+    }
+
+    @Override
+    protected int length(long[] array) {
+        return array.length;
+    }
+
+    @Override
+    protected long[] newArray(int length) {
+        return new long[length];
+    }
+
+    @Override
+    protected void writeElements(long[] array, ByteBuf byteBuf) {
+        for (long value : array) {
+            byteBuf.writeLong(value);
+        }
+    }
+
+    @Override
+    protected void readElements(ByteBuf byteBuf, long[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = byteBuf.readLong();
+        }
+    }
+
+    @Override
+    protected void putElements(long[] array, ByteBuffer byteBuffer) {
+        byteBuffer.asLongBuffer().put(array);
+    }
+
+    @Override
+    protected void getElements(ByteBuffer byteBuffer, long[] array) {
+        byteBuffer.asLongBuffer().get(array);
+    }
+}
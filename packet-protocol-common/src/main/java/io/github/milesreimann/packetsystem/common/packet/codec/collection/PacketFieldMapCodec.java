@@ -0,0 +1,80 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codec for {@link Map} fields, decoded as pre-sized {@link HashMap}.
+ * <p>
+ * A map is written as its size followed by alternating keys and values; a size of
+ * {@code -1} denotes {@code null}. Subclass it with a no-args constructor passing the key
+ * and value codecs, then register the subclass like any other field codec.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public abstract class PacketFieldMapCodec<K, V> implements PacketFieldCodec<Map<K, V>> {
+    private final PacketFieldCodec<K> keyCodec;
+    private final PacketFieldCodec<V> valueCodec;
+
+    @Override
+    public void encode(Map<K, V> map, ByteBuf byteBuf) {
+        if (map == null) {
+            byteBuf.writeInt(PacketFieldCollectionCodec.NULL_LENGTH);
+            return;
+        }
+
+        byteBuf.writeInt(map.size());
+
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            keyCodec.encode(entry.getKey(), byteBuf);
+            valueCodec.encode(entry.getValue(), byteBuf);
+        }
+    }
+
+    @Override
+    public Map<K, V> decode(ByteBuf byteBuf) {
+        int size = PacketFieldCollectionCodec.readLength(byteBuf, 2);
+        if (size == PacketFieldCollectionCodec.NULL_LENGTH) {
+            return null;
+        }
+
+        Map<K, V> map = HashMap.newHashMap(size);
+
+        for (int i = 0; i < size; i++) {
+            K key = keyCodec.decode(byteBuf);
+            map.put(key, valueCodec.decode(byteBuf));
+        }
+
+        return map;
+    }
+
+    @Override
+    public int sizeOf(Map<K, V> map) {
+        if (map == null) {
+            return Integer.BYTES;
+        }
+
+        int size = Integer.BYTES;
+
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            int keySize = keyCodec.sizeOf(entry.getKey());
+            int valueSize = valueCodec.sizeOf(entry.getValue());
+            if (keySize < 0 || valueSize < 0) {
+                return -1;
+            }
+
+            size += keySize + valueSize;
+        }
+
+        return size;
+    }
+}
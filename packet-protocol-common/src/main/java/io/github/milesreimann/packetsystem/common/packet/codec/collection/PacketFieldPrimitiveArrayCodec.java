@@ -0,0 +1,89 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Base codec for primitive arrays.
+ * <p>
+ * An array is written as its length followed by the big-endian elements; a length of
+ * {@code -1} denotes {@code null}. Larger arrays are copied in bulk through an NIO view of
+ * the buffer instead of element by element, as long as the buffer is backed by a single
+ * memory region.
+ * </p>
+ *
+ * @param <A> the array type
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public abstract class PacketFieldPrimitiveArrayCodec<A> implements PacketFieldCodec<A> {
+    private static final int BULK_THRESHOLD = 8;
+
+    private final int elementSize;
+
+    protected abstract int length(A array);
+
+    protected abstract A newArray(int length);
+
+    protected abstract void writeElements(A array, ByteBuf byteBuf);
+
+    protected abstract void readElements(ByteBuf byteBuf, A array);
+
+    protected abstract void putElements(A array, ByteBuffer byteBuffer);
+
+    protected abstract void getElements(ByteBuffer byteBuffer, A array);
+
+    @Override
+    public void encode(A array, ByteBuf byteBuf) {
+        if (array == null) {
+            byteBuf.writeInt(PacketFieldCollectionCodec.NULL_LENGTH);
+            return;
+        }
+
+        int length = length(array);
+        int byteLength = length * elementSize;
+
+        byteBuf.ensureWritable(Integer.BYTES + byteLength);
+        byteBuf.writeInt(length);
+
+        if (length < BULK_THRESHOLD || byteBuf.nioBufferCount() != 1) {
+            writeElements(array, byteBuf);
+            return;
+        }
+
+        int writerIndex = byteBuf.writerIndex();
+        putElements(array, byteBuf.nioBuffer(writerIndex, byteLength).order(ByteOrder.BIG_ENDIAN));
+        byteBuf.writerIndex(writerIndex + byteLength);
+    }
+
+    @Override
+    public A decode(ByteBuf byteBuf) {
+        int length = PacketFieldCollectionCodec.readLength(byteBuf, elementSize);
+        if (length == PacketFieldCollectionCodec.NULL_LENGTH) {
+            return null;
+        }
+
+        A array = newArray(length);
+
+        if (length < BULK_THRESHOLD || byteBuf.nioBufferCount() != 1) {
+            readElements(byteBuf, array);
+            return array;
+        }
+
+        int byteLength = length * elementSize;
+        getElements(byteBuf.nioBuffer(byteBuf.readerIndex(), byteLength).order(ByteOrder.BIG_ENDIAN), array);
+        byteBuf.skipBytes(byteLength);
+
+        return array;
+    }
+
+    @Override
+    public int sizeOf(A array) {
+        return array == null ? Integer.BYTES : Integer.BYTES + length(array) * elementSize;
+    }
+}
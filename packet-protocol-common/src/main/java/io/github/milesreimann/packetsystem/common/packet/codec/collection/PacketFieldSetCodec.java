@@ -0,0 +1,28 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Codec for {@link Set} fields, decoded as pre-sized {@link HashSet}.
+ * <p>
+ * Subclass it with a no-args constructor passing the element codec, then register the
+ * subclass like any other field codec.
+ * </p>
+ *
+ * @param <E> the element type
+ * @author Miles
+ * @since 28.08.25
+ */
+public abstract class PacketFieldSetCodec<E> extends PacketFieldCollectionCodec<E, Set<E>> {
+    protected PacketFieldSetCodec(PacketFieldCodec<E> elementCodec) {
+        super(elementCodec);
+    }
+
+    @Override
+    protected Set<E> newCollection(int size) {
+        return HashSet.newHashSet(size);
+    }
+}
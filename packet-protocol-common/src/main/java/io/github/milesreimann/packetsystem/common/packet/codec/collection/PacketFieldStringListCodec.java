@@ -0,0 +1,13 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldStringUTF8Codec;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldStringListCodec extends PacketFieldListCodec<String> {
+    public PacketFieldStringListCodec() {
+        super(new PacketFieldStringUTF8Codec());
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldBooleanCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldBooleanCodec implements PacketFieldBooleanCodec {
+    @Override
+    public void encodeBoolean(boolean value, ByteBuf byteBuf) {
+        byteBuf.writeBoolean(value);
+    }
+
+    @Override
+    public boolean decodeBoolean(ByteBuf byteBuf) {
+        return byteBuf.readBoolean();
+    }
+
+    @Override
+    public int sizeOfBoolean(boolean value) {
+        return 1;
+    }
+}
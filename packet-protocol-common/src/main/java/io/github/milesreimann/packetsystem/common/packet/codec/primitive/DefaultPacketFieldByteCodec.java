@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldByteCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldByteCodec implements PacketFieldByteCodec {
+    @Override
+    public void encodeByte(byte value, ByteBuf byteBuf) {
+        byteBuf.writeByte(value);
+    }
+
+    @Override
+    public byte decodeByte(ByteBuf byteBuf) {
+        return byteBuf.readByte();
+    }
+
+    @Override
+    public int sizeOfByte(byte value) {
+        return Byte.BYTES;
+    }
+}
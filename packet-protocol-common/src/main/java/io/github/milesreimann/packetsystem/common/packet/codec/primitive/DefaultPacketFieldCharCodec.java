@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldCharCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldCharCodec implements PacketFieldCharCodec {
+    @Override
+    public void encodeChar(char value, ByteBuf byteBuf) {
+        byteBuf.writeChar(value);
+    }
+
+    @Override
+    public char decodeChar(ByteBuf byteBuf) {
+        return byteBuf.readChar();
+    }
+
+    @Override
+    public int sizeOfChar(char value) {
+        return Character.BYTES;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldDoubleCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldDoubleCodec implements PacketFieldDoubleCodec {
+    @Override
+    public void encodeDouble(double value, ByteBuf byteBuf) {
+        byteBuf.writeDouble(value);
+    }
+
+    @Override
+    public double decodeDouble(ByteBuf byteBuf) {
+        return byteBuf.readDouble();
+    }
+
+    @Override
+    public int sizeOfDouble(double value) {
+        return Double.BYTES;
+    }
+}
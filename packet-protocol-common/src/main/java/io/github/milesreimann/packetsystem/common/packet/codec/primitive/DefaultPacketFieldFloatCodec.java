@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldFloatCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldFloatCodec implements PacketFieldFloatCodec {
+    @Override
+    public void encodeFloat(float value, ByteBuf byteBuf) {
+        byteBuf.writeFloat(value);
+    }
+
+    @Override
+    public float decodeFloat(ByteBuf byteBuf) {
+        return byteBuf.readFloat();
+    }
+
+    @Override
+    public int sizeOfFloat(float value) {
+        return Float.BYTES;
+    }
+}
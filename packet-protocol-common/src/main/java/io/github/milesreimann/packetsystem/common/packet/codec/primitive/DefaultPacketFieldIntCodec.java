@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldIntCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldIntCodec implements PacketFieldIntCodec {
+    @Override
+    public void encodeInt(int value, ByteBuf byteBuf) {
+        byteBuf.writeInt(value);
+    }
+
+    @Override
+    public int decodeInt(ByteBuf byteBuf) {
+        return byteBuf.readInt();
+    }
+
+    @Override
+    public int sizeOfInt(int value) {
+        return Integer.BYTES;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldLongCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldLongCodec implements PacketFieldLongCodec {
+    @Override
+    public void encodeLong(long value, ByteBuf byteBuf) {
+        byteBuf.writeLong(value);
+    }
+
+    @Override
+    public long decodeLong(ByteBuf byteBuf) {
+        return byteBuf.readLong();
+    }
+
+    @Override
+    public int sizeOfLong(long value) {
+        return Long.BYTES;
+    }
+}
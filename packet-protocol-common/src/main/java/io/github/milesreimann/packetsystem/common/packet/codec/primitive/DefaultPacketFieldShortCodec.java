@@ -0,0 +1,25 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldShortCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultPacketFieldShortCodec implements PacketFieldShortCodec {
+    @Override
+    public void encodeShort(short value, ByteBuf byteBuf) {
+        byteBuf.writeShort(value);
+    }
+
+    @Override
+    public short decodeShort(ByteBuf byteBuf) {
+        return byteBuf.readShort();
+    }
+
+    @Override
+    public int sizeOfShort(short value) {
+        return Short.BYTES;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes {@code int} values as VarInt. Small non-negative values take fewer bytes, negative
+ * values always take five.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldVarIntCodec implements PacketFieldIntCodec {
+    @Override
+    public void encodeInt(int value, ByteBuf byteBuf) {
+        VarInts.writeVarInt(byteBuf, value);
+    }
+
+    @Override
+    public int decodeInt(ByteBuf byteBuf) {
+        return VarInts.readVarInt(byteBuf);
+    }
+
+    @Override
+    public int sizeOfInt(int value) {
+        return VarInts.varIntSize(value);
+    }
+}
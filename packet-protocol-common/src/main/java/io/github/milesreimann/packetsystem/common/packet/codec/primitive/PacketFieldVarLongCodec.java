@@ -0,0 +1,29 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes {@code long} values as VarLong. Small non-negative values take fewer bytes, negative
+ * values always take ten.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldVarLongCodec implements PacketFieldLongCodec {
+    @Override
+    public void encodeLong(long value, ByteBuf byteBuf) {
+        VarInts.writeVarLong(byteBuf, value);
+    }
+
+    @Override
+    public long decodeLong(ByteBuf byteBuf) {
+        return VarInts.readVarLong(byteBuf);
+    }
+
+    @Override
+    public int sizeOfLong(long value) {
+        return VarInts.varLongSize(value);
+    }
+}
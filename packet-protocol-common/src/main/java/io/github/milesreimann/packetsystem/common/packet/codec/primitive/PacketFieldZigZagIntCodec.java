@@ -0,0 +1,29 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes signed {@code int} values as ZigZag VarInt, so values close to zero take few bytes
+ * regardless of their sign.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldZigZagIntCodec implements PacketFieldIntCodec {
+    @Override
+    public void encodeInt(int value, ByteBuf byteBuf) {
+        VarInts.writeVarInt(byteBuf, VarInts.encodeZigZag(value));
+    }
+
+    @Override
+    public int decodeInt(ByteBuf byteBuf) {
+        return VarInts.decodeZigZag(VarInts.readVarInt(byteBuf));
+    }
+
+    @Override
+    public int sizeOfInt(int value) {
+        return VarInts.varIntSize(VarInts.encodeZigZag(value));
+    }
+}
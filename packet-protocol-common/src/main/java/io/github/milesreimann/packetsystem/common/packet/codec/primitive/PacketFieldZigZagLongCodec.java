@@ -0,0 +1,29 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Encodes signed {@code long} values as ZigZag VarLong, so values close to zero take few bytes
+ * regardless of their sign.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PacketFieldZigZagLongCodec implements PacketFieldLongCodec {
+    @Override
+    public void encodeLong(long value, ByteBuf byteBuf) {
+        VarInts.writeVarLong(byteBuf, VarInts.encodeZigZag(value));
+    }
+
+    @Override
+    public long decodeLong(ByteBuf byteBuf) {
+        return VarInts.decodeZigZag(VarInts.readVarLong(byteBuf));
+    }
+
+    @Override
+    public int sizeOfLong(long value) {
+        return VarInts.varLongSize(VarInts.encodeZigZag(value));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.milesreimann.packetsystem.common.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Outbound buffer that wraps large binary values as components instead of copying them.
+ * <p>
+ * Regular writes go into pooled components that are appended on demand. Values of at least
+ * {@code wrapThreshold} bytes are added as their own component, so the transport can send
+ * the whole frame with a single gathering write.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class GatheringByteBuf extends CompositeByteBuf {
+    private static final int MIN_GROWTH = 256;
+
+    private final int wrapThreshold;
+
+    public GatheringByteBuf(ByteBufAllocator alloc, int wrapThreshold) {
+        // Components are never consolidated, that would copy the wrapped values again
+        super(alloc, true, Integer.MAX_VALUE);
+        this.wrapThreshold = wrapThreshold;
+    }
+
+    /**
+     * Wraps the given array into the target buffer if it is a {@link GatheringByteBuf} and
+     * the array reaches its wrap threshold. The array must not be modified until the
+     * frame has been written.
+     *
+     * @return {@code true} if the value has been wrapped, {@code false} if it must be copied
+     */
+    public static boolean tryWrap(ByteBuf target, byte[] value) {
+        if (!(target instanceof GatheringByteBuf gatheringByteBuf) || value.length < gatheringByteBuf.wrapThreshold) {
+            return false;
+        }
+
+        gatheringByteBuf.wrap(Unpooled.wrappedBuffer(value));
+        return true;
+    }
+
+    /**
+     * Wraps the readable bytes of the given buffer into the target buffer if it is a
+     * {@link GatheringByteBuf} and the value reaches its wrap threshold. The value is
+     * retained until the frame has been written; its indices are not changed.
+     *
+     * @return {@code true} if the value has been wrapped, {@code false} if it must be copied
+     */
+    public static boolean tryWrap(ByteBuf target, ByteBuf value) {
+        if (!(target instanceof GatheringByteBuf gatheringByteBuf) || value.readableBytes() < gatheringByteBuf.wrapThreshold) {
+            return false;
+        }
+
+        gatheringByteBuf.wrap(value.retainedSlice());
+        return true;
+    }
+
+    /**
+     * Growing only appends a new component, so bytes up to the wrap threshold can be
+     * written without copying. This keeps appended components small instead of doubling
+     * the capacity of the whole frame, including the wrapped values.
+     */
+    @Override
+    public int maxFastWritableBytes() {
+        return Math.max(writableBytes(), Math.min(wrapThreshold, Math.max(capacity(), MIN_GROWTH)));
+    }
+
+    private void wrap(ByteBuf component) {
+        // Drop unused capacity, so the wrapped component directly follows the written bytes
+        capacity(writerIndex());
+        addComponent(true, component);
+    }
+}
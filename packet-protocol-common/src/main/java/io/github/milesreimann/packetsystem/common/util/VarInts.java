@@ -0,0 +1,122 @@
+package io.github.milesreimann.packetsystem.common.util;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Helpers for variable-length (LEB128) and ZigZag encoded integers.
+ * <p>
+ * A VarInt stores 7 bits per byte, using the most significant bit as continuation flag,
+ * so small non-negative values take a single byte. ZigZag maps signed values to unsigned
+ * ones ({@code 0, -1, 1, -2, ...} to {@code 0, 1, 2, 3, ...}), which keeps small negative
+ * values short as well.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class VarInts {
+    public static final int MAX_VAR_INT_BYTES = 5;
+    public static final int MAX_VAR_LONG_BYTES = 10;
+
+    public static void writeVarInt(ByteBuf byteBuf, int value) {
+        if ((value & ~0x7F) == 0) {
+            byteBuf.writeByte(value);
+            return;
+        }
+
+        if ((value & ~0x3FFF) == 0) {
+            byteBuf.writeShort(((value & 0x7F) | 0x80) << 8 | (value >>> 7));
+            return;
+        }
+
+        while ((value & ~0x7F) != 0) {
+            byteBuf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        byteBuf.writeByte(value);
+    }
+
+    /**
+     * Writes the value at the given index using exactly {@code size} bytes, padding it with
+     * continuation bytes if needed. Padded values are read back like regular VarInts.
+     */
+    public static void setVarInt(ByteBuf byteBuf, int index, int value, int size) {
+        if (varIntSize(value) > size) {
+            throw new IllegalArgumentException("VarInt " + value + " does not fit into " + size + " bytes");
+        }
+
+        for (int i = 0; i < size - 1; i++) {
+            byteBuf.setByte(index + i, (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        byteBuf.setByte(index + size - 1, value);
+    }
+
+    public static int readVarInt(ByteBuf byteBuf) {
+        int value = 0;
+
+        for (int shift = 0; shift < MAX_VAR_INT_BYTES * 7; shift += 7) {
+            byte b = byteBuf.readByte();
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("VarInt is longer than " + MAX_VAR_INT_BYTES + " bytes");
+    }
+
+    public static void writeVarLong(ByteBuf byteBuf, long value) {
+        while ((value & ~0x7FL) != 0) {
+            byteBuf.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        byteBuf.writeByte((int) value);
+    }
+
+    public static long readVarLong(ByteBuf byteBuf) {
+        long value = 0;
+
+        for (int shift = 0; shift < MAX_VAR_LONG_BYTES * 7; shift += 7) {
+            byte b = byteBuf.readByte();
+            value |= (long) (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("VarLong is longer than " + MAX_VAR_LONG_BYTES + " bytes");
+    }
+
+    public static int varIntSize(int value) {
+        return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    public static int varLongSize(long value) {
+        return value == 0 ? 1 : (70 - Long.numberOfLeadingZeros(value)) / 7;
+    }
+
+    public static int encodeZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static int decodeZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PacketFieldByteBufCodecTest {
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsPayloadsAsRetainedSlices() {
+        byte[] payload = {1, 2, 3, 4, 5};
+        ByteBuf value = Unpooled.wrappedBuffer(payload);
+
+        try {
+            PacketFieldCodecs.BYTE_BUF_CODEC.encode(value, byteBuf);
+            assertEquals(PacketFieldCodecs.BYTE_BUF_CODEC.sizeOf(value), byteBuf.readableBytes());
+        } finally {
+            value.release();
+        }
+
+        ByteBuf decoded = PacketFieldCodecs.BYTE_BUF_CODEC.decode(byteBuf);
+        try {
+            assertArrayEquals(payload, ByteBufUtil.getBytes(decoded));
+            assertEquals(0, byteBuf.readableBytes());
+            assertEquals(2, byteBuf.refCnt());
+        } finally {
+            decoded.release();
+        }
+
+        assertEquals(1, byteBuf.refCnt());
+    }
+
+    @Test
+    void encodingKeepsTheIndicesOfTheValue() {
+        ByteBuf value = Unpooled.wrappedBuffer(new byte[]{9, 8, 7, 6});
+        value.readerIndex(1);
+
+        try {
+            PacketFieldCodecs.BYTE_BUF_CODEC.encode(value, byteBuf);
+
+            assertEquals(1, value.readerIndex());
+            assertEquals(4, value.writerIndex());
+            assertEquals(1, value.refCnt());
+        } finally {
+            value.release();
+        }
+
+        ByteBuf decoded = PacketFieldCodecs.BYTE_BUF_CODEC.decode(byteBuf);
+        try {
+            assertArrayEquals(new byte[]{8, 7, 6}, ByteBufUtil.getBytes(decoded));
+        } finally {
+            decoded.release();
+        }
+    }
+
+    @Test
+    void nullIsKeptApartFromEmptyPayloads() {
+        PacketFieldCodecs.BYTE_BUF_CODEC.encode(null, byteBuf);
+        PacketFieldCodecs.BYTE_BUF_CODEC.encode(Unpooled.EMPTY_BUFFER, byteBuf);
+
+        assertEquals(PacketFieldCodecs.BYTE_BUF_CODEC.sizeOf(null) + PacketFieldCodecs.BYTE_BUF_CODEC.sizeOf(Unpooled.EMPTY_BUFFER), byteBuf.readableBytes());
+        assertNull(PacketFieldCodecs.BYTE_BUF_CODEC.decode(byteBuf));
+        assertSame(Unpooled.EMPTY_BUFFER, PacketFieldCodecs.BYTE_BUF_CODEC.decode(byteBuf));
+        assertEquals(1, byteBuf.refCnt());
+    }
+
+    @Test
+    void sharesTheWireLayoutOfTheByteArrayCodec() {
+        byte[] payload = {42, 43};
+        ByteBuf value = Unpooled.wrappedBuffer(payload);
+
+        try {
+            PacketFieldCodecs.BYTE_BUF_CODEC.encode(value, byteBuf);
+        } finally {
+            value.release();
+        }
+
+        assertArrayEquals(payload, PacketFieldCodecs.BYTE_ARRAY_CODEC.decode(byteBuf));
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketFieldLazyStringCodecTest {
+    private static final PacketFieldLazyStringCodec LAZY_ASCII_CODEC = new PacketFieldLazyStringCodec(StandardCharsets.US_ASCII) {
+    };
+
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void decodesLazilyFromARetainedSlice() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("ümlaut", byteBuf);
+
+        LazyString value = assertInstanceOf(LazyString.class, PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf));
+        try {
+            assertEquals(0, byteBuf.readableBytes());
+            assertEquals(2, byteBuf.refCnt());
+            assertFalse(value.isDecoded());
+
+            assertEquals("ümlaut", value.toString());
+            assertTrue(value.isDecoded());
+        } finally {
+            value.release();
+        }
+
+        assertEquals(1, byteBuf.refCnt());
+    }
+
+    @Test
+    void usesTheWireLayoutOfTheStringCodec() {
+        String value = "漢字 and ascii";
+        PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.encode(value, byteBuf);
+
+        assertEquals(PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.sizeOf(value), byteBuf.readableBytes());
+        assertEquals(PacketFieldCodecs.STRING_UTF8_CODEC.sizeOf(value), byteBuf.readableBytes());
+        assertEquals(value, PacketFieldCodecs.STRING_UTF8_CODEC.decode(byteBuf));
+    }
+
+    @Test
+    void reEncodingCopiesTheRawBytesWithoutDecoding() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("forwarded", byteBuf);
+        byte[] encoded = ByteBufUtil.getBytes(byteBuf);
+
+        LazyString value = (LazyString) PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf);
+        ByteBuf forwarded = Unpooled.buffer();
+        try {
+            PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.encode(value, forwarded);
+
+            assertEquals(PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.sizeOf(value), forwarded.readableBytes());
+            assertArrayEquals(encoded, ByteBufUtil.getBytes(forwarded));
+            assertFalse(value.isDecoded());
+        } finally {
+            forwarded.release();
+            value.release();
+        }
+    }
+
+    @Test
+    void reEncodesInAnotherCharset() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("ascii only", byteBuf);
+
+        LazyString value = (LazyString) PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf);
+        ByteBuf forwarded = Unpooled.buffer();
+        try {
+            LAZY_ASCII_CODEC.encode(value, forwarded);
+
+            assertEquals(LAZY_ASCII_CODEC.sizeOf(value), forwarded.readableBytes());
+            assertTrue(value.isDecoded());
+            assertEquals("ascii only", PacketFieldCodecs.STRING_ASCII_CODEC.decode(forwarded));
+        } finally {
+            forwarded.release();
+            value.release();
+        }
+    }
+
+    @Test
+    void releasedValuesCannotBeDecodedAnymore() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("gone", byteBuf);
+
+        LazyString value = (LazyString) PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf);
+        value.release();
+
+        assertEquals(1, byteBuf.refCnt());
+        assertThrows(IllegalReferenceCountException.class, value::toString);
+    }
+
+    @Test
+    void decodedValuesSurviveTheirRelease() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("kept", byteBuf);
+
+        LazyString value = (LazyString) PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf);
+        assertEquals("kept", value.toString());
+        value.release();
+
+        assertEquals("kept", value.toString());
+    }
+
+    @Test
+    void nullAndEmptyStringsAreDecodedAsNull() {
+        PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.encode(null, byteBuf);
+        PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.encode(LazyString.of(""), byteBuf);
+
+        assertEquals(2 * Integer.BYTES, byteBuf.readableBytes());
+        assertNull(PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf));
+        assertNull(PacketFieldCodecs.LAZY_STRING_UTF8_CODEC.decode(byteBuf));
+        assertEquals(1, byteBuf.refCnt());
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.milesreimann.packetsystem.common.packet.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PacketFieldStringCodecTest {
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsUtf8Strings() {
+        for (String value : new String[]{"a", "packet", "ümlaut", "漢字", "😀", "x".repeat(1000)}) {
+            byteBuf.clear();
+            PacketFieldCodecs.STRING_UTF8_CODEC.encode(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.STRING_UTF8_CODEC.sizeOf(value), byteBuf.readableBytes());
+            assertEquals(Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length, byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.STRING_UTF8_CODEC.decode(byteBuf));
+            assertEquals(0, byteBuf.readableBytes());
+        }
+    }
+
+    @Test
+    void roundTripsAsciiStrings() {
+        String value = "plain ascii";
+        PacketFieldCodecs.STRING_ASCII_CODEC.encode(value, byteBuf);
+
+        assertEquals(PacketFieldCodecs.STRING_ASCII_CODEC.sizeOf(value), byteBuf.readableBytes());
+        assertEquals(Integer.BYTES + value.length(), byteBuf.readableBytes());
+        assertEquals(value, PacketFieldCodecs.STRING_ASCII_CODEC.decode(byteBuf));
+    }
+
+    @Test
+    void nullAndEmptyStringsAreDecodedAsNull() {
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode(null, byteBuf);
+        PacketFieldCodecs.STRING_UTF8_CODEC.encode("", byteBuf);
+
+        assertEquals(PacketFieldCodecs.STRING_UTF8_CODEC.sizeOf(null) + PacketFieldCodecs.STRING_UTF8_CODEC.sizeOf(""), byteBuf.readableBytes());
+        assertNull(PacketFieldCodecs.STRING_UTF8_CODEC.decode(byteBuf));
+        assertNull(PacketFieldCodecs.STRING_UTF8_CODEC.decode(byteBuf));
+    }
+
+    @Test
+    void unmeasurableCharsetsReportAnUnknownSize() {
+        PacketFieldStringCodec codec = new PacketFieldStringCodec(StandardCharsets.UTF_16) {
+        };
+
+        assertEquals(-1, codec.sizeOf("value"));
+        assertEquals(Integer.BYTES, codec.sizeOf(null));
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PacketFieldCollectionCodecTest {
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsLists() {
+        List<String> list = List.of("a", "bc", "def");
+
+        assertEquals(list, roundTrip(PacketFieldCodecs.STRING_LIST_CODEC, list));
+        assertInstanceOf(ArrayList.class, roundTrip(PacketFieldCodecs.STRING_LIST_CODEC, list));
+        assertEquals(List.of(), roundTrip(PacketFieldCodecs.STRING_LIST_CODEC, List.of()));
+        assertNull(roundTrip(PacketFieldCodecs.STRING_LIST_CODEC, null));
+    }
+
+    @Test
+    void roundTripsSets() {
+        Set<Integer> set = Set.of(1, -2, 3);
+
+        assertEquals(set, roundTrip(new IntegerSetCodec(), set));
+        assertNull(roundTrip(new IntegerSetCodec(), null));
+    }
+
+    @Test
+    void roundTripsMaps() {
+        Map<String, Integer> map = Map.of("a", 1, "b", 2);
+
+        assertEquals(map, roundTrip(new StringIntegerMapCodec(), map));
+        assertEquals(Map.of(), roundTrip(new StringIntegerMapCodec(), Map.of()));
+        assertNull(roundTrip(new StringIntegerMapCodec(), null));
+    }
+
+    @Test
+    void roundTripsObjectArrays() {
+        String[] array = {"a", "bc"};
+
+        assertArrayEquals(array, roundTrip(new StringArrayCodec(), array));
+        assertArrayEquals(new String[0], roundTrip(new StringArrayCodec(), new String[0]));
+        assertNull(roundTrip(new StringArrayCodec(), null));
+    }
+
+    @Test
+    void sizeOfMatchesTheEncodedSize() {
+        assertEncodedSize(PacketFieldCodecs.STRING_LIST_CODEC, List.of("a", "bc"));
+        assertEncodedSize(new IntegerSetCodec(), Set.of(1, 2));
+        assertEncodedSize(new StringIntegerMapCodec(), Map.of("a", 1));
+        assertEncodedSize(new StringArrayCodec(), new String[]{"a"});
+        assertEncodedSize(new StringArrayCodec(), null);
+    }
+
+    @Test
+    void rejectsLengthsExceedingTheReadableBytes() {
+        byteBuf.writeInt(Integer.MAX_VALUE);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> PacketFieldCodecs.STRING_LIST_CODEC.decode(byteBuf));
+    }
+
+    @Test
+    void rejectsNegativeLengthsOtherThanNull() {
+        byteBuf.writeInt(-2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> new StringArrayCodec().decode(byteBuf));
+    }
+
+    @Test
+    void rejectsMapSizesExceedingTheReadableBytes() {
+        // Each entry takes at least two bytes, so three entries cannot fit into five bytes
+        byteBuf.writeInt(3).writeZero(5);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> new StringIntegerMapCodec().decode(byteBuf));
+    }
+
+    @Test
+    void readLengthScalesByTheElementSize() {
+        byteBuf.writeInt(2).writeZero(8);
+        assertEquals(2, PacketFieldCollectionCodec.readLength(byteBuf, Integer.BYTES));
+
+        byteBuf.clear().writeInt(3).writeZero(8);
+        assertThrows(IndexOutOfBoundsException.class, () -> PacketFieldCollectionCodec.readLength(byteBuf, Integer.BYTES));
+
+        byteBuf.clear().writeInt(PacketFieldCollectionCodec.NULL_LENGTH);
+        assertEquals(PacketFieldCollectionCodec.NULL_LENGTH, PacketFieldCollectionCodec.readLength(byteBuf, Integer.BYTES));
+    }
+
+    private <T> T roundTrip(PacketFieldCodec<T> codec, T value) {
+        byteBuf.clear();
+        codec.encode(value, byteBuf);
+
+        T decoded = codec.decode(byteBuf);
+        assertEquals(0, byteBuf.readableBytes());
+        return decoded;
+    }
+
+    private <T> void assertEncodedSize(PacketFieldCodec<T> codec, T value) {
+        byteBuf.clear();
+        codec.encode(value, byteBuf);
+
+        assertEquals(byteBuf.readableBytes(), codec.sizeOf(value));
+    }
+
+    private static class IntegerSetCodec extends PacketFieldSetCodec<Integer> {
+        private IntegerSetCodec() {
+            super(PacketFieldCodecs.PRIMITIVE_INT_CODEC);
+        }
+    }
+
+    private static class StringIntegerMapCodec extends PacketFieldMapCodec<String, Integer> {
+        private StringIntegerMapCodec() {
+            super(PacketFieldCodecs.STRING_UTF8_CODEC, PacketFieldCodecs.PRIMITIVE_INT_CODEC);
+        }
+    }
+
+    private static class StringArrayCodec extends PacketFieldArrayCodec<String> {
+        private StringArrayCodec() {
+            super(PacketFieldCodecs.STRING_UTF8_CODEC, String[]::new);
+        }
+    }
+}
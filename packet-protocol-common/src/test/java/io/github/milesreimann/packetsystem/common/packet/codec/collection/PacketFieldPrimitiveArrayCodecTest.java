@@ -0,0 +1,159 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.collection;
+
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PacketFieldPrimitiveArrayCodecTest {
+    // Below, at and above the length from which arrays are copied in bulk
+    private static final int[] LENGTHS = {0, 1, 7, 8, 9, 100};
+
+    @Test
+    void roundTripsIntArraysOnHeapAndDirectBuffers() {
+        for (int length : LENGTHS) {
+            int[] array = ints(length);
+
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.INT_ARRAY_CODEC, array, Unpooled::buffer));
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.INT_ARRAY_CODEC, array, Unpooled::directBuffer));
+        }
+    }
+
+    @Test
+    void roundTripsLongArraysOnHeapAndDirectBuffers() {
+        for (int length : LENGTHS) {
+            long[] array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (long) i * Integer.MAX_VALUE - i;
+            }
+
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.LONG_ARRAY_CODEC, array, Unpooled::buffer));
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.LONG_ARRAY_CODEC, array, Unpooled::directBuffer));
+        }
+    }
+
+    @Test
+    void roundTripsDoubleArraysOnHeapAndDirectBuffers() {
+        for (int length : LENGTHS) {
+            double[] array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = i / 3.0 - 1;
+            }
+
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.DOUBLE_ARRAY_CODEC, array, Unpooled::buffer));
+            assertArrayEquals(array, roundTrip(PacketFieldCodecs.DOUBLE_ARRAY_CODEC, array, Unpooled::directBuffer));
+        }
+    }
+
+    @Test
+    void roundTripsNull() {
+        assertNull(roundTrip(PacketFieldCodecs.INT_ARRAY_CODEC, null, Unpooled::buffer));
+    }
+
+    @Test
+    void bulkCopyWritesBigEndianElements() {
+        int[] array = ints(32);
+        ByteBuf expected = Unpooled.buffer();
+        ByteBuf actual = Unpooled.directBuffer();
+
+        try {
+            expected.writeInt(array.length);
+            for (int value : array) {
+                expected.writeInt(value);
+            }
+
+            PacketFieldCodecs.INT_ARRAY_CODEC.encode(array, actual);
+
+            assertEquals(expected, actual);
+            assertEquals(PacketFieldCodecs.INT_ARRAY_CODEC.sizeOf(array), actual.readableBytes());
+        } finally {
+            expected.release();
+            actual.release();
+        }
+    }
+
+    @Test
+    void bulkCopyRespectsTheBufferIndices() {
+        int[] array = ints(16);
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        try {
+            byteBuf.writeByte(42);
+            PacketFieldCodecs.INT_ARRAY_CODEC.encode(array, byteBuf);
+            byteBuf.writeByte(43);
+
+            assertEquals(42, byteBuf.readByte());
+            assertArrayEquals(array, PacketFieldCodecs.INT_ARRAY_CODEC.decode(byteBuf));
+            assertEquals(43, byteBuf.readByte());
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    @Test
+    void decodesBuffersSpanningSeveralMemoryRegions() {
+        int[] array = ints(16);
+        ByteBuf encoded = Unpooled.buffer();
+        PacketFieldCodecs.INT_ARRAY_CODEC.encode(array, encoded);
+
+        // Split inside an element, so the elements have to be read one by one
+        int split = Integer.BYTES + 10;
+        CompositeByteBuf composite = Unpooled.compositeBuffer();
+        composite.addComponents(true, encoded.retainedSlice(0, split), encoded.retainedSlice(split, encoded.readableBytes() - split));
+        encoded.release();
+
+        try {
+            assertEquals(2, composite.nioBufferCount());
+            assertArrayEquals(array, PacketFieldCodecs.INT_ARRAY_CODEC.decode(composite));
+            assertEquals(0, composite.readableBytes());
+        } finally {
+            composite.release();
+        }
+    }
+
+    @Test
+    void rejectsLengthsExceedingTheReadableBytes() {
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        try {
+            // Three ints need twelve bytes
+            byteBuf.writeInt(3).writeZero(11);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> PacketFieldCodecs.INT_ARRAY_CODEC.decode(byteBuf));
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    private static <A> A roundTrip(PacketFieldPrimitiveArrayCodec<A> codec, A array, IntFunction<ByteBuf> allocator) {
+        ByteBuf byteBuf = allocator.apply(16);
+
+        try {
+            codec.encode(array, byteBuf);
+            assertEquals(codec.sizeOf(array), byteBuf.readableBytes());
+
+            A decoded = codec.decode(byteBuf);
+            assertEquals(0, byteBuf.readableBytes());
+            return decoded;
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    private static int[] ints(int length) {
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = i * 0x01010101 - 7;
+        }
+
+        return array;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultPacketFieldPrimitiveCodecTest {
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsInts() {
+        for (int value : new int[]{0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            byteBuf.clear();
+            PacketFieldCodecs.PRIMITIVE_INT_CODEC.encodeInt(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.PRIMITIVE_INT_CODEC.sizeOfInt(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.PRIMITIVE_INT_CODEC.decodeInt(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsLongs() {
+        for (long value : new long[]{0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            byteBuf.clear();
+            PacketFieldCodecs.PRIMITIVE_LONG_CODEC.encodeLong(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.PRIMITIVE_LONG_CODEC.sizeOfLong(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.PRIMITIVE_LONG_CODEC.decodeLong(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsDoubles() {
+        for (double value : new double[]{0, -0.0, Math.PI, Double.MIN_VALUE, Double.NaN, Double.NEGATIVE_INFINITY}) {
+            byteBuf.clear();
+            PacketFieldCodecs.PRIMITIVE_DOUBLE_CODEC.encodeDouble(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.PRIMITIVE_DOUBLE_CODEC.sizeOfDouble(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.PRIMITIVE_DOUBLE_CODEC.decodeDouble(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsFloats() {
+        for (float value : new float[]{0, -0.0f, 1.5f, Float.MAX_VALUE, Float.NaN, Float.POSITIVE_INFINITY}) {
+            byteBuf.clear();
+            PacketFieldCodecs.PRIMITIVE_FLOAT_CODEC.encodeFloat(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.PRIMITIVE_FLOAT_CODEC.sizeOfFloat(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.PRIMITIVE_FLOAT_CODEC.decodeFloat(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsShortsBytesBooleansAndChars() {
+        PacketFieldCodecs.PRIMITIVE_SHORT_CODEC.encodeShort(Short.MIN_VALUE, byteBuf);
+        PacketFieldCodecs.PRIMITIVE_BYTE_CODEC.encodeByte(Byte.MAX_VALUE, byteBuf);
+        PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC.encodeBoolean(true, byteBuf);
+        PacketFieldCodecs.PRIMITIVE_CHAR_CODEC.encodeChar(Character.MAX_VALUE, byteBuf);
+
+        int expectedSize = PacketFieldCodecs.PRIMITIVE_SHORT_CODEC.sizeOfShort(Short.MIN_VALUE)
+            + PacketFieldCodecs.PRIMITIVE_BYTE_CODEC.sizeOfByte(Byte.MAX_VALUE)
+            + PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC.sizeOfBoolean(true)
+            + PacketFieldCodecs.PRIMITIVE_CHAR_CODEC.sizeOfChar(Character.MAX_VALUE);
+        assertEquals(expectedSize, byteBuf.readableBytes());
+
+        assertEquals(Short.MIN_VALUE, PacketFieldCodecs.PRIMITIVE_SHORT_CODEC.decodeShort(byteBuf));
+        assertEquals(Byte.MAX_VALUE, PacketFieldCodecs.PRIMITIVE_BYTE_CODEC.decodeByte(byteBuf));
+        assertTrue(PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC.decodeBoolean(byteBuf));
+        assertEquals(Character.MAX_VALUE, PacketFieldCodecs.PRIMITIVE_CHAR_CODEC.decodeChar(byteBuf));
+    }
+
+    @Test
+    void boxedAndPrimitiveMethodsShareTheWireLayout() {
+        ByteBuf boxed = Unpooled.buffer();
+
+        try {
+            PacketFieldCodecs.PRIMITIVE_INT_CODEC.encodeInt(42, byteBuf);
+            PacketFieldCodecs.PRIMITIVE_LONG_CODEC.encodeLong(-42L, byteBuf);
+            PacketFieldCodecs.PRIMITIVE_INT_CODEC.encode(42, boxed);
+            PacketFieldCodecs.PRIMITIVE_LONG_CODEC.encode(-42L, boxed);
+
+            assertArrayEquals(ByteBufUtil.getBytes(byteBuf), ByteBufUtil.getBytes(boxed));
+            assertEquals(Integer.valueOf(42), PacketFieldCodecs.PRIMITIVE_INT_CODEC.decode(boxed));
+            assertEquals(Long.valueOf(-42L), PacketFieldCodecs.PRIMITIVE_LONG_CODEC.decode(boxed));
+        } finally {
+            boxed.release();
+        }
+    }
+}
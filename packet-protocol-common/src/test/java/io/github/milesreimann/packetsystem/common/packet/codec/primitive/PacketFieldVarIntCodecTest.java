@@ -0,0 +1,73 @@
+package io.github.milesreimann.packetsystem.common.packet.codec.primitive;
+
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PacketFieldVarIntCodecTest {
+    private static final int[] INTS = {0, 1, -1, 63, -64, 64, 0x3FFF, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    private static final long[] LONGS = {0, 1, -1, 63, -64, 64, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsVarInts() {
+        for (int value : INTS) {
+            byteBuf.clear();
+            PacketFieldCodecs.VAR_INT_CODEC.encodeInt(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.VAR_INT_CODEC.sizeOfInt(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.VAR_INT_CODEC.decodeInt(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsVarLongs() {
+        for (long value : LONGS) {
+            byteBuf.clear();
+            PacketFieldCodecs.VAR_LONG_CODEC.encodeLong(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.VAR_LONG_CODEC.sizeOfLong(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.VAR_LONG_CODEC.decodeLong(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsZigZagInts() {
+        for (int value : INTS) {
+            byteBuf.clear();
+            PacketFieldCodecs.ZIG_ZAG_INT_CODEC.encodeInt(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.ZIG_ZAG_INT_CODEC.sizeOfInt(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.ZIG_ZAG_INT_CODEC.decodeInt(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsZigZagLongs() {
+        for (long value : LONGS) {
+            byteBuf.clear();
+            PacketFieldCodecs.ZIG_ZAG_LONG_CODEC.encodeLong(value, byteBuf);
+
+            assertEquals(PacketFieldCodecs.ZIG_ZAG_LONG_CODEC.sizeOfLong(value), byteBuf.readableBytes());
+            assertEquals(value, PacketFieldCodecs.ZIG_ZAG_LONG_CODEC.decodeLong(byteBuf));
+        }
+    }
+
+    @Test
+    void zigZagKeepsSmallNegativeValuesShort() {
+        assertEquals(1, PacketFieldCodecs.ZIG_ZAG_INT_CODEC.sizeOfInt(-64));
+        assertEquals(1, PacketFieldCodecs.ZIG_ZAG_LONG_CODEC.sizeOfLong(-64));
+        assertEquals(5, PacketFieldCodecs.VAR_INT_CODEC.sizeOfInt(-1));
+        assertEquals(10, PacketFieldCodecs.VAR_LONG_CODEC.sizeOfLong(-1));
+    }
+}
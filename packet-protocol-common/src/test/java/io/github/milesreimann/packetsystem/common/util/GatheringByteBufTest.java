@@ -0,0 +1,156 @@
+package io.github.milesreimann.packetsystem.common.util;
+
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GatheringByteBufTest {
+    private static final int WRAP_THRESHOLD = 64;
+
+    private final GatheringByteBuf byteBuf = new GatheringByteBuf(UnpooledByteBufAllocator.DEFAULT, WRAP_THRESHOLD);
+
+    @AfterEach
+    void tearDown() {
+        if (byteBuf.refCnt() > 0) {
+            byteBuf.release();
+        }
+    }
+
+    @Test
+    void onlyValuesReachingTheThresholdAreWrapped() {
+        assertFalse(GatheringByteBuf.tryWrap(byteBuf, new byte[WRAP_THRESHOLD - 1]));
+        assertTrue(GatheringByteBuf.tryWrap(byteBuf, new byte[WRAP_THRESHOLD]));
+
+        ByteBuf small = Unpooled.wrappedBuffer(new byte[WRAP_THRESHOLD - 1]);
+        try {
+            assertFalse(GatheringByteBuf.tryWrap(byteBuf, small));
+            assertEquals(1, small.refCnt());
+        } finally {
+            small.release();
+        }
+
+        assertEquals(WRAP_THRESHOLD, byteBuf.writerIndex());
+    }
+
+    @Test
+    void otherBuffersAreNeverWrapped() {
+        ByteBuf target = Unpooled.buffer();
+        ByteBuf value = Unpooled.wrappedBuffer(new byte[WRAP_THRESHOLD * 2]);
+
+        try {
+            assertFalse(GatheringByteBuf.tryWrap(target, new byte[WRAP_THRESHOLD * 2]));
+            assertFalse(GatheringByteBuf.tryWrap(target, value));
+            assertEquals(0, target.writerIndex());
+        } finally {
+            value.release();
+            target.release();
+        }
+    }
+
+    @Test
+    void wrappedArraysAreNotCopied() {
+        byte[] value = new byte[WRAP_THRESHOLD];
+        byteBuf.writeByte(1);
+        GatheringByteBuf.tryWrap(byteBuf, value);
+        byteBuf.writeByte(2);
+
+        Arrays.fill(value, (byte) 7);
+
+        byte[] expected = new byte[WRAP_THRESHOLD + 2];
+        Arrays.fill(expected, (byte) 7);
+        expected[0] = 1;
+        expected[expected.length - 1] = 2;
+        assertArrayEquals(expected, ByteBufUtil.getBytes(byteBuf));
+    }
+
+    @Test
+    void wrappedComponentsDirectlyFollowTheWrittenBytes() {
+        byteBuf.writeInt(42);
+        int capacityBeforeWrap = byteBuf.capacity();
+        assertTrue(capacityBeforeWrap > Integer.BYTES);
+
+        GatheringByteBuf.tryWrap(byteBuf, new byte[WRAP_THRESHOLD]);
+
+        assertEquals(Integer.BYTES + WRAP_THRESHOLD, byteBuf.writerIndex());
+        assertEquals(byteBuf.writerIndex(), byteBuf.capacity());
+        assertEquals(42, byteBuf.getInt(0));
+    }
+
+    @Test
+    void wrappedBuffersAreRetainedUntilTheFrameIsReleased() {
+        ByteBuf value = Unpooled.buffer(WRAP_THRESHOLD * 2);
+        value.writeBytes(new byte[WRAP_THRESHOLD * 2]);
+        value.readerIndex(WRAP_THRESHOLD / 2);
+
+        try {
+            assertTrue(GatheringByteBuf.tryWrap(byteBuf, value));
+
+            assertEquals(2, value.refCnt());
+            assertEquals(WRAP_THRESHOLD / 2, value.readerIndex());
+            assertEquals(WRAP_THRESHOLD * 2, value.writerIndex());
+            assertEquals(value.readableBytes(), byteBuf.readableBytes());
+
+            // The caller may release its reference before the frame has been written
+            value.release();
+            assertEquals(1, value.refCnt());
+            value.setByte(WRAP_THRESHOLD / 2, 5);
+            assertEquals(5, byteBuf.getByte(0));
+
+            byteBuf.release();
+            assertEquals(0, value.refCnt());
+        } finally {
+            if (value.refCnt() > 0) {
+                value.release(value.refCnt());
+            }
+        }
+    }
+
+    @Test
+    void maxFastWritableBytesGrowsByAppendingComponents() {
+        assertEquals(0, byteBuf.writableBytes());
+        assertEquals(WRAP_THRESHOLD, byteBuf.maxFastWritableBytes());
+
+        GatheringByteBuf.tryWrap(byteBuf, new byte[WRAP_THRESHOLD * 4]);
+        assertEquals(0, byteBuf.writableBytes());
+        // Growing must not scale with the wrapped values
+        assertEquals(WRAP_THRESHOLD, byteBuf.maxFastWritableBytes());
+
+        byteBuf.ensureWritable(8);
+        assertTrue(byteBuf.maxFastWritableBytes() >= byteBuf.writableBytes());
+    }
+
+    @Test
+    void maxFastWritableBytesIsNeverBelowTheWritableBytes() {
+        GatheringByteBuf large = new GatheringByteBuf(UnpooledByteBufAllocator.DEFAULT, Integer.MAX_VALUE);
+
+        try {
+            large.ensureWritable(1024);
+            assertEquals(large.writableBytes(), large.maxFastWritableBytes());
+        } finally {
+            large.release();
+        }
+    }
+
+    @Test
+    void codecsWrapLargeValuesIntoGatheringFrames() {
+        byte[] payload = new byte[WRAP_THRESHOLD];
+        Arrays.fill(payload, (byte) 3);
+
+        PacketFieldCodecs.BYTE_ARRAY_CODEC.encode(payload, byteBuf);
+
+        assertEquals(PacketFieldCodecs.BYTE_ARRAY_CODEC.sizeOf(payload), byteBuf.readableBytes());
+        assertTrue(byteBuf.numComponents() >= 2);
+        assertArrayEquals(payload, PacketFieldCodecs.BYTE_ARRAY_CODEC.decode(byteBuf));
+    }
+}
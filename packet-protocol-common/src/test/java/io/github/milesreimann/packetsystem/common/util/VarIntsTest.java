@@ -0,0 +1,125 @@
+package io.github.milesreimann.packetsystem.common.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VarIntsTest {
+    private static final int[] INTS = {
+        0, 1, 0x7F, 0x80, 0x3FFF, 0x4000, 0x1FFFFF, 0x200000, 0xFFFFFFF, 0x10000000,
+        Integer.MAX_VALUE, -1, Integer.MIN_VALUE
+    };
+    private static final long[] LONGS = {
+        0, 1, 0x7F, 0x80, 0x3FFF, 0x4000, Integer.MAX_VALUE, 0xFFFFFFFFL, 1L << 56, (1L << 63) - 1,
+        Long.MAX_VALUE, -1, Long.MIN_VALUE
+    };
+
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void roundTripsVarInts() {
+        for (int value : INTS) {
+            byteBuf.clear();
+            VarInts.writeVarInt(byteBuf, value);
+
+            assertEquals(VarInts.varIntSize(value), byteBuf.readableBytes(), "size of " + value);
+            assertEquals(value, VarInts.readVarInt(byteBuf));
+        }
+    }
+
+    @Test
+    void roundTripsVarLongs() {
+        for (long value : LONGS) {
+            byteBuf.clear();
+            VarInts.writeVarLong(byteBuf, value);
+
+            assertEquals(VarInts.varLongSize(value), byteBuf.readableBytes(), "size of " + value);
+            assertEquals(value, VarInts.readVarLong(byteBuf));
+        }
+    }
+
+    @Test
+    void writesLittleEndianGroupsOfSevenBits() {
+        VarInts.writeVarInt(byteBuf, 300);
+
+        assertEquals((byte) 0xAC, byteBuf.readByte());
+        assertEquals((byte) 0x02, byteBuf.readByte());
+    }
+
+    @Test
+    void computesSizesAtTheBoundaries() {
+        assertEquals(1, VarInts.varIntSize(0x7F));
+        assertEquals(2, VarInts.varIntSize(0x80));
+        assertEquals(3, VarInts.varIntSize(0x4000));
+        assertEquals(VarInts.MAX_VAR_INT_BYTES, VarInts.varIntSize(-1));
+        assertEquals(VarInts.MAX_VAR_LONG_BYTES, VarInts.varLongSize(-1));
+    }
+
+    @Test
+    void readsPaddedVarInts() {
+        for (int value : new int[]{0, 0x7F, 0x80, 0x3FFF}) {
+            byteBuf.clear().writeZero(3);
+            VarInts.setVarInt(byteBuf, 0, value, 3);
+
+            assertEquals(value, VarInts.readVarInt(byteBuf));
+            assertEquals(0, byteBuf.readableBytes());
+        }
+    }
+
+    @Test
+    void rejectsValuesNotFittingIntoThePadding() {
+        byteBuf.writeZero(2);
+
+        assertThrows(IllegalArgumentException.class, () -> VarInts.setVarInt(byteBuf, 0, 0x4000, 2));
+    }
+
+    @Test
+    void rejectsOverlongVarInts() {
+        byteBuf.writeBytes(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01});
+
+        assertThrows(IllegalStateException.class, () -> VarInts.readVarInt(byteBuf));
+    }
+
+    @Test
+    void rejectsOverlongVarLongs() {
+        for (int i = 0; i < VarInts.MAX_VAR_LONG_BYTES; i++) {
+            byteBuf.writeByte(0x80);
+        }
+        byteBuf.writeByte(0x01);
+
+        assertThrows(IllegalStateException.class, () -> VarInts.readVarLong(byteBuf));
+    }
+
+    @Test
+    void mapsSignedValuesToUnsignedOnes() {
+        assertEquals(0, VarInts.encodeZigZag(0));
+        assertEquals(1, VarInts.encodeZigZag(-1));
+        assertEquals(2, VarInts.encodeZigZag(1));
+        assertEquals(3, VarInts.encodeZigZag(-2));
+        assertEquals(-1, VarInts.encodeZigZag(Integer.MIN_VALUE));
+        assertEquals(-2, VarInts.encodeZigZag(Integer.MAX_VALUE));
+
+        assertEquals(1L, VarInts.encodeZigZag(-1L));
+        assertEquals(-1L, VarInts.encodeZigZag(Long.MIN_VALUE));
+    }
+
+    @Test
+    void roundTripsZigZag() {
+        for (int value : INTS) {
+            assertEquals(value, VarInts.decodeZigZag(VarInts.encodeZigZag(value)));
+        }
+
+        for (long value : LONGS) {
+            assertEquals(value, VarInts.decodeZigZag(VarInts.encodeZigZag(value)));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.milesreimann.packetsystem.core.benchmark;
+
+import io.github.milesreimann.packetsystem.api.connection.Connection;
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.api.packet.listener.PacketListener;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.ServerConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.transport.TransportResources;
+import io.github.milesreimann.packetsystem.core.transport.TransportType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the transports on loopback by sending packets from a client to a server in the same process.
+ * <p>
+ * {@link #throughput()} measures one-way packets per second, {@link #roundTrip()} the latency
+ * of a request and its response. A transport that is not available on the current platform
+ * falls back to the automatically selected one, which is logged on setup.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@State(Scope.Benchmark)
+public class LoopbackBenchmark {
+    private static final String HOST = "127.0.0.1";
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    private TransportType transportType;
+
+    private final AtomicLong received = new AtomicLong();
+    private TransportResources transportResources;
+    private ServerConnection server;
+    private ClientConnection client;
+    private long sent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        transportResources = TransportResources.create(transportType, 1, 2);
+        ConnectionOptions options = ConnectionOptions.builder()
+            .transportResources(transportResources)
+            .build();
+
+        int port = freePort();
+        server = new ServerConnection(HOST, port, options);
+        server.getPacketRegistry().registerPacket(BenchmarkPacket.class);
+        server.getPacketRegistry().registerPacket(EchoPacket.class);
+        server.getPacketListenerRegistry().registerPacketListener(new CountingListener(received));
+        server.getPacketListenerRegistry().registerPacketListener(new EchoListener());
+        server.openAsync().join();
+
+        client = new ClientConnection(HOST, port, options);
+        client.getPacketRegistry().registerPacket(BenchmarkPacket.class);
+        client.getPacketRegistry().registerPacket(EchoPacket.class);
+        client.openAsync().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.close();
+        transportResources.release();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void throughput() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            client.sendPacket(new BenchmarkPacket(sent++));
+        }
+
+        // The batch only counts once the server has received all of its packets
+        while (received.get() < sent) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public EchoPacket roundTrip() {
+        return client.request(new EchoPacket(System.nanoTime()), EchoPacket.class, 5, TimeUnit.SECONDS).join();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public static class BenchmarkPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldLongCodec.class)
+        private long sequence;
+
+        public BenchmarkPacket() {
+        }
+
+        public BenchmarkPacket(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    public static class EchoPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldLongCodec.class)
+        private long timestamp;
+
+        public EchoPacket() {
+        }
+
+        public EchoPacket(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    public static class CountingListener implements PacketListener<BenchmarkPacket> {
+        private final AtomicLong received;
+
+        public CountingListener(AtomicLong received) {
+            this.received = received;
+        }
+
+        @Override
+        public void handle(BenchmarkPacket packet, Connection connection) {
+            received.incrementAndGet();
+        }
+    }
+
+    public static class EchoListener implements PacketListener<EchoPacket> {
+        @Override
+        public void handle(EchoPacket packet, Connection connection) {
+            connection.reply(packet, new EchoPacket(packet.getTimestamp()));
+        }
+    }
+}
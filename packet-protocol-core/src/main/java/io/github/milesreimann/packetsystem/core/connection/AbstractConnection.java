@@ -1,9 +1,14 @@
 package io.github.milesreimann.packetsystem.core.connection;
 
 import io.github.milesreimann.packetsystem.api.connection.Connection;
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.connection.SessionListener;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.stream.StreamReceiver;
 import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
 import io.github.milesreimann.packetsystem.core.connection.model.ConnectionType;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
 import io.github.milesreimann.packetsystem.core.packet.registry.DefaultPacketRegistry;
 import io.github.milesreimann.packetsystem.core.packet.backlog.PacketBacklog;
 import io.github.milesreimann.packetsystem.core.packet.factory.PacketFactory;
@@ -12,17 +17,39 @@ import io.github.milesreimann.packetsystem.core.packet.codec.DefaultPacketCodec;
 import io.github.milesreimann.packetsystem.core.packet.codec.PacketDecoder;
 import io.github.milesreimann.packetsystem.core.packet.codec.PacketEncoder;
 import io.github.milesreimann.packetsystem.core.packet.codec.PacketFieldRegistry;
+import io.github.milesreimann.packetsystem.core.packet.codec.PacketSerializerRegistry;
+import io.github.milesreimann.packetsystem.core.packet.codec.compression.FrameCompressor;
+import io.github.milesreimann.packetsystem.core.packet.codec.compression.FrameCompressors;
+import io.github.milesreimann.packetsystem.core.packet.codec.serializer.PacketSerializerFactory;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
 import io.github.milesreimann.packetsystem.core.packet.listener.DefaultPacketListenerRegistry;
+import io.github.milesreimann.packetsystem.core.packet.request.PendingRequests;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamChunkPacket;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamClosePacket;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamOpenPacket;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamReceiverHandler;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamSender;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketBroadcaster;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
 import io.github.milesreimann.packetsystem.core.pipeline.ConnectionHandler;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.github.milesreimann.packetsystem.core.session.SessionRegistry;
+import io.github.milesreimann.packetsystem.core.transport.TransportResources;
 import io.netty.channel.ChannelFuture;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.Logger;
 
-
+import java.nio.channels.ClosedChannelException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author Miles
@@ -35,6 +62,8 @@ public abstract class AbstractConnection implements Connection {
     private final String host;
     @Getter
     private final int port;
+    @Getter
+    private final ConnectionOptions options;
     @Getter(value = AccessLevel.PROTECTED)
     private final Consumer<Void> connectCallback;
     @Getter(value = AccessLevel.PROTECTED)
@@ -46,50 +75,106 @@ public abstract class AbstractConnection implements Connection {
     @Getter
     private final DefaultPacketCodec packetCodec;
     @Getter
+    private final FrameCompressor frameCompressor;
+    @Getter
     private final DefaultPacketListenerRegistry packetListenerRegistry;
+    @Getter
+    private final ConflationRegistry conflationRegistry = new ConflationRegistry();
     private final PacketBacklog packetBacklog;
+    private final PacketWriter packetWriter;
+    @Getter
+    private final SessionRegistry sessionRegistry;
+    @Getter(value = AccessLevel.PROTECTED)
+    private final PacketBroadcaster packetBroadcaster;
     @Getter(value = AccessLevel.PROTECTED)
     private final ConnectionHandler connectionHandler;
+    @Getter
+    private final PendingRequests pendingRequests = new PendingRequests();
+    @Getter
+    private final StreamSender streamSender = new StreamSender(this);
+    private final StreamReceiverHandler streamReceiverHandler = new StreamReceiverHandler();
 
     private final AtomicBoolean connected = new AtomicBoolean(false);
+    private final AtomicReference<TransportResources> transportResources = new AtomicReference<>();
 
     @Setter(value = AccessLevel.PROTECTED)
-    private ChannelFuture channelFuture;
+    private volatile ChannelFuture channelFuture;
 
     protected AbstractConnection(
         ConnectionType connectionType,
         String host,
         int port,
+        ConnectionOptions options,
         Consumer<Void> connectCallback,
         Consumer<Void> disconnectCallback
     ) {
+        options.validate();
+
         this.connectionType = connectionType;
         this.host = host;
         this.port = port;
+        this.options = options;
         this.connectCallback = connectCallback;
         this.disconnectCallback = disconnectCallback;
         this.packetFactory = new PacketFactory();
         this.packetRegistry = new DefaultPacketRegistry(new PacketScanner());
 
         PacketFieldRegistry packetFieldRegistry = new PacketFieldRegistry();
-        PacketEncoder packetEncoder = new PacketEncoder(this, packetFieldRegistry);
-        PacketDecoder packetDecoder = new PacketDecoder(this, packetFieldRegistry);
+        PacketSerializerRegistry packetSerializerRegistry =
+            new PacketSerializerRegistry(new PacketSerializerFactory(packetFieldRegistry));
+        this.frameCompressor = FrameCompressors.create(options);
+        PacketEncoder packetEncoder = new PacketEncoder(this, packetSerializerRegistry, frameCompressor);
+        PacketDecoder packetDecoder = new PacketDecoder(this, packetSerializerRegistry);
 
-        this.packetCodec = new DefaultPacketCodec(packetEncoder, packetDecoder, packetFieldRegistry);
-        this.packetBacklog = new PacketBacklog(this);
+        this.packetCodec = new DefaultPacketCodec(
+            packetEncoder,
+            packetDecoder,
+            packetFieldRegistry,
+            packetSerializerRegistry
+        );
+        this.packetWriter = new PacketWriter(options.getFlushPolicy());
+        this.packetBacklog = new PacketBacklog(packetCodec, packetWriter, conflationRegistry, options);
+        this.sessionRegistry = new SessionRegistry(this, packetWriter);
+        this.packetBroadcaster = new PacketBroadcaster(packetCodec, sessionRegistry, packetWriter, conflationRegistry);
         this.packetListenerRegistry = new DefaultPacketListenerRegistry();
-        this.connectionHandler = new ConnectionHandler(this, _ -> packetBacklog.flush());
+        this.connectionHandler = new ConnectionHandler(this, packetBacklog::flush);
 
         packetCodec.addFieldCodec(PacketFieldCodecs.STRING_UTF8_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.STRING_ASCII_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.LAZY_STRING_UTF8_CODEC);
         packetCodec.addFieldCodec(PacketFieldCodecs.INTEGER_CODEC);
         packetCodec.addFieldCodec(PacketFieldCodecs.UUID_CODEC);
         packetCodec.addFieldCodec(PacketFieldCodecs.BYTE_ARRAY_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.BYTE_BUF_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_INT_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_LONG_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_DOUBLE_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_FLOAT_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_SHORT_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_BYTE_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.PRIMITIVE_CHAR_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.VAR_INT_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.VAR_LONG_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.ZIG_ZAG_INT_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.ZIG_ZAG_LONG_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.INT_ARRAY_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.LONG_ARRAY_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.DOUBLE_ARRAY_CODEC);
+        packetCodec.addFieldCodec(PacketFieldCodecs.STRING_LIST_CODEC);
+
+        packetRegistry.registerPacket(StreamOpenPacket.class);
+        packetRegistry.registerPacket(StreamChunkPacket.class);
+        packetRegistry.registerPacket(StreamClosePacket.class);
+        streamReceiverHandler.register(packetListenerRegistry);
+        sessionRegistry.addListener(streamReceiverHandler);
+        sessionRegistry.addListener(pendingRequests);
 
         Runtime.getRuntime().addShutdownHook(new Thread(this::forceClose, "connection-cleanup"));
     }
 
-    protected AbstractConnection(ConnectionType connectionType, String host, int port) {
-        this(connectionType, host, port, null, null);
+    protected AbstractConnection(ConnectionType connectionType, String host, int port, ConnectionOptions options) {
+        this(connectionType, host, port, options, null, null);
     }
 
     public abstract void cleanUp();
@@ -99,6 +184,8 @@ public abstract class AbstractConnection implements Connection {
     @Override
     public void close() {
         if (channelFuture == null) {
+            // The backlog of a connection that never connected is still persisted
+            handleClosedConnection();
             getLogger().warn("Failed to close connection {}: No open connection.", getClass());
             return;
         }
@@ -108,13 +195,130 @@ public abstract class AbstractConnection implements Connection {
 
     @Override
     public void sendPacket(Packet packet) {
-        if (connectionHandler.getChannel() == null) {
+        DefaultSession session = singleSession();
+        if (session == null) {
             packetBacklog.add(packet);
             return;
         }
 
-        connectionHandler.getChannel().writeAndFlush(packet);
-        getLogger().info("Sent packet {}", packet.getUniqueId());
+        session.sendPacket(packet);
+        getLogger().debug("Sent packet {}", packet.getClass().getName());
+    }
+
+    @Override
+    public CompletableFuture<Void> sendPacketAsync(Packet packet) {
+        DefaultSession session;
+
+        try {
+            session = singleSession();
+            if (session == null) {
+                packetBacklog.add(packet);
+                return CompletableFuture.completedFuture(null);
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return session.sendPacketAsync(packet);
+    }
+
+    @Override
+    public <R extends Packet> CompletableFuture<R> request(Packet request, Class<R> responseClass, long timeout, TimeUnit unit) {
+        return request(null, request, responseClass, timeout, unit);
+    }
+
+    /**
+     * Sends a request through the given session, or through the whole connection if the session is {@code null}.
+     * Requests are only supported in the {@link HeaderMode#UUID} header mode.
+     */
+    public <R extends Packet> CompletableFuture<R> request(
+        DefaultSession session,
+        Packet request,
+        Class<R> responseClass,
+        long timeout,
+        TimeUnit unit
+    ) {
+        // Both peers count sequence identifiers on their own, so a response cannot be told apart
+        // from an unrelated packet carrying the same number
+        if (options.getHeaderMode() != HeaderMode.UUID) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                "Requests require the " + HeaderMode.UUID + " header mode, but the connection uses " + options.getHeaderMode()
+            ));
+        }
+
+        CompletableFuture<R> response;
+
+        try {
+            packetCodec.assignUniqueId(request);
+            response = pendingRequests.register(request, session, responseClass, timeout, unit);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Void> sent = session != null ? session.sendPacketAsync(request) : sendPacketAsync(request);
+        sent.whenComplete((_, cause) -> {
+            if (cause != null) {
+                pendingRequests.fail(request, cause);
+            }
+        });
+
+        return response;
+    }
+
+    @Override
+    public void sendPackets(Collection<? extends Packet> packets) {
+        DefaultSession session = singleSession();
+        if (session == null) {
+            packets.forEach(packetBacklog::add);
+            return;
+        }
+
+        session.sendPackets(packets);
+
+        if (getLogger().isDebugEnabled()) {
+            getLogger().debug("Sent {} packets", packets.size());
+        }
+    }
+
+    /**
+     * Conflates pending packets of the given type by the key extracted from them, so a slow peer
+     * or the backlog only keeps the latest packet per key.
+     *
+     * @param packetClass  the packet type, not null
+     * @param keyExtractor the function extracting the key, or {@code null} to stop conflating the type
+     */
+    public <P extends Packet> void setConflationKey(Class<P> packetClass, Function<? super P, ?> keyExtractor) {
+        if (keyExtractor == null) {
+            conflationRegistry.unregister(packetClass);
+            return;
+        }
+
+        conflationRegistry.register(packetClass, keyExtractor);
+    }
+
+    @Override
+    public void setStreamReceiver(StreamReceiver receiver) {
+        streamReceiverHandler.setStreamReceiver(receiver);
+    }
+
+    @Override
+    public Session getSession(long id) {
+        return sessionRegistry.getSession(id);
+    }
+
+    @Override
+    public Collection<? extends Session> getSessions() {
+        return sessionRegistry.getSessions();
+    }
+
+    @Override
+    public void addSessionListener(SessionListener listener) {
+        sessionRegistry.addListener(listener);
+    }
+
+    @Override
+    public void removeSessionListener(SessionListener listener) {
+        sessionRegistry.removeListener(listener);
     }
 
     @Override
@@ -127,6 +331,7 @@ public abstract class AbstractConnection implements Connection {
     }
 
     protected void waitForClose() throws InterruptedException {
+        ChannelFuture channelFuture = this.channelFuture;
         if (channelFuture == null) {
             setConnected(false);
             return;
@@ -136,6 +341,49 @@ public abstract class AbstractConnection implements Connection {
         handleClosedConnection();
     }
 
+    /**
+     * Releases all resources of the connection once its channel has been closed for good.
+     */
+    protected void handleConnectionClosed() {
+        cleanUp();
+        handleClosedConnection();
+    }
+
+    /**
+     * Handles the loss of the channel while the connection itself stays open, e.g. to reconnect.
+     * Unlike closing the connection, the backlog is kept for the next channel.
+     */
+    protected void handleLostConnection() {
+        if (connected.getAndSet(false)) {
+            callDisconnectCallback();
+        }
+
+        pendingRequests.failAll(new ClosedChannelException());
+        getLogger().info("{} lost its connection", connectionType.getDisplayName());
+    }
+
+    /**
+     * Borrows the event loops of the connection until {@link #releaseTransportResources()} is called.
+     */
+    protected TransportResources acquireTransportResources() {
+        TransportResources configured = options.getTransportResources();
+        TransportResources acquired = configured != null ? configured.retain() : TransportResources.acquireShared();
+
+        TransportResources previous = transportResources.getAndSet(acquired);
+        if (previous != null) {
+            previous.release();
+        }
+
+        return acquired;
+    }
+
+    protected void releaseTransportResources() {
+        TransportResources acquired = transportResources.getAndSet(null);
+        if (acquired != null) {
+            acquired.release();
+        }
+    }
+
     protected void callConnectCallback() {
         if (connectCallback != null) {
             connectCallback.accept(null);
@@ -148,6 +396,27 @@ public abstract class AbstractConnection implements Connection {
         }
     }
 
+    /**
+     * Returns the only session of the connection, or {@code null} if none is connected. Packets are
+     * never fanned out implicitly: with several sessions, they have to be sent through a session or broadcast.
+     */
+    private DefaultSession singleSession() {
+        Iterator<DefaultSession> iterator = sessionRegistry.getSessions().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        DefaultSession session = iterator.next();
+        if (iterator.hasNext()) {
+            throw new IllegalStateException(
+                "Connection has " + sessionRegistry.getSessions().size() + " sessions. "
+                    + "Send the packet through one of its sessions, or broadcast it instead"
+            );
+        }
+
+        return session;
+    }
+
     private void forceClose() {
         try {
             if (channelFuture != null && channelFuture.channel().isOpen()) {
@@ -161,15 +430,26 @@ public abstract class AbstractConnection implements Connection {
         }
     }
 
-    private void handleClosedConnection() {
+    private synchronized void handleClosedConnection() {
+        // Spilled before anything else, so the backlog survives a restart even without a channel
+        packetBacklog.clear();
+
         if (channelFuture == null) {
+            // Requests waiting in the backlog are never answered by this connection
+            pendingRequests.failAll(new ClosedChannelException());
             return;
         }
 
-        callDisconnectCallback();
-        packetBacklog.clear();
+        // Event loops may be shared with other connections, so sessions are not closed by their shutdown
+        sessionRegistry.getChannels().close();
+
+        // A lost connection has already been reported
+        if (connected.getAndSet(false)) {
+            callDisconnectCallback();
+        }
+
+        pendingRequests.failAll(new ClosedChannelException());
         setChannelFuture(null);
-        setConnected(false);
 
         getLogger().info("{} closed successfully", connectionType.getDisplayName());
     }
@@ -1,19 +1,28 @@
 package io.github.milesreimann.packetsystem.core.connection;
 
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
 import io.github.milesreimann.packetsystem.core.connection.model.ConnectionType;
 import io.github.milesreimann.packetsystem.core.pipeline.Pipeline;
-import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.github.milesreimann.packetsystem.core.transport.TransportResources;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
-import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.concurrent.ScheduledFuture;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.Logger;
 
-
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -22,7 +31,25 @@ import java.util.function.Consumer;
  */
 @Log4j2
 public class ClientConnection extends AbstractConnection {
-    private EventLoopGroup workerGroup;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final AtomicInteger reconnectAttempts = new AtomicInteger();
+    private volatile boolean closeRequested;
+    private volatile boolean connectedOnce;
+    private volatile Bootstrap bootstrap;
+    private volatile ScheduledFuture<?> reconnectFuture;
+    private volatile CompletableFuture<Void> openFuture;
+    private volatile CompletableFuture<Void> closeFuture = CompletableFuture.completedFuture(null);
+
+    public ClientConnection(
+        String host,
+        int port,
+        ConnectionOptions options,
+        Consumer<Void> connectCallback,
+        Consumer<Void> disconnectCallback
+    ) {
+        super(ConnectionType.CLIENT, host, port, options, connectCallback, disconnectCallback);
+    }
 
     public ClientConnection(
         String host,
@@ -30,23 +57,95 @@ public class ClientConnection extends AbstractConnection {
         Consumer<Void> connectCallback,
         Consumer<Void> disconnectCallback
     ) {
-        super(ConnectionType.CLIENT, host, port, connectCallback, disconnectCallback);
+        this(host, port, ConnectionOptions.defaults(), connectCallback, disconnectCallback);
+    }
+
+    public ClientConnection(String host, int port, ConnectionOptions options) {
+        super(ConnectionType.CLIENT, host, port, options);
     }
 
     public ClientConnection(String host, int port) {
-        super(ConnectionType.CLIENT, host, port);
+        this(host, port, ConnectionOptions.defaults());
     }
 
     @Override
     public void open() {
-        this.workerGroup = NettyUtils.getAvailableEventLoopGroup();
+        try {
+            openAsync().get();
+            closeFuture.get();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Connects without blocking the calling thread. If the connection is lost later on, the client
+     * reconnects with an exponential, randomized backoff on the event loops it already holds, unless
+     * reconnecting is disabled in the {@link ConnectionOptions}. The backlog collected in the
+     * meantime is sent once reconnected. The first connect is not retried: if it fails, the
+     * returned future fails with its cause.
+     */
+    @Override
+    public synchronized CompletableFuture<Void> openAsync() {
+        if (openFuture != null) {
+            return openFuture;
+        }
+
+        closeRequested = false;
+        connectedOnce = false;
+        reconnectAttempts.set(0);
+        openFuture = new CompletableFuture<>();
+        closeFuture = new CompletableFuture<>();
+        bootstrap = createBootstrap(acquireTransportResources());
+
+        connect();
+        return openFuture;
+    }
+
+    @Override
+    public void close() {
+        closeRequested = true;
+        cancelReconnect();
+        super.close();
+
+        // Nothing to close if the client is waiting to reconnect
+        cleanUp();
+    }
+
+    @Override
+    public void cleanUp() {
+        closeRequested = true;
+        cancelReconnect();
+        releaseTransportResources();
+
+        synchronized (this) {
+            if (openFuture != null) {
+                openFuture.completeExceptionally(new ClosedChannelException());
+                openFuture = null;
+            }
+
+            closeFuture.complete(null);
+        }
+    }
+
+    @Override
+    public Logger getLogger() {
+        return log;
+    }
 
-        Bootstrap bootstrap = new Bootstrap()
-            .group(workerGroup)
-            .channel(NettyUtils.getClientChannelClass())
+    private Bootstrap createBootstrap(TransportResources transportResources) {
+        return new Bootstrap()
+            .group(transportResources.getWorkerGroup())
+            .channel(transportResources.getClientChannelClass())
             .option(ChannelOption.SO_KEEPALIVE, true)
             .option(ChannelOption.TCP_NODELAY, true)
             .option(ChannelOption.ALLOCATOR, new PooledByteBufAllocator(true))
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                getOptions().getWriteBufferLowWaterMark(),
+                getOptions().getWriteBufferHighWaterMark()
+            ))
             .handler(new ChannelInitializer<SocketChannel>() {
                 @Override
                 protected void initChannel(SocketChannel channel) {
@@ -57,39 +156,114 @@ public class ClientConnection extends AbstractConnection {
                     );
                 }
             });
+    }
 
-        try {
-            connectClient(bootstrap);
-            waitForClose();
-        } catch (InterruptedException _) {
-            Thread.currentThread().interrupt();
-        } finally {
-            workerGroup.shutdownGracefully();
+    private void connect() {
+        if (closeRequested) {
+            return;
         }
+
+        String host = getHost();
+        int port = getPort();
+
+        bootstrap.connect(host, port).addListener((ChannelFutureListener) channelFuture -> {
+            if (!channelFuture.isSuccess()) {
+                handleConnectFailure(channelFuture.cause());
+                return;
+            }
+
+            if (closeRequested) {
+                channelFuture.channel().close();
+                return;
+            }
+
+            reconnectAttempts.set(0);
+            connectedOnce = true;
+            setChannelFuture(channelFuture);
+            callConnectCallback();
+            setConnected(true);
+            channelFuture.channel().closeFuture().addListener(_ -> handleChannelClosed());
+
+            CompletableFuture<Void> openFuture = this.openFuture;
+            if (openFuture != null) {
+                openFuture.complete(null);
+            }
+
+            getLogger().info("Client connected to {}:{}.", host, port);
+        });
     }
 
-    @Override
-    public void cleanUp() {
-        if (workerGroup != null) {
-            workerGroup.shutdownGracefully();
-            this.workerGroup = null;
+    private void handleConnectFailure(Throwable cause) {
+        if (closeRequested) {
+            return;
         }
+
+        // Only a lost connection is reconnected, otherwise open() would wait forever for an unreachable server
+        if (!connectedOnce || !getOptions().isReconnect()) {
+            failOpen(cause);
+            handleConnectionClosed();
+            return;
+        }
+
+        getLogger().warn("Failed to connect to {}:{}: {}", getHost(), getPort(), cause.getMessage());
+        scheduleReconnect(cause);
     }
 
-    @Override
-    public Logger getLogger() {
-        return log;
+    private void handleChannelClosed() {
+        if (closeRequested || !getOptions().isReconnect()) {
+            handleConnectionClosed();
+            return;
+        }
+
+        handleLostConnection();
+        scheduleReconnect(null);
     }
 
-    private void connectClient(Bootstrap bootstrap) throws InterruptedException {
-        String host = getHost();
-        int port = getPort();
+    private void scheduleReconnect(Throwable cause) {
+        ConnectionOptions options = getOptions();
+        int attempt = reconnectAttempts.getAndIncrement();
+
+        if (options.getReconnectMaxAttempts() > 0 && attempt >= options.getReconnectMaxAttempts()) {
+            getLogger().error("Giving up reconnecting to {}:{} after {} attempt(s)", getHost(), getPort(), attempt);
+            failOpen(cause != null ? cause : new ClosedChannelException());
+            handleConnectionClosed();
+            return;
+        }
 
-        ChannelFuture channelFuture = bootstrap.connect(host, port).sync();
-        setChannelFuture(channelFuture);
-        callConnectCallback();
-        setConnected(true);
+        long delayMillis = reconnectDelayMillis(attempt, options);
+        getLogger().info("Reconnecting to {}:{} in {} ms (attempt {})", getHost(), getPort(), delayMillis, attempt + 1);
 
-        getLogger().info("Client connected to {}:{}.", host, port);
+        try {
+            reconnectFuture = bootstrap.config().group().next().schedule(this::connect, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failOpen(e);
+            handleConnectionClosed();
+        }
+    }
+
+    /**
+     * Exponential backoff with equal jitter: the delay is randomized between half and all of the backoff.
+     */
+    static long reconnectDelayMillis(int attempt, ConnectionOptions options) {
+        long backoff = Math.min(
+            options.getReconnectMaxDelayMillis(),
+            options.getReconnectInitialDelayMillis() << Math.min(attempt, MAX_BACKOFF_SHIFT)
+        );
+
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void cancelReconnect() {
+        ScheduledFuture<?> reconnectFuture = this.reconnectFuture;
+        if (reconnectFuture != null) {
+            reconnectFuture.cancel(false);
+        }
+    }
+
+    private void failOpen(Throwable cause) {
+        CompletableFuture<Void> openFuture = this.openFuture;
+        if (openFuture != null) {
+            openFuture.completeExceptionally(cause);
+        }
     }
-}
\ No newline at end of file
+}
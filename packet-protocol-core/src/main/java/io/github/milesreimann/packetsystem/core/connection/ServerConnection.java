@@ -1,21 +1,29 @@
 package io.github.milesreimann.packetsystem.core.connection;
 
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
 import io.github.milesreimann.packetsystem.core.connection.model.ConnectionType;
 import io.github.milesreimann.packetsystem.core.pipeline.Pipeline;
-import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.github.milesreimann.packetsystem.core.transport.TransportResources;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
-import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.group.ChannelMatchers;
 import io.netty.channel.socket.SocketChannel;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.Logger;
 
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * @author Miles
@@ -23,30 +31,159 @@ import java.util.function.Consumer;
  */
 @Log4j2
 public class ServerConnection extends AbstractConnection {
-    private EventLoopGroup bossGroup;
-    private EventLoopGroup workerGroup;
+    private volatile CompletableFuture<Void> openFuture;
 
     public ServerConnection(
         String host,
         int port,
+        ConnectionOptions options,
         Consumer<Void> connectCallback,
         Consumer<Void> disconnectCallback
     ) {
-        super(ConnectionType.SERVER, host, port, connectCallback, disconnectCallback);
+        super(ConnectionType.SERVER, host, port, options, connectCallback, disconnectCallback);
+    }
+
+    public ServerConnection(
+        String host,
+        int port,
+        Consumer<Void> connectCallback,
+        Consumer<Void> disconnectCallback
+    ) {
+        this(host, port, ConnectionOptions.defaults(), connectCallback, disconnectCallback);
+    }
+
+    public ServerConnection(String host, int port, ConnectionOptions options) {
+        super(ConnectionType.SERVER, host, port, options);
     }
 
     public ServerConnection(String host, int port) {
-        super(ConnectionType.SERVER, host, port);
+        this(host, port, ConnectionOptions.defaults());
     }
 
     @Override
     public void open() {
-        this.bossGroup = NettyUtils.getAvailableEventLoopGroup();
-        this.workerGroup = NettyUtils.getAvailableEventLoopGroup();
+        try {
+            openAsync().get();
+            waitForClose();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } finally {
+            releaseTransportResources();
+        }
+    }
+
+    /**
+     * Binds the server without blocking the calling thread.
+     */
+    @Override
+    public synchronized CompletableFuture<Void> openAsync() {
+        if (openFuture != null) {
+            return openFuture;
+        }
+
+        CompletableFuture<Void> openFuture = new CompletableFuture<>();
+        this.openFuture = openFuture;
+
+        String host = getHost();
+        int port = getPort();
+        log.info("Starting server on {}:{}", host, port);
+
+        createBootstrap(acquireTransportResources()).bind(host, port).addListener((ChannelFutureListener) channelFuture -> {
+            if (!channelFuture.isSuccess()) {
+                openFuture.completeExceptionally(channelFuture.cause());
+                handleConnectionClosed();
+                return;
+            }
+
+            setChannelFuture(channelFuture);
+            callConnectCallback();
+            setConnected(true);
+            channelFuture.channel().closeFuture().addListener(_ -> handleConnectionClosed());
+            openFuture.complete(null);
+
+            log.info("Server started and listening on {}:{}.", host, port);
+        });
+
+        return openFuture;
+    }
+
+    /**
+     * Sends the packet to all connected sessions. The packet is encoded only once.
+     *
+     * @param packet the packet to send, not null
+     */
+    public void broadcast(Packet packet) {
+        getPacketBroadcaster().broadcast(packet, ChannelMatchers.all());
+    }
+
+    /**
+     * Sends the packet to all connected sessions and reports when it has been written to all of them.
+     * The packet is encoded only once.
+     *
+     * @param packet the packet to send, not null
+     * @return a future completed once the packet has been written, or exceptionally if a write failed
+     */
+    public CompletableFuture<Void> broadcastAsync(Packet packet) {
+        try {
+            return getPacketBroadcaster().broadcastAsync(packet, ChannelMatchers.all());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Sends the packets to all connected sessions in the given order. Each packet is encoded only once.
+     *
+     * @param packets the packets to send, not null
+     */
+    public void broadcastAll(Collection<? extends Packet> packets) {
+        getPacketBroadcaster().broadcastAll(packets, getSessionRegistry().getSessions());
+    }
+
+    /**
+     * Sends the packet to all connected sessions accepted by the filter. The packet is encoded only once.
+     *
+     * @param packet the packet to send, not null
+     * @param filter the filter selecting the target sessions, not null
+     */
+    public void broadcast(Packet packet, Predicate<? super Session> filter) {
+        getPacketBroadcaster().broadcast(packet, channel -> {
+            Session session = getSessionRegistry().getSession(channel);
+            return session != null && filter.test(session);
+        });
+    }
 
-        ServerBootstrap serverBootstrap = new ServerBootstrap()
-            .group(bossGroup, workerGroup)
-            .channel(NettyUtils.getServerChannelClass())
+    /**
+     * Sends the packet to the given sessions. The packet is encoded only once;
+     * sessions that are no longer connected are skipped.
+     *
+     * @param packet   the packet to send, not null
+     * @param sessions the target sessions, not null
+     */
+    public void multicast(Packet packet, Collection<? extends Session> sessions) {
+        getPacketBroadcaster().multicast(packet, sessions);
+    }
+
+    @Override
+    public void cleanUp() {
+        releaseTransportResources();
+
+        synchronized (this) {
+            openFuture = null;
+        }
+    }
+
+    @Override
+    public Logger getLogger() {
+        return log;
+    }
+
+    private ServerBootstrap createBootstrap(TransportResources transportResources) {
+        return new ServerBootstrap()
+            .group(transportResources.getBossGroup(), transportResources.getWorkerGroup())
+            .channel(transportResources.getServerChannelClass())
             .option(ChannelOption.SO_BACKLOG, 128)
             .option(ChannelOption.SO_REUSEADDR, true)
             .option(ChannelOption.SO_RCVBUF, 65536)
@@ -57,7 +194,10 @@ public class ServerConnection extends AbstractConnection {
             .childOption(ChannelOption.SO_RCVBUF, 65536)
             .childOption(ChannelOption.SO_SNDBUF, 65536)
             .childOption(ChannelOption.ALLOCATOR, new PooledByteBufAllocator(true))
-            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(32 * 1024, 64 * 1024))
+            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                getOptions().getWriteBufferLowWaterMark(),
+                getOptions().getWriteBufferHighWaterMark()
+            ))
             .childHandler(new ChannelInitializer<SocketChannel>() {
                 @Override
                 protected void initChannel(SocketChannel channel) {
@@ -68,47 +208,5 @@ public class ServerConnection extends AbstractConnection {
                     );
                 }
             });
-
-        try {
-            startServer(serverBootstrap);
-            waitForClose();
-        } catch (InterruptedException _) {
-            Thread.currentThread().interrupt();
-        } finally {
-            bossGroup.shutdownGracefully();
-            workerGroup.shutdownGracefully();
-        }
-    }
-
-    @Override
-    public void cleanUp() {
-        if (bossGroup != null) {
-            bossGroup.shutdownGracefully();
-            this.bossGroup = null;
-        }
-
-        if (workerGroup != null) {
-            workerGroup.shutdownGracefully();
-            this.workerGroup = null;
-        }
-    }
-
-    @Override
-    public Logger getLogger() {
-        return log;
-    }
-
-    private void startServer(ServerBootstrap bootstrap) throws InterruptedException {
-        String host = getHost();
-        int port = getPort();
-
-        log.info("Starting server on {}:{}", host, port);
-
-        ChannelFuture channelFuture = bootstrap.bind(host, port).sync();
-        setChannelFuture(channelFuture);
-        callConnectCallback();
-        setConnected(true);
-
-        log.info("Server started and listening on {}:{}.", host, port);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+/**
+ * Decides what happens to a packet sent while the backlog is full.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum BacklogOverflowPolicy {
+    /**
+     * The oldest packets are dropped until the new packet fits.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new packet is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The sending thread waits until the backlog has been flushed, at most for
+     * {@link ConnectionOptions#getBacklogBlockTimeoutMillis()}. Event loop threads never wait and
+     * fail like {@link #FAIL_FAST} instead.
+     */
+    BLOCK,
+
+    /**
+     * Sending the packet fails with a {@link io.github.milesreimann.packetsystem.core.exception.BacklogOverflowException}.
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,28 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+/**
+ * Algorithm used to compress frame bodies.
+ * <p>
+ * The algorithm is not negotiated, so both peers of a connection must select the same one,
+ * together with the same dictionary.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum CompressionAlgorithm {
+    /**
+     * Frames are never compressed and carry no compression flag.
+     */
+    NONE,
+
+    /**
+     * JDK Deflate. Supports a preset dictionary, which helps most with small frames.
+     */
+    DEFLATE,
+
+    /**
+     * Netty's Snappy implementation. Compresses less than {@link #DEFLATE}, but is considerably faster.
+     */
+    SNAPPY
+}
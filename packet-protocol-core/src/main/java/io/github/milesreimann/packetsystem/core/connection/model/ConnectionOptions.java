@@ -0,0 +1,262 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+import io.github.milesreimann.packetsystem.core.packet.backlog.SpillSegment;
+import io.github.milesreimann.packetsystem.core.transport.TransportResources;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Tuning options of a connection.
+ * <p>
+ * Options are fixed once the connection has been created. Use {@link #builder()} to
+ * override individual defaults.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ConnectionOptions {
+    /**
+     * Largest supported {@link #maxFrameLength}, so the frame and its 4 byte length prefix still fit into an int.
+     */
+    public static final int MAX_FRAME_LENGTH = Integer.MAX_VALUE - Integer.BYTES;
+
+    /**
+     * Smallest supported {@link #backlogSpillSegmentSize}, holding at least one record of a single byte.
+     */
+    public static final int MIN_SPILL_SEGMENT_SIZE = SpillSegment.HEADER_SIZE + SpillSegment.RECORD_HEADER_SIZE + 1;
+
+    /**
+     * Wire format of frames and packet headers. Must match the format of the remote peer.
+     */
+    @Builder.Default
+    private final WireFormat wireFormat = WireFormat.STANDARD;
+
+    /**
+     * Packet identifier written into every header. Must match the mode of the remote peer.
+     */
+    @Builder.Default
+    private final HeaderMode headerMode = HeaderMode.UUID;
+
+    /**
+     * Minimum size in bytes of a binary field that is wrapped into the outbound frame instead
+     * of being copied. Frames are then sent with gathering writes. {@code 0} disables wrapping.
+     */
+    @Builder.Default
+    private final int gatheringWriteThreshold = 0;
+
+    /**
+     * When written packets are flushed to the socket.
+     */
+    @Builder.Default
+    private final FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
+
+    /**
+     * Maximum number of flushes consolidated into a single one with {@link FlushPolicy#CONSOLIDATED}.
+     */
+    @Builder.Default
+    private final int flushConsolidationLimit = 256;
+
+    /**
+     * Maximum size in bytes of a frame, excluding its length prefix. Larger inbound frames close
+     * the channel, larger outbound packets fail to encode. At most {@link #MAX_FRAME_LENGTH}.
+     */
+    @Builder.Default
+    private final int maxFrameLength = 8 * 1024 * 1024;
+
+    /**
+     * Whether packets waiting for a full channel are sent by their {@link io.github.milesreimann.packetsystem.api.packet.PacketPriority priority}
+     * instead of in the order they were sent.
+     */
+    @Builder.Default
+    private final boolean priorityScheduling = false;
+
+    /**
+     * Number of high priority packets sent per scheduling round while packets are waiting.
+     */
+    @Builder.Default
+    private final int highPriorityWeight = 8;
+
+    /**
+     * Number of normal priority packets sent per scheduling round while packets are waiting.
+     */
+    @Builder.Default
+    private final int normalPriorityWeight = 4;
+
+    /**
+     * Number of low priority packets sent per scheduling round while packets are waiting.
+     */
+    @Builder.Default
+    private final int lowPriorityWeight = 1;
+
+    /**
+     * Size in bytes of pending outbound data below which a channel becomes writable again.
+     */
+    @Builder.Default
+    private final int writeBufferLowWaterMark = 32 * 1024;
+
+    /**
+     * Size in bytes of pending outbound data above which a channel is no longer writable.
+     */
+    @Builder.Default
+    private final int writeBufferHighWaterMark = 64 * 1024;
+
+    /**
+     * Maximum size in bytes of the encoded packets kept while no session is connected.
+     */
+    @Builder.Default
+    private final long backlogCapacity = 4 * 1024 * 1024;
+
+    /**
+     * What happens to packets sent while the backlog is full.
+     */
+    @Builder.Default
+    private final BacklogOverflowPolicy backlogOverflowPolicy = BacklogOverflowPolicy.DROP_OLDEST;
+
+    /**
+     * Maximum time in milliseconds a sender waits for space in the backlog with {@link BacklogOverflowPolicy#BLOCK}.
+     */
+    @Builder.Default
+    private final long backlogBlockTimeoutMillis = 5000;
+
+    /**
+     * Directory the backlog is spilled to once it exceeds {@link #getBacklogCapacity()}. Spilled packets
+     * are replayed on the next connect, also after a restart. Must not be shared with other connections.
+     * {@code null} keeps the backlog in memory only.
+     */
+    private final Path backlogSpillDirectory;
+
+    /**
+     * Size in bytes of a single memory-mapped segment file of the spilled backlog.
+     */
+    @Builder.Default
+    private final int backlogSpillSegmentSize = 32 * 1024 * 1024;
+
+    /**
+     * Maximum size in bytes of the spilled backlog. Beyond it, the {@link #getBacklogOverflowPolicy() overflow policy} applies.
+     */
+    @Builder.Default
+    private final long backlogSpillCapacity = 1024L * 1024 * 1024;
+
+    /**
+     * Algorithm used to compress frames. Must match the algorithm of the remote peer.
+     */
+    @Builder.Default
+    private final CompressionAlgorithm compression = CompressionAlgorithm.NONE;
+
+    /**
+     * Minimum size in bytes of a frame body that is compressed. Smaller frames are sent uncompressed.
+     */
+    @Builder.Default
+    private final int compressionThreshold = 256;
+
+    /**
+     * Compression level from {@code 0} to {@code 9}, used by {@link CompressionAlgorithm#DEFLATE}.
+     */
+    @Builder.Default
+    private final int compressionLevel = 6;
+
+    /**
+     * Preset dictionary shared with the remote peer, used by {@link CompressionAlgorithm#DEFLATE}.
+     * Typically trained from sample frames; {@code null} disables the dictionary.
+     */
+    private final byte[] compressionDictionary;
+
+    /**
+     * Maximum size in bytes a compressed inbound frame may declare for its uncompressed body.
+     */
+    @Builder.Default
+    private final int maxUncompressedFrameLength = 16 * 1024 * 1024;
+
+    /**
+     * Size in bytes of the chunks streams are split into.
+     */
+    @Builder.Default
+    private final int streamChunkSize = 16 * 1024;
+
+    /**
+     * Size in bytes of received stream chunks waiting for their listener above which a session
+     * stops reading from its channel. Only applies to listeners that are not dispatched inline.
+     */
+    @Builder.Default
+    private final int streamReceiveHighWaterMark = 4 * 1024 * 1024;
+
+    /**
+     * Size in bytes of received stream chunks waiting for their listener below which a session
+     * resumes reading from its channel.
+     */
+    @Builder.Default
+    private final int streamReceiveLowWaterMark = 1024 * 1024;
+
+    /**
+     * Whether a client reconnects after losing its connection. Packets sent in the meantime are
+     * kept in the backlog and sent once reconnected. A failed first connect is never retried.
+     */
+    @Builder.Default
+    private final boolean reconnect = true;
+
+    /**
+     * Delay in milliseconds before the first reconnect attempt. The delay doubles with every
+     * failed attempt and is randomized, so clients do not reconnect in lockstep.
+     */
+    @Builder.Default
+    private final long reconnectInitialDelayMillis = 100;
+
+    /**
+     * Maximum delay in milliseconds between two reconnect attempts.
+     */
+    @Builder.Default
+    private final long reconnectMaxDelayMillis = 30_000;
+
+    /**
+     * Number of failed attempts after which a client stops reconnecting and closes. {@code 0} never stops.
+     */
+    @Builder.Default
+    private final int reconnectMaxAttempts = 0;
+
+    /**
+     * Event loops the connection borrows while it is open. The connection retains them on open
+     * and releases them on close. {@code null} borrows the {@link TransportResources#acquireShared() shared} event loops.
+     */
+    private final TransportResources transportResources;
+
+    public static ConnectionOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Checks that all options are within their supported range.
+     *
+     * @throws IllegalArgumentException if an option is out of range
+     */
+    public void validate() {
+        checkRange("maxFrameLength", maxFrameLength, 1, MAX_FRAME_LENGTH);
+        checkRange("maxUncompressedFrameLength", maxUncompressedFrameLength, 1, Integer.MAX_VALUE);
+        checkRange("gatheringWriteThreshold", gatheringWriteThreshold, 0, Integer.MAX_VALUE);
+        checkRange("flushConsolidationLimit", flushConsolidationLimit, 1, Integer.MAX_VALUE);
+        checkRange("highPriorityWeight", highPriorityWeight, 1, Integer.MAX_VALUE);
+        checkRange("normalPriorityWeight", normalPriorityWeight, 1, Integer.MAX_VALUE);
+        checkRange("lowPriorityWeight", lowPriorityWeight, 1, Integer.MAX_VALUE);
+        checkRange("writeBufferLowWaterMark", writeBufferLowWaterMark, 0, writeBufferHighWaterMark);
+        checkRange("backlogCapacity", backlogCapacity, 0, Long.MAX_VALUE);
+        checkRange("backlogBlockTimeoutMillis", backlogBlockTimeoutMillis, 0, Long.MAX_VALUE);
+        checkRange("backlogSpillSegmentSize", backlogSpillSegmentSize, MIN_SPILL_SEGMENT_SIZE, Integer.MAX_VALUE);
+        checkRange("backlogSpillCapacity", backlogSpillCapacity, 1, Long.MAX_VALUE);
+        checkRange("compressionThreshold", compressionThreshold, 0, Integer.MAX_VALUE);
+        checkRange("compressionLevel", compressionLevel, 0, 9);
+        checkRange("streamChunkSize", streamChunkSize, 1, maxFrameLength);
+        checkRange("streamReceiveLowWaterMark", streamReceiveLowWaterMark, 0, streamReceiveHighWaterMark);
+        checkRange("reconnectInitialDelayMillis", reconnectInitialDelayMillis, 1, reconnectMaxDelayMillis);
+        checkRange("reconnectMaxAttempts", reconnectMaxAttempts, 0, Integer.MAX_VALUE);
+    }
+
+    private static void checkRange(String name, long value, long min, long max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ", but is " + value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+/**
+ * Decides when written packets are flushed to the socket.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum FlushPolicy {
+    /**
+     * Every packet is flushed right after it has been written.
+     */
+    IMMEDIATE,
+
+    /**
+     * Packets sent together are flushed once, after the last one has been written.
+     */
+    BATCH,
+
+    /**
+     * Like {@link #BATCH}, but flushes of consecutive sends are additionally consolidated.
+     * A flush happens at the latest after {@link ConnectionOptions#getFlushConsolidationLimit()}
+     * flushes or on the next event loop iteration, and is deferred while a read is in progress.
+     */
+    CONSOLIDATED
+}
@@ -0,0 +1,31 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+/**
+ * Packet identifier written into the header of every packet.
+ * <p>
+ * The mode is not negotiated, so both peers of a connection must select the same one.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum HeaderMode {
+    /**
+     * 16-byte {@link java.util.UUID} that must be set on every packet before it is sent.
+     */
+    UUID,
+
+    /**
+     * Monotonically increasing 64-bit sequence number, counted per channel by the sender.
+     * Frames encoded once for several channels, i.e. broadcasts and the backlog, are numbered
+     * by a counter of the connection instead. Written as a VarLong in the
+     * {@link WireFormat#COMPACT compact} wire format. Both peers count on their own, so
+     * identifiers are not unique across a connection and requests are not supported.
+     */
+    SEQUENCE,
+
+    /**
+     * No identifier at all. Decoded packets have no unique ID.
+     */
+    NONE
+}
@@ -0,0 +1,22 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+/**
+ * Layout of frames and packet headers on the wire.
+ * <p>
+ * The format is not negotiated, so both peers of a connection must select the same one.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum WireFormat {
+    /**
+     * Fixed 4-byte frame length and a nullable 4-byte packet ID.
+     */
+    STANDARD,
+
+    /**
+     * VarInt frame length and VarInt packet ID, which saves up to seven bytes per frame.
+     */
+    COMPACT
+}
@@ -0,0 +1,13 @@
+package io.github.milesreimann.packetsystem.core.exception;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public class BacklogOverflowException extends RuntimeException {
+    public BacklogOverflowException(Packet packet, String message) {
+        super("Failed to add packet '" + packet.getClass().getName() + "' to backlog: " + message);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.milesreimann.packetsystem.core.packet.backlog;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Ordered segment files of a backlog spilled to disk.
+ * <p>
+ * Frames are appended to the newest segment until it is full or sealed. Segments found in the
+ * directory on creation are recovered in the order they were written. The spill is not
+ * thread-safe; it is guarded by the lock of its {@link PacketBacklog}. Every connection needs
+ * its own directory.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+public class BacklogSpill {
+    private static final String FILE_PREFIX = "backlog-";
+    private static final String FILE_SUFFIX = ".segment";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long capacity;
+    private final Deque<SpillSegment> segments = new ArrayDeque<>();
+    @Getter
+    private long size;
+    private long nextSequence;
+
+    public BacklogSpill(Path directory, int segmentSize, long capacity) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.capacity = capacity;
+
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the largest frame that fits into a segment.
+     */
+    public int getMaxFrameSize() {
+        return segmentSize - SpillSegment.HEADER_SIZE - SpillSegment.RECORD_HEADER_SIZE;
+    }
+
+    public boolean hasRoom(int frameSize) {
+        return size + SpillSegment.RECORD_HEADER_SIZE + frameSize <= capacity;
+    }
+
+    public void append(ByteBuf frame) throws IOException {
+        SpillSegment segment = segments.peekLast();
+
+        if (segment == null || !segment.append(frame)) {
+            if (segment != null) {
+                segment.seal();
+            }
+
+            segment = SpillSegment.create(directory.resolve(fileName(nextSequence)), nextSequence++, segmentSize);
+            segments.addLast(segment);
+
+            if (!segment.append(frame)) {
+                throw new IOException("Frame of " + frame.readableBytes() + " bytes exceeds the segment size of " + segmentSize);
+            }
+        }
+
+        size += SpillSegment.RECORD_HEADER_SIZE + frame.readableBytes();
+    }
+
+    /**
+     * Seals all segments, so they can be replayed while new frames are appended to new segments.
+     *
+     * @return the sealed segments in the order they were written
+     */
+    public List<SpillSegment> seal() {
+        segments.forEach(SpillSegment::seal);
+        return new ArrayList<>(segments);
+    }
+
+    /**
+     * Deletes the oldest segment, unless it is the only one or excluded.
+     *
+     * @return the number of dropped frames, or {@code 0} if no segment has been deleted
+     */
+    public int dropOldest(List<SpillSegment> excluded) {
+        SpillSegment oldest = segments.peekFirst();
+        if (oldest == null || segments.size() == 1 || excluded.contains(oldest)) {
+            return 0;
+        }
+
+        remove(oldest);
+        return oldest.getFrameCount();
+    }
+
+    /**
+     * Deletes a segment once all of its frames have been replayed.
+     */
+    public void remove(SpillSegment segment) {
+        if (!segments.remove(segment)) {
+            return;
+        }
+
+        size -= segment.getSize();
+
+        try {
+            segment.delete();
+        } catch (IOException e) {
+            log.warn("Failed to delete backlog segment '{}'", segment.getPath(), e);
+        }
+    }
+
+    public void force() {
+        segments.forEach(SpillSegment::force);
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                .filter(path -> parseSequence(path) >= 0)
+                .sorted(Comparator.comparingLong(BacklogSpill::parseSequence))
+                .toList();
+        }
+
+        for (Path file : files) {
+            long sequence = parseSequence(file);
+            SpillSegment segment = SpillSegment.open(file, sequence);
+            nextSequence = sequence + 1;
+
+            if (segment.getFrameCount() == 0) {
+                segment.delete();
+                continue;
+            }
+
+            segments.addLast(segment);
+            size += segment.getSize();
+        }
+
+        if (!segments.isEmpty()) {
+            log.info("Recovered {} backlog segment(s) ({} bytes) from '{}'", segments.size(), size, directory);
+        }
+    }
+
+    private static String fileName(long sequence) {
+        return FILE_PREFIX + String.format("%020d", sequence) + FILE_SUFFIX;
+    }
+
+    private static long parseSequence(Path path) {
+        String fileName = path.getFileName().toString();
+        if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_SUFFIX)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(fileName, FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length(), 10);
+        } catch (NumberFormatException _) {
+            return -1;
+        }
+    }
+}
@@ -1,138 +1,504 @@
 package io.github.milesreimann.packetsystem.core.packet.backlog;
 
-import io.github.milesreimann.packetsystem.api.connection.Connection;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.connection.model.BacklogOverflowPolicy;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.exception.BacklogOverflowException;
+import io.github.milesreimann.packetsystem.core.packet.codec.DefaultPacketCodec;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
+import io.github.milesreimann.packetsystem.core.pipeline.WriteScheduler;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.internal.ThreadExecutorMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Keeps packets sent while no session is connected until the next session connects.
+ * <p>
+ * Packets are encoded into pooled frames when they are added, so the backlog neither keeps
+ * the packets alive nor encodes them again on flush. The total size of all frames is capped
+ * by {@link ConnectionOptions#getBacklogCapacity()}; packets beyond the cap are handled
+ * according to the {@link BacklogOverflowPolicy}. A flush hands all frames to the channel
+ * as a single batch with one flush. Packets of a {@link ConflationRegistry conflated} type
+ * replace the pending packet with the same key in place, as long as the backlog is in memory.
+ * </p>
+ *
+ * <p>
+ * If a {@link ConnectionOptions#getBacklogSpillDirectory() spill directory} is configured,
+ * crossing the cap moves the backlog into memory-mapped segment files instead, and it stays
+ * on disk until it has been replayed. Spilled frames are replayed in order while the channel
+ * is writable, so a large backlog does not flood the event loop. Packets sent to the session
+ * during the replay are held back by its {@link WriteScheduler} until the replay has finished,
+ * so they cannot overtake older spilled packets. A segment is deleted once
+ * all of its frames have been written, so a replay interrupted by a disconnect resumes with
+ * the unfinished segment and may send some of its packets twice. Closing the connection
+ * spills the in-memory backlog as well, so it survives a restart.
+ * </p>
+ *
  * @author Miles
  * @since 28.08.25
  */
 @Log4j2
-@RequiredArgsConstructor
 public class PacketBacklog {
-    private final Connection connection;
+    private final DefaultPacketCodec packetCodec;
+    private final PacketWriter packetWriter;
+    private final ConflationRegistry conflationRegistry;
+    private final long capacity;
+    private final BacklogOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final BacklogSpill spill;
 
-    private final Queue<Packet> backlog = new ConcurrentLinkedQueue<>();
-    private final AtomicBoolean flushInProgress = new AtomicBoolean(false);
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<BacklogEntry> entries = new ArrayDeque<>();
+    private final Map<Object, BacklogEntry> conflatedEntries = new HashMap<>();
+    private long size;
+    private long droppedCount;
+    private List<SpillSegment> replayedSegments = List.of();
 
-    public void add(Packet packet) {
-        log.debug("Adding packet '{}' to backlog", packet.getUniqueId());
+    public PacketBacklog(
+        DefaultPacketCodec packetCodec,
+        PacketWriter packetWriter,
+        ConflationRegistry conflationRegistry,
+        ConnectionOptions options
+    ) {
+        this.packetCodec = packetCodec;
+        this.packetWriter = packetWriter;
+        this.conflationRegistry = conflationRegistry;
+        this.capacity = options.getBacklogCapacity();
+        this.overflowPolicy = options.getBacklogOverflowPolicy();
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(options.getBacklogBlockTimeoutMillis());
+
+        if (options.getBacklogSpillDirectory() == null) {
+            this.spill = null;
+            return;
+        }
 
-        if (flushInProgress.get()) {
-            log.warn(
-                "Adding packet '{}' to backlog while flush is in progress. Packet will be queued for next flush.",
-                packet.getUniqueId()
+        try {
+            this.spill = new BacklogSpill(
+                options.getBacklogSpillDirectory(),
+                options.getBacklogSpillSegmentSize(),
+                options.getBacklogSpillCapacity()
             );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open backlog spill directory", e);
         }
+    }
 
-        boolean added = backlog.offer(packet);
-        if (!added) {
-            log.warn("Failed to add packet '{}' to backlog queue", packet.getUniqueId());
-            return;
+    /**
+     * Encodes the packet and adds it to the backlog.
+     *
+     * @throws BacklogOverflowException if the backlog is full and the packet could not be added
+     */
+    public void add(Packet packet) {
+        Object key = conflationRegistry.getKey(packet);
+        ByteBuf frame = packetCodec.encodeFrame(packet, ByteBufAllocator.DEFAULT);
+        int frameSize = frame.readableBytes();
+        boolean retained = false;
+
+        lock.lock();
+
+        try {
+            if (key != null && replace(key, frame)) {
+                retained = true;
+                return;
+            }
+
+            switch (reserve(packet, frameSize)) {
+                case MEMORY -> {
+                    BacklogEntry entry = new BacklogEntry(frame, key);
+                    entries.addLast(entry);
+                    size += frameSize;
+                    retained = true;
+
+                    if (key != null) {
+                        conflatedEntries.put(key, entry);
+                    }
+                }
+                case SPILL -> spill(frame);
+                case DROPPED -> {
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+
+            if (!retained) {
+                frame.release();
+            }
         }
 
-        log.info("Added packet '{}' to backlog. Current backlog size: {}", packet.getUniqueId(), backlog.size());
+        log.debug("Added packet '{}' to backlog", packet.getClass().getName());
     }
 
-    public void flush() {
-        log.debug("Starting backlog flush operation");
+    /**
+     * Writes all frames of the backlog to the given session. Must be called on the event loop of
+     * the session once it has become active, before any other packet is written to it.
+     */
+    public void flush(DefaultSession session) {
+        List<ByteBuf> framesToFlush;
+        long flushedSize;
+        long dropped;
+        List<SpillSegment> segmentsToReplay = List.of();
 
-        if (!flushInProgress.compareAndSet(false, true)) {
-            log.warn("Flush operation already in progress");
-            return;
-        }
+        lock.lock();
 
         try {
-            performFlush();
+            framesToFlush = new ArrayList<>(entries.size());
+            for (BacklogEntry entry : entries) {
+                framesToFlush.add(entry.frame);
+            }
+
+            flushedSize = size;
+            dropped = droppedCount;
+            entries.clear();
+            conflatedEntries.clear();
+            size = 0;
+            droppedCount = 0;
+
+            // Only one replay at a time, further sessions receive new packets only
+            if (spill != null && !spill.isEmpty() && replayedSegments.isEmpty()) {
+                segmentsToReplay = spill.seal();
+                replayedSegments = segmentsToReplay;
+            }
+
+            notFull.signalAll();
         } finally {
-            flushInProgress.set(false);
+            lock.unlock();
+        }
+
+        if (dropped > 0) {
+            log.warn("Dropped {} packet(s) because the backlog was full", dropped);
+        }
+
+        if (!framesToFlush.isEmpty()) {
+            int flushedCount = framesToFlush.size();
+
+            try {
+                packetWriter.writeFramesBatched(session.getChannel(), framesToFlush);
+                log.info("Flushed {} packet(s) ({} bytes) from backlog to {}", flushedCount, flushedSize, session);
+            } catch (RuntimeException e) {
+                // Only the frames that have not been handed to the channel are still owned by the backlog
+                requeue(framesToFlush);
+                log.error("Failed to flush backlog. Re-added {} unwritten packet(s) to backlog", framesToFlush.size(), e);
+            }
+        }
+
+        if (!segmentsToReplay.isEmpty()) {
+            log.info("Replaying {} spilled backlog segment(s) to {}", segmentsToReplay.size(), session);
+            Channel channel = session.getChannel();
+            WriteScheduler scheduler = channel.pipeline().get(WriteScheduler.class);
+
+            // Paused right away, so packets sent from now on wait behind the replay
+            scheduler.pause();
+            channel.eventLoop().execute(new SpillReplay(channel, scheduler, new ArrayDeque<>(segmentsToReplay)));
         }
     }
 
+    /**
+     * Drops the in-memory backlog, or spills it to disk if spilling is enabled.
+     */
     public void clear() {
-        if (!flushInProgress.compareAndSet(false, true)) {
-            log.warn("Cannot clear backlog because flush operation is already in progress");
-            return;
-        }
+        int clearedCount;
+
+        lock.lock();
 
         try {
-            int clearedCount = backlog.size();
-            backlog.clear();
-            log.info("Backlog cleared ({} packets removed)", clearedCount);
+            clearedCount = entries.size();
+
+            if (spill != null && clearedCount > 0) {
+                spill(null);
+                clearedCount = entries.size();
+            }
+
+            if (spill != null) {
+                spill.force();
+            }
+
+            entries.forEach(entry -> entry.frame.release());
+            entries.clear();
+            conflatedEntries.clear();
+            size = 0;
+            droppedCount = 0;
+            notFull.signalAll();
         } finally {
-            flushInProgress.set(false);
+            lock.unlock();
+        }
+
+        if (clearedCount > 0) {
+            log.info("Backlog cleared ({} packets removed)", clearedCount);
         }
     }
 
-    private void performFlush() {
-        if (backlog.isEmpty()) {
-            log.debug("Backlog is empty, nothing to flush");
-            return;
+    /**
+     * Makes room for a frame of the given size. Must be called while holding the lock.
+     *
+     * @return where the frame is stored
+     */
+    private Target reserve(Packet packet, int frameSize) {
+        int maxFrameSize = spill != null ? spill.getMaxFrameSize() : (int) Math.min(capacity, Integer.MAX_VALUE);
+        if (frameSize > maxFrameSize) {
+            return overflow(packet, "Frame of " + frameSize + " bytes exceeds the maximum of " + maxFrameSize + " bytes");
         }
 
-        List<Packet> packetsToFlush = drainBacklog();
-        log.info("Flushing {} packet(s) from backlog", packetsToFlush.size());
+        long remainingNanos = blockTimeoutNanos;
+
+        while (true) {
+            // Once spilled, the backlog stays on disk until it has been replayed, so frames stay in order
+            boolean spilling = spill != null && (!spill.isEmpty() || size + frameSize > capacity);
+            if (spilling ? spill.hasRoom(frameSize) : size + frameSize <= capacity) {
+                return spilling ? Target.SPILL : Target.MEMORY;
+            }
+
+            switch (overflowPolicy) {
+                case DROP_OLDEST -> {
+                    if (!dropOldest(spilling)) {
+                        droppedCount++;
+                        return Target.DROPPED;
+                    }
+                }
+                case DROP_NEWEST -> {
+                    droppedCount++;
+                    return Target.DROPPED;
+                }
+                case BLOCK -> {
+                    // Waiting on an I/O thread could stall the very flush that makes room
+                    if (ThreadExecutorMap.currentExecutor() != null) {
+                        throw new BacklogOverflowException(packet, "Backlog is full and the event loop must not block");
+                    }
 
-        sendPackets(packetsToFlush);
+                    if (remainingNanos <= 0) {
+                        throw new BacklogOverflowException(packet, "Timed out waiting for space");
+                    }
+
+                    try {
+                        remainingNanos = notFull.awaitNanos(remainingNanos);
+                    } catch (InterruptedException _) {
+                        Thread.currentThread().interrupt();
+                        throw new BacklogOverflowException(packet, "Interrupted while waiting for space");
+                    }
+                }
+                case FAIL_FAST -> throw new BacklogOverflowException(packet, "Backlog is full");
+            }
+        }
     }
 
-    private void sendPackets(List<Packet> packets) {
-        int successCount = 0;
-        int failureCount = 0;
-        List<Packet> failedPackets = new ArrayList<>();
+    private Target overflow(Packet packet, String message) {
+        if (overflowPolicy == BacklogOverflowPolicy.BLOCK || overflowPolicy == BacklogOverflowPolicy.FAIL_FAST) {
+            throw new BacklogOverflowException(packet, message);
+        }
 
-        for (Packet packet : packets) {
-            if (!attemptSend(packet)) {
-                failedPackets.add(packet);
-                failureCount++;
-            } else {
-                successCount++;
+        droppedCount++;
+        return Target.DROPPED;
+    }
+
+    private boolean dropOldest(boolean spilling) {
+        if (spilling) {
+            int dropped = spill.dropOldest(replayedSegments);
+            droppedCount += dropped;
+            return dropped > 0;
+        }
+
+        BacklogEntry oldest = entries.pollFirst();
+        if (oldest == null) {
+            return false;
+        }
+
+        forget(oldest);
+        size -= oldest.frame.readableBytes();
+        oldest.frame.release();
+        droppedCount++;
+        return true;
+    }
+
+    /**
+     * Replaces the frame of the pending packet with the same conflation key. Must be called while holding the lock.
+     * The replacement may exceed the capacity by the size difference of both frames.
+     *
+     * @return {@code true} if a pending frame has been replaced
+     */
+    private boolean replace(Object key, ByteBuf frame) {
+        // Spilled frames cannot be replaced, and in-memory frames are older than them
+        if (spill != null && !spill.isEmpty()) {
+            return false;
+        }
+
+        BacklogEntry pending = conflatedEntries.get(key);
+        if (pending == null) {
+            return false;
+        }
+
+        size += frame.readableBytes() - pending.frame.readableBytes();
+        pending.frame.release();
+        pending.frame = frame;
+        return true;
+    }
+
+    private void forget(BacklogEntry entry) {
+        if (entry.key != null && conflatedEntries.get(entry.key) == entry) {
+            conflatedEntries.remove(entry.key);
+        }
+    }
+
+    /**
+     * Moves the in-memory frames to disk, followed by the given frame. Must be called while holding the lock.
+     * The given frame is not released.
+     */
+    private void spill(ByteBuf frame) {
+        try {
+            BacklogEntry oldest;
+
+            while ((oldest = entries.peekFirst()) != null) {
+                spill.append(oldest.frame);
+                entries.pollFirst();
+                forget(oldest);
+                size -= oldest.frame.readableBytes();
+                oldest.frame.release();
+            }
+
+            if (frame != null) {
+                spill.append(frame);
             }
+        } catch (IOException e) {
+            droppedCount++;
+            log.error("Failed to spill backlog to disk", e);
         }
+    }
 
-        if (!failedPackets.isEmpty()) {
-            failedPackets.forEach(backlog::offer);
-            log.debug("Re-added {} failed packets to backlog", failedPackets.size());
+    private void requeue(List<ByteBuf> framesToRequeue) {
+        lock.lock();
+
+        try {
+            for (int i = framesToRequeue.size() - 1; i >= 0; i--) {
+                ByteBuf frame = framesToRequeue.get(i);
+                entries.addFirst(new BacklogEntry(frame, null));
+                size += frame.readableBytes();
+            }
+
+        } finally {
+            lock.unlock();
         }
+    }
+
+    private void segmentReplayed(SpillSegment segment) {
+        lock.lock();
 
-        log.info(
-            "Backlog flush completed: {} successful, {} failed",
-            successCount,
-            failureCount
-        );
+        try {
+            spill.remove(segment);
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private boolean attemptSend(Packet packet) {
+    private void replayFinished() {
+        lock.lock();
+
         try {
-            log.trace("Flushing packet '{}'", packet.getUniqueId());
-            connection.sendPacket(packet);
-            return true;
-        } catch (Exception e) {
-            log.error(
-                "Failed to flush packet '{}'. Will be re-added to backlog",
-                packet.getUniqueId(),
-                e
-            );
-            return false;
+            replayedSegments = List.of();
+        } finally {
+            lock.unlock();
         }
     }
 
-    private List<Packet> drainBacklog() {
-        List<Packet> packetsToFlush = new ArrayList<>();
-        Packet packet;
+    private static class BacklogEntry {
+        private final Object key;
+        private ByteBuf frame;
+
+        private BacklogEntry(ByteBuf frame, Object key) {
+            this.frame = frame;
+            this.key = key;
+        }
+    }
+
+    private enum Target {
+        MEMORY,
+        SPILL,
+        DROPPED
+    }
+
+    /**
+     * Writes spilled frames on the event loop of the channel while it is writable. Once it is no
+     * longer writable, the replay continues after the last written frame has been sent. The
+     * paused scheduler of the channel is resumed once the replay has finished.
+     */
+    @RequiredArgsConstructor
+    private class SpillReplay implements Runnable {
+        private final Channel channel;
+        private final WriteScheduler scheduler;
+        private final Deque<SpillSegment> segments;
+        private int position = SpillSegment.HEADER_SIZE;
+
+        @Override
+        public void run() {
+            if (!channel.isActive()) {
+                log.info("Stopped backlog replay: Channel is inactive. {} segment(s) remain", segments.size());
+                replayFinished();
+                scheduler.resume();
+                return;
+            }
+
+            ChannelFuture lastWrite = null;
+
+            while (channel.isWritable()) {
+                SpillSegment segment = segments.peekFirst();
+                if (segment == null) {
+                    channel.flush();
+                    replayFinished();
+                    scheduler.resume();
+                    return;
+                }
+
+                ByteBuf frame = segment.readFrame(position, channel.alloc());
+                if (frame == null) {
+                    segments.pollFirst();
+                    position = SpillSegment.HEADER_SIZE;
+                    removeOnceWritten(segment, lastWrite);
+                    continue;
+                }
+
+                position += SpillSegment.RECORD_HEADER_SIZE + frame.readableBytes();
+                lastWrite = scheduler.writeUnscheduled(frame);
+            }
+
+            channel.flush();
 
-        while ((packet = backlog.poll()) != null) {
-            packetsToFlush.add(packet);
+            if (lastWrite != null) {
+                lastWrite.addListener(_ -> channel.eventLoop().execute(this));
+            } else {
+                channel.eventLoop().schedule(this, 10, TimeUnit.MILLISECONDS);
+            }
         }
 
-        return packetsToFlush;
+        private void removeOnceWritten(SpillSegment segment, ChannelFuture lastWrite) {
+            if (lastWrite == null) {
+                segmentReplayed(segment);
+                return;
+            }
+
+            lastWrite.addListener(future -> {
+                if (future.isSuccess()) {
+                    segmentReplayed(segment);
+                }
+            });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package io.github.milesreimann.packetsystem.core.packet.backlog;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.internal.PlatformDependent;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped file holding encoded frames of a spilled backlog.
+ * <p>
+ * A segment starts with a magic number, followed by records of a 4 byte length, a CRC32C
+ * checksum of the frame and the frame. Files are created zero-filled, so a zero length marks
+ * the end. The length of a record is written last, which is enough if only the process dies.
+ * If the operating system crashes, pages of the mapping may have been written back in any
+ * order, so a recovered segment ends at the first record whose checksum does not match.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class SpillSegment {
+    public static final int HEADER_SIZE = Integer.BYTES;
+    public static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final int MAGIC = 0x50425347;
+
+    @Getter
+    private final long sequence;
+    @Getter
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    @Getter
+    private int frameCount;
+    @Getter
+    private boolean sealed;
+
+    private SpillSegment(long sequence, Path path, MappedByteBuffer buffer, int writePosition, int frameCount, boolean sealed) {
+        this.sequence = sequence;
+        this.path = path;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+        this.frameCount = frameCount;
+        this.sealed = sealed;
+    }
+
+    public static SpillSegment create(Path path, long sequence, int capacity) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.putInt(0, MAGIC);
+            return new SpillSegment(sequence, path, buffer, HEADER_SIZE, 0, false);
+        }
+    }
+
+    /**
+     * Opens a segment written by a previous process. The segment is sealed, so no frames are appended to it.
+     */
+    public static SpillSegment open(Path path, long sequence) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileChannel.size());
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a backlog segment: " + path);
+            }
+
+            int position = HEADER_SIZE;
+            int frameCount = 0;
+            int length;
+
+            while ((length = frameLength(buffer, position)) > 0) {
+                if (checksum(buffer, position, length) != buffer.getInt(position + Integer.BYTES)) {
+                    break;
+                }
+
+                position += RECORD_HEADER_SIZE + length;
+                frameCount++;
+            }
+
+            return new SpillSegment(sequence, path, buffer, position, frameCount, true);
+        }
+    }
+
+    /**
+     * Appends the readable bytes of the frame without changing its indices.
+     *
+     * @return {@code false} if the segment is sealed or the frame does not fit
+     */
+    public boolean append(ByteBuf frame) {
+        int length = frame.readableBytes();
+        if (sealed || length == 0 || (long) writePosition + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+            return false;
+        }
+
+        frame.getBytes(frame.readerIndex(), buffer.slice(writePosition + RECORD_HEADER_SIZE, length));
+        buffer.putInt(writePosition + Integer.BYTES, checksum(buffer, writePosition, length));
+        buffer.putInt(writePosition, length);
+        writePosition += RECORD_HEADER_SIZE + length;
+        frameCount++;
+        return true;
+    }
+
+    /**
+     * Reads the frame of the record at the given position into a new buffer.
+     *
+     * @return the frame, or {@code null} if there is no record at the given position
+     */
+    public ByteBuf readFrame(int position, ByteBufAllocator allocator) {
+        // Records after the write position are incomplete or failed their checksum on recovery
+        if (position >= writePosition) {
+            return null;
+        }
+
+        int length = frameLength(buffer, position);
+        if (length <= 0) {
+            return null;
+        }
+
+        ByteBuf frame = allocator.ioBuffer(length);
+        frame.writeBytes(buffer.slice(position + RECORD_HEADER_SIZE, length));
+        return frame;
+    }
+
+    /**
+     * Returns the number of bytes taken by the records of this segment.
+     */
+    public long getSize() {
+        return writePosition - HEADER_SIZE;
+    }
+
+    /**
+     * Prevents further appends and writes the segment back to its file.
+     */
+    public void seal() {
+        if (!sealed) {
+            sealed = true;
+            force();
+        }
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Unmaps the segment and deletes its file. The segment must not be used afterwards.
+     */
+    public void delete() throws IOException {
+        // Unmapped right away instead of by the garbage collector, so the file and its address space are released
+        PlatformDependent.freeDirectBuffer(buffer);
+        Files.deleteIfExists(path);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+        return (int) crc.getValue();
+    }
+
+    private static int frameLength(MappedByteBuffer buffer, int position) {
+        if ((long) position + RECORD_HEADER_SIZE > buffer.capacity()) {
+            return -1;
+        }
+
+        int length = buffer.getInt(position);
+        if (length <= 0 || (long) position + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+            return -1;
+        }
+
+        return length;
+    }
+}
@@ -4,9 +4,12 @@ import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.api.packet.codec.PacketCodec;
 import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.function.LongSupplier;
+
 /**
  * @author Miles
  * @since 28.08.25
@@ -17,11 +20,24 @@ public class DefaultPacketCodec implements PacketCodec {
     private final PacketEncoder packetEncoder;
     private final PacketDecoder packetDecoder;
     private final PacketFieldRegistry packetFieldRegistry;
+    private final PacketSerializerRegistry packetSerializerRegistry;
 
     public void encode(Packet packet, ByteBuf byteBuf) {
         packetEncoder.encode(packet, byteBuf);
     }
 
+    public ByteBuf encodeFrame(Packet packet, ByteBufAllocator allocator) {
+        return packetEncoder.encodeFrame(packet, allocator);
+    }
+
+    public ByteBuf encodeFrame(Packet packet, ByteBufAllocator allocator, LongSupplier sequence) {
+        return packetEncoder.encodeFrame(packet, allocator, sequence);
+    }
+
+    public void assignUniqueId(Packet packet) {
+        packetEncoder.assignUniqueId(packet);
+    }
+
     public Packet decode(ByteBuf byteBuf) {
         return packetDecoder.decode(byteBuf);
     }
@@ -29,5 +45,6 @@ public class DefaultPacketCodec implements PacketCodec {
     @Override
     public <T> void addFieldCodec(PacketFieldCodec<T> fieldCodec) {
         packetFieldRegistry.registerFieldCodec(fieldCodec);
+        packetSerializerRegistry.invalidate();
     }
 }
\ No newline at end of file
@@ -1,18 +1,16 @@
 package io.github.milesreimann.packetsystem.core.packet.codec;
 
 import io.github.milesreimann.packetsystem.api.packet.Packet;
-import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
 import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
 import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.connection.model.WireFormat;
 import io.github.milesreimann.packetsystem.core.exception.PacketDecodeException;
-import io.github.milesreimann.packetsystem.core.packet.codec.model.PacketHeader;
-import io.github.milesreimann.packetsystem.core.util.Reflections;
 import io.netty.buffer.ByteBuf;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.UUID;
-
 /**
  * @author Miles
  * @since 28.08.25
@@ -21,7 +19,7 @@ import java.util.UUID;
 @Log4j2
 public class PacketDecoder {
     private final AbstractConnection connection;
-    private final PacketFieldRegistry packetFieldRegistry;
+    private final PacketSerializerRegistry packetSerializerRegistry;
 
     public Packet decode(ByteBuf byteBuf) throws PacketDecodeException {
         if (!byteBuf.isReadable()) {
@@ -29,18 +27,48 @@ public class PacketDecoder {
         }
 
         int initialReaderIndex = byteBuf.readerIndex();
-        log.debug("Starting packet decoding from buffer at index {}", initialReaderIndex);
+        if (log.isDebugEnabled()) {
+            log.debug("Starting packet decoding from buffer at index {}", initialReaderIndex);
+        }
 
         try {
-            PacketHeader header = decodeHeader(byteBuf);
-            Packet packet = createAndPopulatePacket(header, byteBuf);
-            int bytesRead = byteBuf.readerIndex() - initialReaderIndex;
-
-            log.debug(
-                "Successfully decoded packet '{}'. {} bytes read",
-                packet.getUniqueId(),
-                bytesRead
-            );
+            int packetId = decodePacketId(byteBuf);
+            HeaderMode headerMode = connection.getOptions().getHeaderMode();
+            long mostSigBits = 0;
+            long leastSigBits = 0;
+
+            switch (headerMode) {
+                case UUID -> {
+                    mostSigBits = byteBuf.readLong();
+                    if (mostSigBits == 0) {
+                        throw new PacketDecodeException("Decoded packet UUID is null");
+                    }
+
+                    leastSigBits = byteBuf.readLong();
+                }
+                case SEQUENCE -> leastSigBits = connection.getOptions().getWireFormat() == WireFormat.COMPACT
+                    ? VarInts.readVarLong(byteBuf)
+                    : byteBuf.readLong();
+                case NONE -> {
+                }
+            }
+
+            if (log.isTraceEnabled()) {
+                log.trace("Decoded packet header: ID={}, UID bits={}/{}", packetId, mostSigBits, leastSigBits);
+            }
+
+            Packet packet = createAndPopulatePacket(packetId, byteBuf);
+            if (headerMode != HeaderMode.NONE) {
+                packet.assignUniqueId(mostSigBits, leastSigBits);
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug(
+                    "Successfully decoded packet '{}'. {} bytes read",
+                    packet.getUniqueId(),
+                    byteBuf.readerIndex() - initialReaderIndex
+                );
+            }
 
             return packet;
         } catch (Exception e) {
@@ -50,47 +78,25 @@ public class PacketDecoder {
         }
     }
 
-    private Packet createAndPopulatePacket(PacketHeader header, ByteBuf byteBuf) {
-        Class<? extends Packet> packetClass = connection.getPacketRegistry().getPacketClassByIdOrThrow(header.packetId());
-        Packet packet = createPacketInstance(packetClass, header.uniqueId());
+    private Packet createAndPopulatePacket(int packetId, ByteBuf byteBuf) {
+        Class<? extends Packet> packetClass = connection.getPacketRegistry().getPacketClassByIdOrThrow(packetId);
 
-        log.debug("Decoding fields for packet '{}'", packetClass.getName());
-        decodePacketFields(packet, packetClass, byteBuf);
+        if (log.isDebugEnabled()) {
+            log.debug("Decoding fields for packet '{}'", packetClass.getName());
+        }
 
-        return packet;
+        return packetSerializerRegistry.getSerializer(packetClass).decode(byteBuf);
     }
 
-    private PacketHeader decodeHeader(ByteBuf byteBuf) throws PacketDecodeException {
-        Integer packetId = PacketFieldCodecs.INTEGER_CODEC.decode(byteBuf);
-        if (packetId == null) {
-            throw new PacketDecodeException("Decoded packetId is null");
+    private int decodePacketId(ByteBuf byteBuf) throws PacketDecodeException {
+        if (connection.getOptions().getWireFormat() == WireFormat.COMPACT) {
+            return VarInts.readVarInt(byteBuf);
         }
 
-        UUID packetUniqueId = PacketFieldCodecs.UUID_CODEC.decode(byteBuf);
-        if (packetUniqueId == null) {
-            throw new PacketDecodeException("Decoded packet UUID is null");
+        if (PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC.decodeBoolean(byteBuf)) {
+            throw new PacketDecodeException("Decoded packetId is null");
         }
 
-        log.trace("Decoded packet header: ID={}, UID={}", packetId, packetUniqueId);
-        return new PacketHeader(packetId, packetUniqueId);
-    }
-
-    private void decodePacketFields(
-        Packet packet,
-        Class<? extends Packet> packetClass,
-        ByteBuf byteBuf
-    ) {
-        packetFieldRegistry.getPacketFieldInfo(packetClass).forEach(fieldMetadata -> {
-            PacketFieldCodec<?> fieldCodec = packetFieldRegistry.getFieldCodec(fieldMetadata.codecClass(), packetClass);
-            Object value = fieldCodec.decode(byteBuf);
-
-            Reflections.writeField(fieldMetadata.field(), packet, value);
-        });
-    }
-
-    private Packet createPacketInstance(Class<? extends Packet> packetClass, UUID uniqueId) {
-        Packet packet = connection.getPacketFactory().create(packetClass);
-        packet.setUniqueId(uniqueId);
-        return packet;
+        return PacketFieldCodecs.PRIMITIVE_INT_CODEC.decodeInt(byteBuf);
     }
 }
@@ -1,17 +1,24 @@
 package io.github.milesreimann.packetsystem.core.packet.codec;
 
 import io.github.milesreimann.packetsystem.api.packet.Packet;
-import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
 import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.github.milesreimann.packetsystem.common.util.GatheringByteBuf;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
 import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.connection.model.WireFormat;
+import io.github.milesreimann.packetsystem.core.packet.codec.compression.FrameCompressor;
 import io.github.milesreimann.packetsystem.core.exception.PacketEncodeException;
-import io.github.milesreimann.packetsystem.core.packet.codec.model.PacketFieldInfo;
-import io.github.milesreimann.packetsystem.core.util.Reflections;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * @author Miles
@@ -21,77 +28,301 @@ import java.util.UUID;
 @Log4j2
 public class PacketEncoder {
     private final AbstractConnection connection;
-    private final PacketFieldRegistry packetFieldRegistry;
+    private final PacketSerializerRegistry packetSerializerRegistry;
+    private final FrameCompressor frameCompressor;
+    // Sequence of frames that are not bound to a single channel, e.g. broadcasts and the backlog
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongSupplier connectionSequence = sequence::incrementAndGet;
 
     public void encode(Packet packet, ByteBuf byteBuf) {
-        if (packet.getUniqueId() == null) {
-            throw new PacketEncodeException(packet, "Packet unique ID cannot be null");
-        }
+        HeaderMode headerMode = connection.getOptions().getHeaderMode();
+        validate(packet, headerMode);
 
-        if (!byteBuf.isWritable()) {
+        if (byteBuf.maxWritableBytes() == 0) {
             throw new PacketEncodeException(packet, "ByteBuf is not writable");
         }
 
+        assignSequenceId(packet, headerMode, connectionSequence);
+
         Class<? extends Packet> packetClass = packet.getClass();
-        UUID packetUniqueId = packet.getUniqueId();
+        int packetId = connection.getPacketRegistry().getPacketIdByClassOrThrow(packetClass);
+        encode(packet, packetClass, packetId, headerMode, byteBuf);
+    }
+
+    /**
+     * Encodes a frame that is not bound to a single channel. Sequence identifiers are taken from the
+     * counter of the connection.
+     *
+     * @see #encodeFrame(Packet, ByteBufAllocator, LongSupplier)
+     */
+    public ByteBuf encodeFrame(Packet packet, ByteBufAllocator allocator) {
+        return encodeFrame(packet, allocator, connectionSequence);
+    }
+
+    /**
+     * Encodes the packet into a new buffer, prefixed with the frame length.
+     * <p>
+     * If the size of every field is known, the buffer is allocated with the exact frame size
+     * and never grows. Otherwise the length field is reserved with its maximum size and
+     * patched once the packet has been written.
+     * </p>
+     *
+     * <p>
+     * With compression enabled, the body is prefixed with a compression flag and compressed
+     * into a separate buffer once it reaches the compression threshold. The compressed frame
+     * is only used if it is actually smaller.
+     * </p>
+     *
+     * @param sequence supplies the next sequence identifier in the {@link HeaderMode#SEQUENCE} header
+     *                 mode, e.g. the counter of the channel the frame is written to
+     */
+    public ByteBuf encodeFrame(Packet packet, ByteBufAllocator allocator, LongSupplier sequence) {
+        ConnectionOptions options = connection.getOptions();
+        HeaderMode headerMode = options.getHeaderMode();
+        boolean compact = options.getWireFormat() == WireFormat.COMPACT;
+        int gatheringWriteThreshold = options.getGatheringWriteThreshold();
+        int flagSize = frameCompressor != null ? 1 : 0;
+
+        validate(packet, headerMode);
+        assignSequenceId(packet, headerMode, sequence);
+
+        Class<? extends Packet> packetClass = packet.getClass();
+        int packetId = connection.getPacketRegistry().getPacketIdByClassOrThrow(packetClass);
+
+        // Wrapped fields are never copied, so gathering frames are not sized up front
+        int frameLength = gatheringWriteThreshold > 0
+            ? -1
+            : sizeOf(packet, packetClass, packetId, headerMode, compact);
+
+        int lengthFieldSize;
+        ByteBuf byteBuf;
+
+        if (frameLength >= 0) {
+            frameLength += flagSize;
+
+            // Compression may still shrink the frame below the maximum
+            if (frameCompressor == null) {
+                checkFrameLength(packet, frameLength, options);
+            }
+
+            lengthFieldSize = compact ? VarInts.varIntSize(frameLength) : Integer.BYTES;
+            byteBuf = allocator.ioBuffer(lengthFieldSize + frameLength);
+        } else {
+            lengthFieldSize = compact ? VarInts.MAX_VAR_INT_BYTES : Integer.BYTES;
+            byteBuf = gatheringWriteThreshold > 0
+                ? new GatheringByteBuf(allocator, gatheringWriteThreshold)
+                : allocator.ioBuffer();
+        }
+
+        try {
+            // The zeroed flag marks the body as uncompressed until it has been compressed
+            byteBuf.writeZero(lengthFieldSize + flagSize);
+            encode(packet, packetClass, packetId, headerMode, byteBuf);
+
+            if (frameCompressor != null) {
+                byteBuf = compress(byteBuf, lengthFieldSize, options.getCompressionThreshold(), allocator);
+            }
+
+            int length = byteBuf.writerIndex() - lengthFieldSize;
+            checkFrameLength(packet, length, options);
+
+            if (compact) {
+                if (VarInts.varIntSize(length) > lengthFieldSize) {
+                    throw new PacketEncodeException(packet, "Encoded " + length + " bytes, but expected " + frameLength);
+                }
+
+                VarInts.setVarInt(byteBuf, 0, length, lengthFieldSize);
+            } else {
+                byteBuf.setInt(0, length);
+            }
+
+            return byteBuf;
+        } catch (RuntimeException e) {
+            byteBuf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Compresses the body of the frame into a new frame with the same length field size.
+     * Releases the given frame if the compressed one is returned.
+     */
+    private ByteBuf compress(ByteBuf frame, int lengthFieldSize, int threshold, ByteBufAllocator allocator) {
+        int bodyIndex = lengthFieldSize + 1;
+        int bodyLength = frame.writerIndex() - bodyIndex;
+        if (bodyLength < threshold) {
+            return frame;
+        }
+
+        ByteBuf compressed = allocator.ioBuffer(bodyIndex + VarInts.varIntSize(bodyLength) + (bodyLength >> 1));
+
+        try {
+            compressed.writeZero(lengthFieldSize);
+            compressed.writeByte(FrameCompressor.FLAG_COMPRESSED);
+            frameCompressor.compress(frame.slice(bodyIndex, bodyLength), compressed);
+        } catch (RuntimeException e) {
+            compressed.release();
+            throw e;
+        }
+
+        if (compressed.writerIndex() >= frame.writerIndex()) {
+            compressed.release();
+            return frame;
+        }
+
+        frame.release();
+        return compressed;
+    }
+
+    private void encode(
+        Packet packet,
+        Class<? extends Packet> packetClass,
+        int packetId,
+        HeaderMode headerMode,
+        ByteBuf byteBuf
+    ) {
         int initialWriterIndex = byteBuf.writerIndex();
 
-        log.debug("Starting encoding of packet '{}' ({})", packetUniqueId, packetClass.getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Starting encoding of packet '{}' ({})", packet.getUniqueId(), packetClass.getName());
+        }
 
         try {
-            encodeHeader(packet, packetClass, byteBuf);
+            encodeHeader(packet, packetId, headerMode, byteBuf);
             encodeFields(packet, packetClass, byteBuf);
 
-            int bytesWritten = byteBuf.writerIndex() - initialWriterIndex;
-
-            log.debug(
-                "Successfully encoded packet '{}'. {} bytes written",
-                packet.getUniqueId(),
-                bytesWritten
-            );
+            if (log.isDebugEnabled()) {
+                log.debug(
+                    "Successfully encoded packet '{}'. {} bytes written",
+                    packet.getUniqueId(),
+                    byteBuf.writerIndex() - initialWriterIndex
+                );
+            }
         } catch (Exception e) {
-            log.error("Failed to encode packet '{}'", packetUniqueId, e);
+            log.error("Failed to encode packet '{}'", packet.getUniqueId(), e);
             byteBuf.writerIndex(initialWriterIndex);
             throw new PacketEncodeException(packet, e);
         }
     }
 
-    private void encodeHeader(
+    private void checkFrameLength(Packet packet, int length, ConnectionOptions options) {
+        if (length > options.getMaxFrameLength()) {
+            throw new PacketEncodeException(packet, "Frame of " + length + " bytes exceeds the maximum of " + options.getMaxFrameLength());
+        }
+    }
+
+    private void validate(Packet packet, HeaderMode headerMode) {
+        if (headerMode == HeaderMode.UUID && !packet.hasUniqueId()) {
+            throw new PacketEncodeException(packet, "Packet unique ID cannot be null");
+        }
+    }
+
+    /**
+     * Assigns a new identifier to the packet before it is sent, so it can be correlated with its response.
+     * Sequence identifiers are assigned even if the packet already has one.
+     */
+    public void assignUniqueId(Packet packet) {
+        switch (connection.getOptions().getHeaderMode()) {
+            case UUID -> {
+                if (!packet.hasUniqueId()) {
+                    // Version 4 UUID, without the cost of a secure random source
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    packet.assignUniqueId(
+                        (random.nextLong() & ~0xF000L) | 0x4000L,
+                        (random.nextLong() & ~(0xC0L << 56)) | (0x80L << 56)
+                    );
+                }
+            }
+            case SEQUENCE -> packet.assignUniqueId(0, connectionSequence.getAsLong());
+            case NONE -> throw new PacketEncodeException(packet, "Packet identifiers are disabled");
+        }
+    }
+
+    // Packets that already carry an identifier, such as responses, keep it
+    private void assignSequenceId(Packet packet, HeaderMode headerMode, LongSupplier sequence) {
+        if (headerMode == HeaderMode.SEQUENCE && !packet.hasUniqueId()) {
+            packet.assignUniqueId(0, sequence.getAsLong());
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private int sizeOf(
         Packet packet,
         Class<? extends Packet> packetClass,
-        ByteBuf byteBuf
+        int packetId,
+        HeaderMode headerMode,
+        boolean compact
     ) {
-        int packetId = connection.getPacketRegistry().getPacketIdByClassOrThrow(packetClass);
+        PacketSerializer serializer = packetSerializerRegistry.getSerializer(packetClass);
+        int bodySize = serializer.sizeOf(packet);
+        if (bodySize < 0) {
+            return -1;
+        }
 
-        PacketFieldCodecs.INTEGER_CODEC.encode(packetId, byteBuf);
-        log.trace("Encoded packet ID {} for packet '{}'", packetId, packet.getUniqueId());
+        int headerSize = compact ? VarInts.varIntSize(packetId) : 1 + Integer.BYTES;
+        headerSize += switch (headerMode) {
+            case UUID -> 2 * Long.BYTES;
+            case SEQUENCE -> compact ? VarInts.varLongSize(packet.getUniqueIdLeastSigBits()) : Long.BYTES;
+            case NONE -> 0;
+        };
 
-        PacketFieldCodecs.UUID_CODEC.encode(packet.getUniqueId(), byteBuf);
-        log.trace("Encoded packet UID '{}'", packet.getUniqueId());
+        return headerSize + bodySize;
     }
 
-    private void encodeFields(
+    private void encodeHeader(
         Packet packet,
-        Class<? extends Packet> packetClass,
+        int packetId,
+        HeaderMode headerMode,
         ByteBuf byteBuf
     ) {
-        packetFieldRegistry.getPacketFieldInfo(packetClass).forEach(fieldMetadata ->
-            encodeField(packet, packetClass, fieldMetadata, byteBuf)
-        );
+        boolean compact = connection.getOptions().getWireFormat() == WireFormat.COMPACT;
+
+        if (compact) {
+            VarInts.writeVarInt(byteBuf, packetId);
+        } else {
+            // Same layout as the nullable integer codec, but without boxing the ID
+            PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC.encodeBoolean(false, byteBuf);
+            PacketFieldCodecs.PRIMITIVE_INT_CODEC.encodeInt(packetId, byteBuf);
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Encoded packet ID {} for packet '{}'", packetId, packet.getUniqueId());
+        }
+
+        switch (headerMode) {
+            case UUID -> {
+                // Same layout as the UUID codec, written from the raw bits
+                byteBuf.writeLong(packet.getUniqueIdMostSigBits());
+                byteBuf.writeLong(packet.getUniqueIdLeastSigBits());
+            }
+            case SEQUENCE -> {
+                if (compact) {
+                    VarInts.writeVarLong(byteBuf, packet.getUniqueIdLeastSigBits());
+                } else {
+                    byteBuf.writeLong(packet.getUniqueIdLeastSigBits());
+                }
+            }
+            case NONE -> {
+                return;
+            }
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Encoded packet UID '{}'", packet.getUniqueId());
+        }
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void encodeField(
+    private void encodeFields(
         Packet packet,
         Class<? extends Packet> packetClass,
-        PacketFieldInfo fieldInfo,
         ByteBuf byteBuf
     ) {
-        PacketFieldCodec codec = packetFieldRegistry.getFieldCodec(fieldInfo.codecClass(), packetClass);
+        PacketSerializer serializer = packetSerializerRegistry.getSerializer(packetClass);
+        serializer.encode(packet, byteBuf);
 
-        Object value = Reflections.readField(fieldInfo.field(), packet);
-        codec.encode(value, byteBuf);
-
-        log.trace("Encoded field '{}' for packet '{}'", fieldInfo.field().getName(), packet.getUniqueId());
+        if (log.isTraceEnabled()) {
+            log.trace("Encoded fields for packet '{}'", packet.getUniqueId());
+        }
     }
 }
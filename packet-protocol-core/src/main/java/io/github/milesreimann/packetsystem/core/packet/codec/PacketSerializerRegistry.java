@@ -0,0 +1,42 @@
+package io.github.milesreimann.packetsystem.core.packet.codec;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
+import io.github.milesreimann.packetsystem.core.packet.codec.serializer.PacketSerializerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class PacketSerializerRegistry {
+    private final PacketSerializerFactory packetSerializerFactory;
+
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<? extends Packet>, PacketSerializer> serializerCache = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <P extends Packet> PacketSerializer<P> getSerializer(Class<P> packetClass) {
+        PacketSerializer<P> serializer = serializerCache.get(packetClass);
+        if (serializer != null) {
+            return serializer;
+        }
+
+        return serializerCache.computeIfAbsent(packetClass, _ -> packetSerializerFactory.createSerializer(packetClass));
+    }
+
+    public void invalidate() {
+        if (serializerCache.isEmpty()) {
+            return;
+        }
+
+        serializerCache.clear();
+        log.debug("Invalidated cached packet serializers");
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.compression;
+
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Frame compressor based on the JDK {@link Deflater} and {@link Inflater}.
+ * <p>
+ * Deflaters and inflaters are reset for every frame, so frames are compressed independently
+ * of each other. A preset dictionary primes every frame with content typical for the protocol.
+ * </p>
+ * <p>
+ * Both hold native memory that is only freed by {@code end()}. Event loops keep theirs per
+ * thread, ended once the thread terminates. Any other thread, e.g. a virtual thread encoding
+ * a broadcast, borrows them from a pool bounded by the number of processors; surplus
+ * instances are ended right away instead of waiting for the garbage collector.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DeflateFrameCompressor implements FrameCompressor {
+    private static final int MIN_OUTPUT_CHUNK = 64;
+
+    private final byte[] dictionary;
+    private final Pool<Deflater> deflaters;
+    private final Pool<Inflater> inflaters;
+
+    public DeflateFrameCompressor(int level, byte[] dictionary) {
+        this.dictionary = dictionary == null ? null : dictionary.clone();
+        this.deflaters = new Pool<>(() -> new Deflater(level), Deflater::end);
+        this.inflaters = new Pool<>(Inflater::new, Inflater::end);
+    }
+
+    @Override
+    public void compress(ByteBuf in, ByteBuf out) {
+        Deflater deflater = deflaters.acquire();
+
+        try {
+            compress(deflater, in, out);
+        } finally {
+            deflaters.release(deflater);
+        }
+    }
+
+    @Override
+    public void decompress(ByteBuf in, ByteBuf out, int uncompressedLength) {
+        Inflater inflater = inflaters.acquire();
+
+        try {
+            decompress(inflater, in, out, uncompressedLength);
+        } finally {
+            inflaters.release(inflater);
+        }
+    }
+
+    private void compress(Deflater deflater, ByteBuf in, ByteBuf out) {
+        deflater.reset();
+
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+
+        VarInts.writeVarInt(out, in.readableBytes());
+        deflater.setInput(in.nioBuffer());
+        deflater.finish();
+
+        while (!deflater.finished()) {
+            out.ensureWritable(Math.max(MIN_OUTPUT_CHUNK, in.readableBytes() >> 2));
+
+            int writerIndex = out.writerIndex();
+            int written = deflater.deflate(out.nioBuffer(writerIndex, out.writableBytes()));
+            out.writerIndex(writerIndex + written);
+        }
+
+        in.skipBytes(in.readableBytes());
+    }
+
+    private void decompress(Inflater inflater, ByteBuf in, ByteBuf out, int uncompressedLength) {
+        // The length has already been validated by the caller
+        VarInts.readVarInt(in);
+
+        inflater.reset();
+        inflater.setInput(in.nioBuffer());
+
+        out.ensureWritable(uncompressedLength);
+        int writerIndex = out.writerIndex();
+        ByteBuffer target = out.nioBuffer(writerIndex, uncompressedLength);
+
+        try {
+            while (target.hasRemaining()) {
+                if (inflater.inflate(target) > 0) {
+                    continue;
+                }
+
+                if (inflater.needsDictionary()) {
+                    if (dictionary == null) {
+                        throw new DecompressionException("Frame requires a dictionary, but none is configured");
+                    }
+
+                    inflater.setDictionary(dictionary);
+                } else if (inflater.finished() || inflater.needsInput()) {
+                    throw new DecompressionException("Frame is shorter than its declared length of " + uncompressedLength + " bytes");
+                }
+            }
+
+            // The end of the stream may only be consumed once the output is already full
+            if (!inflater.finished() && (inflater.inflate(new byte[1]) > 0 || !inflater.finished())) {
+                throw new DecompressionException("Frame is longer than its declared length of " + uncompressedLength + " bytes");
+            }
+        } catch (DataFormatException e) {
+            throw new DecompressionException(e);
+        }
+
+        out.writerIndex(writerIndex + uncompressedLength);
+        in.skipBytes(in.readableBytes());
+    }
+
+    private static final class Pool<T> {
+        private static final int CAPACITY = Runtime.getRuntime().availableProcessors();
+
+        private final Supplier<T> factory;
+        private final Consumer<T> destroyer;
+        private final FastThreadLocal<T> eventLoopInstances;
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        private Pool(Supplier<T> factory, Consumer<T> destroyer) {
+            this.factory = factory;
+            this.destroyer = destroyer;
+            this.eventLoopInstances = new FastThreadLocal<>() {
+                @Override
+                protected T initialValue() {
+                    return factory.get();
+                }
+
+                @Override
+                protected void onRemoval(T instance) {
+                    destroyer.accept(instance);
+                }
+            };
+        }
+
+        T acquire() {
+            // Netty removes the thread locals of its own threads once they terminate
+            if (Thread.currentThread() instanceof FastThreadLocalThread) {
+                return eventLoopInstances.get();
+            }
+
+            T instance = idle.poll();
+            if (instance == null) {
+                return factory.get();
+            }
+
+            idleCount.decrementAndGet();
+            return instance;
+        }
+
+        void release(T instance) {
+            if (Thread.currentThread() instanceof FastThreadLocalThread) {
+                return;
+            }
+
+            if (idleCount.incrementAndGet() <= CAPACITY) {
+                idle.offer(instance);
+                return;
+            }
+
+            idleCount.decrementAndGet();
+            destroyer.accept(instance);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.compression;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Compresses and decompresses frame bodies.
+ * <p>
+ * With compression enabled, every frame body starts with a flag byte. Compressed bodies
+ * continue with their uncompressed length as VarInt, followed by the compressed data. The
+ * length is written by the compressor, so formats that carry it themselves, such as Snappy,
+ * do not repeat it. Implementations must be safe to use from multiple threads at once.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface FrameCompressor {
+    byte FLAG_UNCOMPRESSED = 0;
+    byte FLAG_COMPRESSED = 1;
+
+    /**
+     * Compresses all readable bytes of {@code in} and appends their length as VarInt and the result to {@code out}.
+     *
+     * @param in  the uncompressed data, not null
+     * @param out the buffer to write the compressed data into, not null
+     */
+    void compress(ByteBuf in, ByteBuf out);
+
+    /**
+     * Decompresses all readable bytes of {@code in} and appends exactly {@code uncompressedLength} bytes to {@code out}.
+     *
+     * @param in                 the uncompressed length as VarInt and the compressed data, not null
+     * @param out                the buffer to write the uncompressed data into, limited to {@code uncompressedLength} bytes, not null
+     * @param uncompressedLength the length of the uncompressed data, already read from {@code in} and validated
+     */
+    void decompress(ByteBuf in, ByteBuf out, int uncompressedLength);
+}
@@ -0,0 +1,33 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.compression;
+
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FrameCompressors {
+    /**
+     * Creates the frame compressor configured by the options.
+     *
+     * @return the compressor, or {@code null} if compression is disabled
+     */
+    public static FrameCompressor create(ConnectionOptions options) {
+        byte[] dictionary = options.getCompressionDictionary();
+
+        return switch (options.getCompression()) {
+            case NONE -> null;
+            case DEFLATE -> new DeflateFrameCompressor(options.getCompressionLevel(), dictionary);
+            case SNAPPY -> {
+                if (dictionary != null) {
+                    throw new IllegalArgumentException("Snappy compression does not support dictionaries");
+                }
+
+                yield new SnappyFrameCompressor();
+            }
+        };
+    }
+}
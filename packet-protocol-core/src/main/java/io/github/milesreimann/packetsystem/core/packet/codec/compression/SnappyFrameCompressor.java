@@ -0,0 +1,52 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.Snappy;
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Frame compressor based on Netty's raw {@link Snappy} implementation.
+ * <p>
+ * The preamble of the raw Snappy format is the uncompressed length as VarInt, so it doubles
+ * as the length of the compressed frame body.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class SnappyFrameCompressor implements FrameCompressor {
+    private final FastThreadLocal<Snappy> snappies = new FastThreadLocal<>() {
+        @Override
+        protected Snappy initialValue() {
+            return new Snappy();
+        }
+    };
+
+    @Override
+    public void compress(ByteBuf in, ByteBuf out) {
+        Snappy snappy = snappies.get();
+        snappy.reset();
+        snappy.encode(in, out, in.readableBytes());
+    }
+
+    @Override
+    public void decompress(ByteBuf in, ByteBuf out, int uncompressedLength) {
+        Snappy snappy = snappies.get();
+        snappy.reset();
+
+        int writerIndex = out.writerIndex();
+
+        try {
+            snappy.decode(in, out);
+        } catch (IndexOutOfBoundsException e) {
+            // The output is limited to the declared length, so a longer frame cannot grow it
+            throw new DecompressionException("Frame is longer than its declared length of " + uncompressedLength + " bytes", e);
+        }
+
+        int written = out.writerIndex() - writerIndex;
+        if (written != uncompressedLength) {
+            throw new DecompressionException("Decompressed " + written + " bytes, but expected " + uncompressedLength);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface FieldSerializer {
+    void encode(Packet packet, ByteBuf byteBuf);
+
+    void decode(Packet packet, ByteBuf byteBuf);
+
+    int sizeOf(Packet packet);
+}
@@ -0,0 +1,113 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodecResolver;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
+import io.github.milesreimann.packetsystem.core.exception.ReflectionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Index of the packet serializers generated at compile time by the packet-protocol processor.
+ * <p>
+ * The index is read once per class loader from every {@value #INDEX_RESOURCE} resource visible
+ * to it and maps packet class names to the names of their generated serializers. Packets are
+ * looked up in the index of their own class loader, so packets loaded in isolation, e.g. by
+ * plugins, find their serializers as well.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+public class GeneratedPacketSerializers {
+    private static final String INDEX_RESOURCE = "META-INF/packet-protocol/packet-serializers";
+
+    // Weakly keyed, so class loaders can still be unloaded; the index does not reference its loader
+    private static final Map<ClassLoader, Map<String, String>> INDICES = new WeakHashMap<>();
+
+    public static <P extends Packet> Optional<PacketSerializer<P>> create(
+        Class<P> packetClass,
+        PacketFieldCodecResolver codecResolver
+    ) {
+        String serializerClassName = index(packetClass.getClassLoader()).get(packetClass.getName());
+        if (serializerClassName == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(instantiate(packetClass, serializerClassName, codecResolver));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P extends Packet> PacketSerializer<P> instantiate(
+        Class<P> packetClass,
+        String serializerClassName,
+        PacketFieldCodecResolver codecResolver
+    ) {
+        try {
+            Class<?> serializerClass = Class.forName(serializerClassName, true, packetClass.getClassLoader());
+            PacketSerializer<P> serializer = (PacketSerializer<P>) serializerClass
+                .getConstructor(PacketFieldCodecResolver.class)
+                .newInstance(codecResolver);
+
+            log.debug("Using generated serializer '{}' for packet '{}'", serializerClassName, packetClass.getName());
+            return serializer;
+        } catch (ReflectiveOperationException e) {
+            throw new ReflectionException("Unable to instantiate generated serializer " + serializerClassName, e);
+        }
+    }
+
+    private static Map<String, String> index(ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : GeneratedPacketSerializers.class.getClassLoader();
+
+        synchronized (INDICES) {
+            return INDICES.computeIfAbsent(loader, GeneratedPacketSerializers::loadIndex);
+        }
+    }
+
+    private static Map<String, String> loadIndex(ClassLoader classLoader) {
+        Map<String, String> index = new HashMap<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), index);
+            }
+        } catch (IOException e) {
+            log.error("Failed to load generated packet serializer index", e);
+        }
+
+        log.debug("Loaded {} generated packet serializer(s) from {}", index.size(), classLoader);
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static void readIndex(URL resource, Map<String, String> index) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (separator <= 0) {
+                    continue;
+                }
+
+                index.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+            }
+        }
+    }
+}
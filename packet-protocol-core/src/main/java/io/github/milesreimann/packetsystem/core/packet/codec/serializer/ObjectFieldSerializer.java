@@ -0,0 +1,54 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.core.exception.ReflectionException;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class ObjectFieldSerializer implements FieldSerializer {
+    private final String fieldName;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final PacketFieldCodec<Object> codec;
+
+    @Override
+    public void encode(Packet packet, ByteBuf byteBuf) {
+        codec.encode(read(packet), byteBuf);
+    }
+
+    @Override
+    public int sizeOf(Packet packet) {
+        return codec.sizeOf(read(packet));
+    }
+
+    @Override
+    public void decode(Packet packet, ByteBuf byteBuf) {
+        Object value = codec.decode(byteBuf);
+        if (value instanceof ReferenceCounted resource) {
+            packet.attachResource(resource);
+        }
+
+        try {
+            setter.invokeExact(packet, value);
+        } catch (Throwable t) {
+            throw new ReflectionException("Failed to write field " + fieldName, t);
+        }
+    }
+
+    private Object read(Packet packet) {
+        try {
+            return (Object) getter.invokeExact(packet);
+        } catch (Throwable t) {
+            throw new ReflectionException("Failed to read field " + fieldName, t);
+        }
+    }
+}
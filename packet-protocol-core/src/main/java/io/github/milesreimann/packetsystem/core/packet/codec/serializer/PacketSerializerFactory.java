@@ -0,0 +1,76 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
+import io.github.milesreimann.packetsystem.core.packet.codec.PacketFieldRegistry;
+import io.github.milesreimann.packetsystem.core.packet.codec.model.PacketFieldInfo;
+import io.github.milesreimann.packetsystem.core.util.Reflections;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Builds a specialized {@link PacketSerializer} per packet class.
+ * <p>
+ * Serializers generated at compile time are preferred. For packets without one, field codecs
+ * and accessors are resolved once while building the serializer, so the resulting instance
+ * encodes and decodes without any registry lookups per field.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+@Log4j2
+public class PacketSerializerFactory {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Packet.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Packet.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Packet.class);
+
+    private final PacketFieldRegistry packetFieldRegistry;
+
+    public <P extends Packet> PacketSerializer<P> createSerializer(Class<P> packetClass) {
+        return GeneratedPacketSerializers.create(packetClass, codecClass -> packetFieldRegistry.getFieldCodec(codecClass, packetClass))
+            .orElseGet(() -> createRuntimeSerializer(packetClass));
+    }
+
+    private <P extends Packet> PacketSerializer<P> createRuntimeSerializer(Class<P> packetClass) {
+        List<PacketFieldInfo> fieldInfos = packetFieldRegistry.getPacketFieldInfo(packetClass);
+        FieldSerializer[] fieldSerializers = new FieldSerializer[fieldInfos.size()];
+
+        for (int i = 0; i < fieldSerializers.length; i++) {
+            fieldSerializers[i] = createFieldSerializer(packetClass, fieldInfos.get(i));
+        }
+
+        MethodHandle constructor = Reflections.findNoArgsConstructor(packetClass).asType(CONSTRUCTOR_TYPE);
+        log.debug("Created serializer for packet '{}' with {} field(s)", packetClass.getName(), fieldSerializers.length);
+
+        return new RuntimePacketSerializer<>(packetClass, constructor, fieldSerializers);
+    }
+
+    private FieldSerializer createFieldSerializer(Class<? extends Packet> packetClass, PacketFieldInfo fieldInfo) {
+        Field field = fieldInfo.field();
+        String fieldName = formatField(field);
+        PacketFieldCodec<Object> codec = packetFieldRegistry.getFieldCodec(fieldInfo.codecClass(), packetClass);
+
+        MethodHandle getter = Reflections.findGetter(field);
+        MethodHandle setter = Reflections.findSetter(field);
+
+        return PrimitiveFieldSerializers.create(fieldName, field.getType(), getter, setter, codec)
+            .orElseGet(() -> new ObjectFieldSerializer(
+                fieldName,
+                getter.asType(GETTER_TYPE),
+                setter.asType(SETTER_TYPE),
+                codec
+            ));
+    }
+
+    private String formatField(Field field) {
+        return field.getDeclaringClass().getName() + "#" + field.getName();
+    }
+}
@@ -0,0 +1,380 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldBooleanCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldByteCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldCharCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldDoubleCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldFloatCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldShortCodec;
+import io.github.milesreimann.packetsystem.core.exception.ReflectionException;
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+
+/**
+ * Field serializers binding primitive packet fields directly to primitive field codecs.
+ * <p>
+ * Accessors are adapted to the exact primitive type, so values are never boxed between
+ * the packet field and the codec.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PrimitiveFieldSerializers {
+    public static Optional<FieldSerializer> create(
+        String fieldName,
+        Class<?> fieldType,
+        MethodHandle getter,
+        MethodHandle setter,
+        PacketFieldCodec<?> codec
+    ) {
+        if (fieldType == int.class && codec instanceof PacketFieldIntCodec intCodec) {
+            return Optional.of(new IntFieldSerializer(fieldName, getter(getter, int.class), setter(setter, int.class), intCodec));
+        }
+
+        if (fieldType == long.class && codec instanceof PacketFieldLongCodec longCodec) {
+            return Optional.of(new LongFieldSerializer(fieldName, getter(getter, long.class), setter(setter, long.class), longCodec));
+        }
+
+        if (fieldType == double.class && codec instanceof PacketFieldDoubleCodec doubleCodec) {
+            return Optional.of(new DoubleFieldSerializer(fieldName, getter(getter, double.class), setter(setter, double.class), doubleCodec));
+        }
+
+        if (fieldType == float.class && codec instanceof PacketFieldFloatCodec floatCodec) {
+            return Optional.of(new FloatFieldSerializer(fieldName, getter(getter, float.class), setter(setter, float.class), floatCodec));
+        }
+
+        if (fieldType == short.class && codec instanceof PacketFieldShortCodec shortCodec) {
+            return Optional.of(new ShortFieldSerializer(fieldName, getter(getter, short.class), setter(setter, short.class), shortCodec));
+        }
+
+        if (fieldType == byte.class && codec instanceof PacketFieldByteCodec byteCodec) {
+            return Optional.of(new ByteFieldSerializer(fieldName, getter(getter, byte.class), setter(setter, byte.class), byteCodec));
+        }
+
+        if (fieldType == boolean.class && codec instanceof PacketFieldBooleanCodec booleanCodec) {
+            return Optional.of(new BooleanFieldSerializer(fieldName, getter(getter, boolean.class), setter(setter, boolean.class), booleanCodec));
+        }
+
+        if (fieldType == char.class && codec instanceof PacketFieldCharCodec charCodec) {
+            return Optional.of(new CharFieldSerializer(fieldName, getter(getter, char.class), setter(setter, char.class), charCodec));
+        }
+
+        return Optional.empty();
+    }
+
+    private static MethodHandle getter(MethodHandle getter, Class<?> fieldType) {
+        return getter.asType(MethodType.methodType(fieldType, Packet.class));
+    }
+
+    private static MethodHandle setter(MethodHandle setter, Class<?> fieldType) {
+        return setter.asType(MethodType.methodType(void.class, Packet.class, fieldType));
+    }
+
+    @RequiredArgsConstructor
+    private static class IntFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldIntCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeInt(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfInt(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            int value = codec.decodeInt(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private int read(Packet packet) {
+            try {
+                return (int) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class LongFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldLongCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeLong(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfLong(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            long value = codec.decodeLong(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private long read(Packet packet) {
+            try {
+                return (long) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class DoubleFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldDoubleCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeDouble(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfDouble(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            double value = codec.decodeDouble(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private double read(Packet packet) {
+            try {
+                return (double) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class FloatFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldFloatCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeFloat(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfFloat(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            float value = codec.decodeFloat(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private float read(Packet packet) {
+            try {
+                return (float) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ShortFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldShortCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeShort(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfShort(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            short value = codec.decodeShort(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private short read(Packet packet) {
+            try {
+                return (short) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ByteFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldByteCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeByte(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfByte(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            byte value = codec.decodeByte(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private byte read(Packet packet) {
+            try {
+                return (byte) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class BooleanFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldBooleanCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeBoolean(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfBoolean(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            boolean value = codec.decodeBoolean(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private boolean read(Packet packet) {
+            try {
+                return (boolean) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CharFieldSerializer implements FieldSerializer {
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final PacketFieldCharCodec codec;
+
+        @Override
+        public void encode(Packet packet, ByteBuf byteBuf) {
+            codec.encodeChar(read(packet), byteBuf);
+        }
+
+        @Override
+        public int sizeOf(Packet packet) {
+            return codec.sizeOfChar(read(packet));
+        }
+
+        @Override
+        public void decode(Packet packet, ByteBuf byteBuf) {
+            char value = codec.decodeChar(byteBuf);
+
+            try {
+                setter.invokeExact(packet, value);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to write field " + fieldName, t);
+            }
+        }
+
+        private char read(Packet packet) {
+            try {
+                return (char) getter.invokeExact(packet);
+            } catch (Throwable t) {
+                throw new ReflectionException("Failed to read field " + fieldName, t);
+            }
+        }
+    }
+}
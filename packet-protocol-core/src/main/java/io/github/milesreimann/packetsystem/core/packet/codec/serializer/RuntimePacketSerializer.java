@@ -0,0 +1,68 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
+import io.github.milesreimann.packetsystem.core.exception.ReflectionException;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class RuntimePacketSerializer<P extends Packet> implements PacketSerializer<P> {
+    private final Class<P> packetClass;
+    private final MethodHandle constructor;
+    private final FieldSerializer[] fieldSerializers;
+
+    @Override
+    public void encode(P packet, ByteBuf byteBuf) {
+        for (FieldSerializer fieldSerializer : fieldSerializers) {
+            fieldSerializer.encode(packet, byteBuf);
+        }
+    }
+
+    @Override
+    public int sizeOf(P packet) {
+        int size = 0;
+
+        for (FieldSerializer fieldSerializer : fieldSerializers) {
+            int fieldSize = fieldSerializer.sizeOf(packet);
+            if (fieldSize < 0) {
+                return -1;
+            }
+
+            size += fieldSize;
+        }
+
+        return size;
+    }
+
+    @Override
+    public P decode(ByteBuf byteBuf) {
+        P packet = newInstance();
+
+        try {
+            for (FieldSerializer fieldSerializer : fieldSerializers) {
+                fieldSerializer.decode(packet, byteBuf);
+            }
+        } catch (RuntimeException e) {
+            packet.releaseResources();
+            throw e;
+        }
+
+        return packet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P newInstance() {
+        try {
+            return (P) (Packet) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new ReflectionException("Failed to instantiate packet " + packetClass.getName(), t);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.milesreimann.packetsystem.core.packet.conflation;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of the packet types whose pending packets are conflated.
+ * <p>
+ * For a conflated type, only the newest of all pending packets with the same key is sent,
+ * e.g. the latest state of an entity. Older packets still waiting for a slow channel or in
+ * the backlog are replaced in place, so they keep their position.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+public class ConflationRegistry {
+    private final Map<Class<? extends Packet>, Function<Packet, ?>> keyExtractors = new ConcurrentHashMap<>();
+
+    /**
+     * Conflates pending packets of the given type by the key extracted from them.
+     *
+     * @param packetClass  the packet type, not null
+     * @param keyExtractor the function extracting the key; packets with a {@code null} key are never conflated
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends Packet> void register(Class<P> packetClass, Function<? super P, ?> keyExtractor) {
+        keyExtractors.put(packetClass, (Function<Packet, ?>) (Function<?, ?>) keyExtractor);
+        log.info("Registered conflation key for packet class '{}'", packetClass.getName());
+    }
+
+    public void unregister(Class<? extends Packet> packetClass) {
+        keyExtractors.remove(packetClass);
+    }
+
+    /**
+     * Gets the conflation key of the packet.
+     *
+     * @return the key, or {@code null} if the packet is not conflated
+     */
+    public Object getKey(Packet packet) {
+        if (keyExtractors.isEmpty()) {
+            return null;
+        }
+
+        Function<Packet, ?> keyExtractor = keyExtractors.get(packet.getClass());
+        if (keyExtractor == null) {
+            return null;
+        }
+
+        Object key = keyExtractor.apply(packet);
+        return key != null ? new ConflationKey(packet.getClass(), key) : null;
+    }
+
+    private record ConflationKey(Class<? extends Packet> packetClass, Object key) {
+    }
+}
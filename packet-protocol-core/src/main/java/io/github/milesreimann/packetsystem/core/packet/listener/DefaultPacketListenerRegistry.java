@@ -3,6 +3,7 @@ package io.github.milesreimann.packetsystem.core.packet.listener;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.api.packet.listener.PacketListener;
 import io.github.milesreimann.packetsystem.api.packet.listener.PacketListenerRegistry;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchExecutors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * @author Miles
@@ -24,6 +26,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class DefaultPacketListenerRegistry implements PacketListenerRegistry {
     @SuppressWarnings("rawtypes")
     private final Map<Class<? extends Packet>, Collection<PacketListener>> packetClassToListenersMap = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Packet>, Executor> packetClassToExecutorMap = new ConcurrentHashMap<>();
+    private volatile Executor dispatchExecutor = DispatchExecutors.INLINE;
 
     @Override
     public <P extends Packet> void registerPacketListener(PacketListener<P> listener) {
@@ -75,6 +79,38 @@ public class DefaultPacketListenerRegistry implements PacketListenerRegistry {
         return Collections.unmodifiableCollection(listeners);
     }
 
+    /**
+     * Sets the executor listeners are dispatched on, unless one has been set for the packet type.
+     * Defaults to {@link DispatchExecutors#INLINE}.
+     *
+     * @param executor the executor, not null
+     */
+    public void setDispatchExecutor(Executor executor) {
+        this.dispatchExecutor = executor;
+        log.info("Set dispatch executor: {}", executor);
+    }
+
+    /**
+     * Sets the executor listeners of the given packet type are dispatched on.
+     *
+     * @param packetClass the packet type, not null
+     * @param executor    the executor, or {@code null} to use the default one again
+     */
+    public <P extends Packet> void setDispatchExecutor(Class<P> packetClass, Executor executor) {
+        if (executor == null) {
+            packetClassToExecutorMap.remove(packetClass);
+            return;
+        }
+
+        packetClassToExecutorMap.put(packetClass, executor);
+        log.info("Set dispatch executor for packet class '{}': {}", packetClass.getName(), executor);
+    }
+
+    public Executor getDispatchExecutor(Class<? extends Packet> packetClass) {
+        Executor executor = packetClassToExecutorMap.get(packetClass);
+        return executor != null ? executor : dispatchExecutor;
+    }
+
     @SuppressWarnings("rawtypes")
     private <P extends Packet> void addPacketListenerToRegistry(
         Class<P> packetClass,
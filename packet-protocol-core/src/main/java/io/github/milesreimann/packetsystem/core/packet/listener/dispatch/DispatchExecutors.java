@@ -0,0 +1,68 @@
+package io.github.milesreimann.packetsystem.core.packet.listener.dispatch;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors for dispatching inbound packets to their listeners.
+ * <p>
+ * Packets of one connection are always dispatched in the order they were received, no matter
+ * which executor is used. Executors returned by this class are owned by the caller and have to
+ * be shut down by it.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DispatchExecutors {
+    /**
+     * Runs listeners directly on the I/O thread that received the packet.
+     */
+    public static final Executor INLINE = Runnable::run;
+
+    // Unlike CallerRunsPolicy, tasks submitted after shutdown are rejected instead of silently dropped
+    private static final RejectedExecutionHandler CALLER_RUNS_UNLESS_SHUTDOWN = (task, executor) -> {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Dispatch executor has been shut down");
+        }
+
+        task.run();
+    };
+
+    /**
+     * Runs the listeners of each packet on a new virtual thread.
+     */
+    public static ExecutorService virtualThreadPerPacket() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("packet-dispatch-", 0).factory());
+    }
+
+    /**
+     * Runs listeners on a fixed number of platform threads.
+     * <p>
+     * Once {@code queueCapacity} packets are waiting, further packets are dispatched on the
+     * thread that received them, which slows down reading instead of growing the queue. Once the
+     * pool has been shut down, packets are rejected.
+     * </p>
+     */
+    public static ExecutorService boundedPool(int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("packet-dispatch-", 0).daemon().factory(),
+            CALLER_RUNS_UNLESS_SHUTDOWN
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.milesreimann.packetsystem.core.packet.listener.dispatch;
+
+/**
+ * Task dispatching an inbound packet that owns resources of the packet.
+ * <p>
+ * A {@link SerialExecutor} calls {@link #discard()} instead of {@link #run()} for tasks that
+ * can no longer be run because the delegate executor rejected them, so their resources are
+ * still released.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public interface DispatchTask extends Runnable {
+    /**
+     * Releases the resources of the task without running it.
+     */
+    void discard();
+
+    static DispatchTask of(Runnable task, Runnable discard) {
+        return new DispatchTask() {
+            @Override
+            public void run() {
+                task.run();
+            }
+
+            @Override
+            public void discard() {
+                discard.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.milesreimann.packetsystem.core.packet.listener.dispatch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one after another in submission order on a delegate executor.
+ * <p>
+ * Each task is submitted to the delegate on its own once the previous one has finished, so
+ * many serial executors can share one delegate without a single connection starving others.
+ * </p>
+ *
+ * <p>
+ * If the delegate rejects a task, {@link #execute(Runnable)} throws and the caller keeps the
+ * task. Tasks queued behind it can no longer run and are discarded, releasing the resources
+ * of every {@link DispatchTask}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class SerialExecutor implements Executor {
+    private final Executor delegate;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.offer(task);
+
+        try {
+            scheduleNext();
+        } catch (RejectedExecutionException e) {
+            // A concurrent rejection may already have discarded the task
+            boolean owned = tasks.remove(task);
+            discardQueued();
+
+            if (owned) {
+                throw e;
+            }
+        }
+    }
+
+    private void scheduleNext() {
+        if (tasks.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            delegate.execute(this::runNext);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void runNext() {
+        try {
+            Runnable task = tasks.poll();
+            if (task != null) {
+                task.run();
+            }
+        } finally {
+            running.set(false);
+
+            try {
+                scheduleNext();
+            } catch (RejectedExecutionException e) {
+                log.warn("Dispatch executor rejected queued tasks, discarding them", e);
+                discardQueued();
+            }
+        }
+    }
+
+    private void discardQueued() {
+        Runnable task;
+
+        while ((task = tasks.poll()) != null) {
+            if (task instanceof DispatchTask dispatchTask) {
+                dispatchTask.discard();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.github.milesreimann.packetsystem.core.packet.registry;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.api.packet.registry.PacketRegistry;
 import io.github.milesreimann.packetsystem.core.util.PacketIdGenerator;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -21,10 +23,14 @@ public class DefaultPacketRegistry implements PacketRegistry {
     private final PacketScanner packetScanner;
 
     private final Map<Class<? extends Packet>, Integer> classToIdMap = new ConcurrentHashMap<>();
-    private final Map<Integer, Class<? extends Packet>> idToClassMap = new ConcurrentHashMap<>();
+
+    /**
+     * Copy-on-write map, so lookups on the decode path neither lock nor box the packet ID.
+     */
+    private volatile IntObjectMap<Class<? extends Packet>> idToClassMap = new IntObjectHashMap<>();
 
     @Override
-    public <P extends Packet> void registerPacket(Class<P> packetClass) {
+    public synchronized <P extends Packet> void registerPacket(Class<P> packetClass) {
         if (classToIdMap.containsKey(packetClass)) {
             int existingId = classToIdMap.get(packetClass);
             log.warn("Packet '{}' is already registered with ID {} Skipping registration", packetClass.getName(), existingId);
@@ -50,14 +56,18 @@ public class DefaultPacketRegistry implements PacketRegistry {
     }
 
     @Override
-    public <P extends Packet> void unregisterPacket(Class<P> packetClass) {
+    public synchronized <P extends Packet> void unregisterPacket(Class<P> packetClass) {
         Integer packetId = classToIdMap.remove(packetClass);
         if (packetId == null) {
             log.warn("Attempted to unregister non-registered packet '{}'", packetClass.getName());
             return;
         }
 
-        idToClassMap.remove(packetId);
+        IntObjectMap<Class<? extends Packet>> updatedIdToClassMap = new IntObjectHashMap<>(idToClassMap.size());
+        updatedIdToClassMap.putAll(idToClassMap);
+        updatedIdToClassMap.remove(packetId.intValue());
+        this.idToClassMap = updatedIdToClassMap;
+
         log.info("Unregistered packet '{}' with ID {}", packetClass.getName(), packetId);
     }
 
@@ -67,8 +77,12 @@ public class DefaultPacketRegistry implements PacketRegistry {
     }
 
     public Class<? extends Packet> getPacketClassByIdOrThrow(int packetId) {
-        return getPacketClassById(packetId)
-            .orElseThrow(() -> new NoSuchElementException("Packet class of ID '" + packetId + "' was not found"));
+        Class<? extends Packet> packetClass = idToClassMap.get(packetId);
+        if (packetClass == null) {
+            throw new NoSuchElementException("Packet class of ID '" + packetId + "' was not found");
+        }
+
+        return packetClass;
     }
 
     @Override
@@ -76,8 +90,13 @@ public class DefaultPacketRegistry implements PacketRegistry {
         return Optional.ofNullable(classToIdMap.get(packetClass));
     }
 
-    public <P extends Packet> Integer getPacketIdByClassOrThrow(Class<P> packetClass) {
-        return getPacketIdByClass(packetClass).orElseThrow(() -> new NoSuchElementException("Packet ID of class '" + packetClass + "' was not found"));
+    public <P extends Packet> int getPacketIdByClassOrThrow(Class<P> packetClass) {
+        Integer packetId = classToIdMap.get(packetClass);
+        if (packetId == null) {
+            throw new NoSuchElementException("Packet ID of class '" + packetClass + "' was not found");
+        }
+
+        return packetId;
     }
 
     private <P extends Packet> void registerPacketWithId(int packetId, Class<P> packetClass) {
@@ -91,8 +110,12 @@ public class DefaultPacketRegistry implements PacketRegistry {
             return;
         }
 
+        IntObjectMap<Class<? extends Packet>> updatedIdToClassMap = new IntObjectHashMap<>(idToClassMap.size() + 1);
+        updatedIdToClassMap.putAll(idToClassMap);
+        updatedIdToClassMap.put(packetId, packetClass);
+
         classToIdMap.put(packetClass, packetId);
-        idToClassMap.put(packetId, packetClass);
+        this.idToClassMap = updatedIdToClassMap;
 
         log.info("Successfully registered packet '{}' with ID {}", packetClass.getName(), packetId);
     }
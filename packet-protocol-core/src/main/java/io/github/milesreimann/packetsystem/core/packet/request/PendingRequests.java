@@ -0,0 +1,192 @@
+package io.github.milesreimann.packetsystem.core.packet.request;
+
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.connection.SessionListener;
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchExecutors;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchTask;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Requests of a connection that are waiting for their response.
+ * <p>
+ * Requests are keyed by their packet identifier. An inbound packet completes a pending
+ * request if it carries the same identifier, is of the expected response type and arrived
+ * on the session the request was sent to. Requests are independent of each other, so any
+ * number of them can be in flight at once and responses may arrive in any order. Requests
+ * sent to a session fail once that session disconnects.
+ * </p>
+ *
+ * <p>
+ * Timeouts of all connections are tracked by a single shared {@link HashedWheelTimer}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class PendingRequests implements SessionListener {
+    private static final Timer TIMER = new HashedWheelTimer(
+        new DefaultThreadFactory("packet-request-timeout", true),
+        10,
+        TimeUnit.MILLISECONDS
+    );
+
+    private final Map<RequestKey, PendingRequest<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a request whose identifier has already been assigned.
+     *
+     * @param request       the request packet
+     * @param session       the session the request is sent to, or {@code null} to accept a response from any session
+     * @param responseClass the expected response type
+     * @param timeout       the time to wait for the response
+     * @param unit          the unit of the timeout
+     * @return the future completed with the response
+     */
+    public <R extends Packet> CompletableFuture<R> register(
+        Packet request,
+        Session session,
+        Class<R> responseClass,
+        long timeout,
+        TimeUnit unit
+    ) {
+        RequestKey key = RequestKey.of(request);
+        PendingRequest<R> pendingRequest = new PendingRequest<>(session, responseClass);
+
+        if (pendingRequests.putIfAbsent(key, pendingRequest) != null) {
+            throw new IllegalStateException("A request with ID '" + request.getUniqueId() + "' is already pending");
+        }
+
+        pendingRequest.timeout = TIMER.newTimeout(_ -> {
+            if (pendingRequests.remove(key, pendingRequest)) {
+                pendingRequest.future.completeExceptionally(new TimeoutException(
+                    "No response to request '" + request.getUniqueId() + "' within " + timeout + " " + unit
+                ));
+            }
+        }, timeout, unit);
+
+        return pendingRequest.future;
+    }
+
+    /**
+     * Completes the pending request the packet responds to.
+     *
+     * @param session  the session the packet arrived on
+     * @param packet   the inbound packet
+     * @param executor the executor to complete the request on, in order with the listeners of the session
+     * @return {@code true} if the packet was a response and has been consumed
+     */
+    public boolean complete(DefaultSession session, Packet packet, Executor executor) {
+        if (pendingRequests.isEmpty() || !packet.hasUniqueId()) {
+            return false;
+        }
+
+        RequestKey key = RequestKey.of(packet);
+        PendingRequest<?> pendingRequest = pendingRequests.get(key);
+        if (pendingRequest == null || !pendingRequest.accepts(session, packet) || !pendingRequests.remove(key, pendingRequest)) {
+            return false;
+        }
+
+        pendingRequest.cancelTimeout();
+
+        if (executor == DispatchExecutors.INLINE) {
+            pendingRequest.complete(packet);
+            return true;
+        }
+
+        try {
+            session.getSerialExecutor(executor).execute(DispatchTask.of(
+                () -> pendingRequest.complete(packet),
+                () -> pendingRequest.discard(packet, new RejectedExecutionException("Dispatch executor rejected the response"))
+            ));
+        } catch (RejectedExecutionException e) {
+            pendingRequest.discard(packet, e);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void onDisconnect(Session session) {
+        pendingRequests.values().removeIf(pendingRequest -> {
+            if (pendingRequest.session == null || pendingRequest.session.getId() != session.getId()) {
+                return false;
+            }
+
+            pendingRequest.fail(new ClosedChannelException());
+            return true;
+        });
+    }
+
+    public void fail(Packet request, Throwable cause) {
+        PendingRequest<?> pendingRequest = pendingRequests.remove(RequestKey.of(request));
+        if (pendingRequest != null) {
+            pendingRequest.fail(cause);
+        }
+    }
+
+    public void failAll(Throwable cause) {
+        pendingRequests.values().removeIf(pendingRequest -> {
+            pendingRequest.fail(cause);
+            return true;
+        });
+    }
+
+    private record RequestKey(long mostSigBits, long leastSigBits) {
+        static RequestKey of(Packet packet) {
+            return new RequestKey(packet.getUniqueIdMostSigBits(), packet.getUniqueIdLeastSigBits());
+        }
+    }
+
+    private static class PendingRequest<R extends Packet> {
+        private final Session session;
+        private final Class<R> responseClass;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private volatile Timeout timeout;
+
+        PendingRequest(Session session, Class<R> responseClass) {
+            this.session = session;
+            this.responseClass = responseClass;
+        }
+
+        boolean accepts(Session session, Packet packet) {
+            return (this.session == null || this.session.getId() == session.getId()) && responseClass.isInstance(packet);
+        }
+
+        void complete(Packet packet) {
+            if (!future.complete(responseClass.cast(packet))) {
+                packet.releaseResources();
+            }
+        }
+
+        void discard(Packet packet, Throwable cause) {
+            packet.releaseResources();
+            future.completeExceptionally(cause);
+        }
+
+        void fail(Throwable cause) {
+            cancelTimeout();
+            future.completeExceptionally(cause);
+        }
+
+        void cancelTimeout() {
+            Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.api.packet.Priority;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldByteBufCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarLongCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A chunk of the data of a stream.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Priority(PacketPriority.LOW)
+public class StreamChunkPacket extends Packet {
+    @PacketField(codec = PacketFieldVarLongCodec.class)
+    private long streamId;
+
+    @PacketField(codec = PacketFieldByteBufCodec.class)
+    private ByteBuf data;
+}
@@ -0,0 +1,32 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.api.packet.Priority;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldStringUTF8Codec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarLongCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Closes a stream after its last chunk, or aborts it.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Priority(PacketPriority.LOW)
+public class StreamClosePacket extends Packet {
+    @PacketField(codec = PacketFieldVarLongCodec.class)
+    private long streamId;
+
+    /**
+     * The reason the stream has been aborted, or {@code null} if it is complete.
+     */
+    @PacketField(codec = PacketFieldStringUTF8Codec.class)
+    private String abortReason;
+}
@@ -0,0 +1,33 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.api.packet.Priority;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldStringUTF8Codec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarLongCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Opens a stream. Sent before the first chunk of the stream.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Priority(PacketPriority.LOW)
+public class StreamOpenPacket extends Packet {
+    @PacketField(codec = PacketFieldVarLongCodec.class)
+    private long streamId;
+
+    @PacketField(codec = PacketFieldStringUTF8Codec.class)
+    private String name;
+
+    @PacketField(codec = DefaultPacketFieldLongCodec.class)
+    private long length;
+}
@@ -0,0 +1,145 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.connection.Connection;
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.connection.SessionListener;
+import io.github.milesreimann.packetsystem.api.packet.listener.PacketListener;
+import io.github.milesreimann.packetsystem.api.stream.StreamReceiver;
+import io.github.milesreimann.packetsystem.api.stream.StreamSink;
+import io.github.milesreimann.packetsystem.core.packet.listener.DefaultPacketListenerRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Passes inbound streams to the {@link StreamReceiver} of a connection.
+ * <p>
+ * Stream packets are handled by regular packet listeners, so they are dispatched on the same
+ * executor and in the same order as all other packets of their session. Every chunk is handed
+ * to the sink of its stream as soon as it arrives and released afterwards. While too many
+ * chunks wait for a slow sink, the session stops reading from its channel, so the sender
+ * is slowed down by TCP flow control instead of filling the memory of the receiver.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+public class StreamReceiverHandler implements SessionListener {
+    private final Map<StreamKey, StreamSink> sinks = new ConcurrentHashMap<>();
+
+    @Setter
+    private volatile StreamReceiver streamReceiver;
+
+    public void register(DefaultPacketListenerRegistry packetListenerRegistry) {
+        packetListenerRegistry.registerPacketListener(new PacketListener<StreamOpenPacket>() {
+            @Override
+            public void handle(StreamOpenPacket packet, Connection connection) {
+                open((Session) connection, packet);
+            }
+        });
+
+        packetListenerRegistry.registerPacketListener(new PacketListener<StreamChunkPacket>() {
+            @Override
+            public void handle(StreamChunkPacket packet, Connection connection) {
+                write((Session) connection, packet);
+            }
+        });
+
+        packetListenerRegistry.registerPacketListener(new PacketListener<StreamClosePacket>() {
+            @Override
+            public void handle(StreamClosePacket packet, Connection connection) {
+                close((Session) connection, packet);
+            }
+        });
+    }
+
+    @Override
+    public void onDisconnect(Session session) {
+        sinks.entrySet().removeIf(entry -> {
+            if (entry.getKey().sessionId() != session.getId()) {
+                return false;
+            }
+
+            abort(entry.getValue(), "Session disconnected");
+            return true;
+        });
+    }
+
+    private void open(Session session, StreamOpenPacket packet) {
+        StreamReceiver receiver = streamReceiver;
+        if (receiver == null) {
+            log.debug("Discarding stream '{}' of session {}: No stream receiver set", packet.getName(), session.getId());
+            return;
+        }
+
+        StreamSink sink;
+
+        try {
+            sink = receiver.open(session, packet.getName(), packet.getLength());
+        } catch (RuntimeException e) {
+            log.error("Failed to open stream '{}' of session {}", packet.getName(), session.getId(), e);
+            return;
+        }
+
+        if (sink != null) {
+            sinks.put(new StreamKey(session.getId(), packet.getStreamId()), sink);
+        }
+    }
+
+    private void write(Session session, StreamChunkPacket packet) {
+        StreamKey key = new StreamKey(session.getId(), packet.getStreamId());
+        StreamSink sink = sinks.get(key);
+        ByteBuf data = packet.getData();
+        if (sink == null || data == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = data.nioBufferCount() == 1
+                ? data.nioBuffer()
+                : ByteBuffer.wrap(ByteBufUtil.getBytes(data));
+
+            sink.write(buffer);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Aborting stream {} of session {}: Failed to write chunk", packet.getStreamId(), session.getId(), e);
+            sinks.remove(key);
+            abort(sink, "Failed to write chunk: " + e.getMessage());
+        }
+    }
+
+    private void close(Session session, StreamClosePacket packet) {
+        StreamSink sink = sinks.remove(new StreamKey(session.getId(), packet.getStreamId()));
+        if (sink == null) {
+            return;
+        }
+
+        if (packet.getAbortReason() != null) {
+            abort(sink, packet.getAbortReason());
+            return;
+        }
+
+        try {
+            sink.complete();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to complete stream {} of session {}", packet.getStreamId(), session.getId(), e);
+        }
+    }
+
+    private void abort(StreamSink sink, String reason) {
+        try {
+            sink.abort(reason);
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort stream sink", e);
+        }
+    }
+
+    private record StreamKey(long sessionId, long streamId) {
+    }
+}
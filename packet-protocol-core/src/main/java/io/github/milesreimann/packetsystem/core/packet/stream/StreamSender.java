@@ -0,0 +1,242 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends payloads as streams of chunks.
+ * <p>
+ * Every transfer runs on its own virtual thread. At most {@value #MAX_CHUNKS_IN_FLIGHT} chunks
+ * of a transfer are written at a time; the next chunk is only read from the source once one of
+ * them has been written to the socket and the session is writable. Chunks waiting for the
+ * event loop are not counted by the water marks of the channel, so the window bounds the memory
+ * of a transfer instead. Packets sent while a transfer is running are written between two chunks.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class StreamSender {
+    private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+
+    private final AbstractConnection connection;
+    private final AtomicLong nextStreamId = new AtomicLong();
+
+    public CompletableFuture<Void> send(DefaultSession session, String name, byte[] payload) {
+        return send(session, name, payload.length, new ByteArraySource(payload), null);
+    }
+
+    public CompletableFuture<Void> send(DefaultSession session, String name, InputStream inputStream) {
+        return send(session, name, -1, (target, maxLength) -> target.writeBytes(inputStream, maxLength), inputStream);
+    }
+
+    public CompletableFuture<Void> send(DefaultSession session, String name, FileChannel fileChannel) {
+        long length;
+
+        try {
+            length = fileChannel.size();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return send(session, name, length, new FileChannelSource(fileChannel, length), null);
+    }
+
+    private CompletableFuture<Void> send(
+        DefaultSession session,
+        String name,
+        long length,
+        ChunkSource source,
+        Closeable closeable
+    ) {
+        long streamId = nextStreamId.incrementAndGet();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Thread.ofVirtual().name("packet-stream-" + streamId).start(() -> {
+            try {
+                transfer(session, streamId, name, length, source).whenComplete((_, cause) -> {
+                    if (cause != null) {
+                        result.completeExceptionally(cause);
+                    } else {
+                        result.complete(null);
+                    }
+                });
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+
+                log.warn("Aborting stream {} '{}' to session {}", streamId, name, session.getId(), e);
+                abort(session, streamId, e);
+                result.completeExceptionally(e);
+            } finally {
+                closeQuietly(closeable);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Writes all chunks of the stream.
+     *
+     * @return the future of the packet closing the stream
+     */
+    private CompletableFuture<Void> transfer(
+        DefaultSession session,
+        long streamId,
+        String name,
+        long length,
+        ChunkSource source
+    ) throws IOException, InterruptedException {
+        Channel channel = session.getChannel();
+        int chunkSize = connection.getOptions().getStreamChunkSize();
+        Semaphore chunksInFlight = new Semaphore(MAX_CHUNKS_IN_FLIGHT);
+
+        write(channel, new StreamOpenPacket(streamId, name, length));
+
+        while (true) {
+            // Failed writes complete as well, so a closed channel never leaves the transfer waiting here
+            chunksInFlight.acquire();
+            awaitWritable(session);
+
+            ByteBuf chunk = channel.alloc().ioBuffer(chunkSize);
+            int read;
+
+            try {
+                read = source.read(chunk, chunkSize);
+            } catch (IOException | RuntimeException e) {
+                chunk.release();
+                throw e;
+            }
+
+            if (read <= 0) {
+                chunk.release();
+                chunksInFlight.release();
+
+                if (read < 0) {
+                    break;
+                }
+
+                continue;
+            }
+
+            // The chunk is owned by the sender, so it is released once it has been written
+            write(channel, new StreamChunkPacket(streamId, chunk)).whenComplete((_, _) -> {
+                chunk.release();
+                chunksInFlight.release();
+            });
+        }
+
+        return write(channel, new StreamClosePacket(streamId, null));
+    }
+
+    private void awaitWritable(DefaultSession session) throws InterruptedException, ClosedChannelException {
+        // The session signals both a change of writability and the channel becoming inactive
+        if (!session.awaitWritable(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    private void abort(DefaultSession session, long streamId, Exception cause) {
+        if (!session.isConnected()) {
+            return;
+        }
+
+        String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        write(session.getChannel(), new StreamClosePacket(streamId, reason));
+    }
+
+    private CompletableFuture<Void> write(Channel channel, Packet packet) {
+        // Stream packets are internal, so they are identified on behalf of the caller
+        if (connection.getOptions().getHeaderMode() == HeaderMode.UUID) {
+            connection.getPacketCodec().assignUniqueId(packet);
+        }
+
+        return NettyUtils.toCompletableFuture(channel.writeAndFlush(packet));
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("Failed to close stream source", e);
+        }
+    }
+
+    /**
+     * Source of the chunks of a stream.
+     */
+    @FunctionalInterface
+    private interface ChunkSource {
+        /**
+         * Reads up to {@code maxLength} bytes into the target.
+         *
+         * @return the number of bytes read, or {@code -1} once the source is exhausted
+         */
+        int read(ByteBuf target, int maxLength) throws IOException;
+    }
+
+    @RequiredArgsConstructor
+    private static class ByteArraySource implements ChunkSource {
+        private final byte[] payload;
+        private int position;
+
+        @Override
+        public int read(ByteBuf target, int maxLength) {
+            int length = Math.min(maxLength, payload.length - position);
+            if (length == 0) {
+                return -1;
+            }
+
+            target.writeBytes(payload, position, length);
+            position += length;
+            return length;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class FileChannelSource implements ChunkSource {
+        private final FileChannel fileChannel;
+        private final long length;
+        private long position;
+
+        @Override
+        public int read(ByteBuf target, int maxLength) throws IOException {
+            int remaining = (int) Math.min(maxLength, length - position);
+            if (remaining == 0) {
+                return -1;
+            }
+
+            int read = target.writeBytes(fileChannel, position, remaining);
+            if (read > 0) {
+                position += read;
+            }
+
+            return read;
+        }
+    }
+}
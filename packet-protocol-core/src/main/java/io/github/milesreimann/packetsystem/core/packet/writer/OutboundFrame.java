@@ -0,0 +1,36 @@
+package io.github.milesreimann.packetsystem.core.packet.writer;
+
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.core.pipeline.WriteScheduler;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import lombok.Getter;
+
+/**
+ * Encoded frame of a packet that is written to several channels at once.
+ * <p>
+ * Once encoded, a frame no longer tells which packet it holds, so the frame carries the
+ * scheduling attributes of its packet to the {@link WriteScheduler} of every channel. The
+ * scheduler hands on the plain frame. Duplicates keep the attributes.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Getter
+public class OutboundFrame extends DefaultByteBufHolder {
+    private final PacketPriority priority;
+    // The conflation key of the packet, or null if it is not conflated
+    private final Object conflationKey;
+
+    public OutboundFrame(ByteBuf frame, PacketPriority priority, Object conflationKey) {
+        super(frame);
+        this.priority = priority;
+        this.conflationKey = conflationKey;
+    }
+
+    @Override
+    public OutboundFrame replace(ByteBuf content) {
+        return new OutboundFrame(content, priority, conflationKey);
+    }
+}
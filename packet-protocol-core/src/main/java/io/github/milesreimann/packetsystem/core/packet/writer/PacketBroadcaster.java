@@ -0,0 +1,154 @@
+package io.github.milesreimann.packetsystem.core.packet.writer;
+
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.packet.codec.DefaultPacketCodec;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
+import io.github.milesreimann.packetsystem.core.pipeline.WriteScheduler;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.github.milesreimann.packetsystem.core.session.SessionRegistry;
+import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.group.ChannelMatcher;
+import io.netty.util.ReferenceCountUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes packets to multiple sessions at once.
+ * <p>
+ * Each packet is encoded into a frame only once; every target channel receives a retained
+ * duplicate of that frame, so the cost of serialization does not grow with the number of
+ * targets. All targets observe the same packet identifier. Frames are wrapped into an
+ * {@link OutboundFrame}, so they are still scheduled with the priority of their packet
+ * and conflated by its key. Frames are allocated by the allocator of a target channel.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class PacketBroadcaster {
+    private final DefaultPacketCodec packetCodec;
+    private final SessionRegistry sessionRegistry;
+    private final PacketWriter packetWriter;
+    private final ConflationRegistry conflationRegistry;
+
+    public void broadcast(Packet packet, ChannelMatcher matcher) {
+        if (sessionRegistry.isEmpty()) {
+            return;
+        }
+
+        OutboundFrame frame = encodeFrame(packet, allocator(sessionRegistry.getSessions()));
+
+        // The group writes a retained duplicate to every matching channel and releases the frame afterwards
+        sessionRegistry.getChannels().writeAndFlush(frame, matcher, true);
+    }
+
+    public CompletableFuture<Void> broadcastAsync(Packet packet, ChannelMatcher matcher) {
+        if (sessionRegistry.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        OutboundFrame frame = encodeFrame(packet, allocator(sessionRegistry.getSessions()));
+        return NettyUtils.toCompletableFuture(sessionRegistry.getChannels().writeAndFlush(frame, matcher));
+    }
+
+    public void broadcastAll(Collection<? extends Packet> packets, Collection<DefaultSession> sessions) {
+        if (packets.isEmpty() || sessions.isEmpty()) {
+            return;
+        }
+
+        ByteBufAllocator allocator = allocator(sessions);
+        List<OutboundFrame> frames = new ArrayList<>(packets.size());
+
+        try {
+            for (Packet packet : packets) {
+                frames.add(encodeFrame(packet, allocator));
+            }
+
+            for (DefaultSession session : sessions) {
+                writeDuplicates(session, frames);
+            }
+        } finally {
+            frames.forEach(ReferenceCountUtil::safeRelease);
+        }
+    }
+
+    /**
+     * Writes the packet to the channels of the given sessions. Session identifiers are only unique
+     * per connection, so sessions of other connections are rejected instead of looked up by their identifier.
+     *
+     * @throws IllegalArgumentException if a session does not belong to the connection of this broadcaster
+     */
+    public void multicast(Packet packet, Collection<? extends Session> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        List<DefaultSession> targets = new ArrayList<>(sessions.size());
+        for (Session session : sessions) {
+            if (!(session instanceof DefaultSession target) || target.getConnection() != sessionRegistry.getConnection()) {
+                throw new IllegalArgumentException("Session " + session.getId() + " does not belong to this connection");
+            }
+
+            // Disconnected sessions are skipped
+            if (target.getChannel().isActive()) {
+                targets.add(target);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        OutboundFrame frame = encodeFrame(packet, allocator(targets));
+
+        try {
+            for (DefaultSession target : targets) {
+                packetWriter.writeFrame(target.getChannel(), frame.retainedDuplicate());
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+    private void writeDuplicates(DefaultSession session, List<OutboundFrame> frames) {
+        List<OutboundFrame> duplicates = new ArrayList<>(frames.size());
+        boolean handedOver = false;
+
+        try {
+            for (OutboundFrame frame : frames) {
+                duplicates.add(frame.retainedDuplicate());
+            }
+
+            packetWriter.writeFrames(session.getChannel(), duplicates);
+            handedOver = true;
+        } finally {
+            // E.g. the event loop of the channel rejected the write
+            if (!handedOver) {
+                duplicates.forEach(ReferenceCountUtil::safeRelease);
+            }
+        }
+    }
+
+    private OutboundFrame encodeFrame(Packet packet, ByteBufAllocator allocator) {
+        ByteBuf frame = packetCodec.encodeFrame(packet, allocator);
+        return new OutboundFrame(frame, WriteScheduler.resolvePriority(packet), conflationRegistry.getKey(packet));
+    }
+
+    /**
+     * The channels of a connection share their allocator, so the frame shared by all targets is
+     * allocated by the allocator of any of them.
+     */
+    private static ByteBufAllocator allocator(Collection<DefaultSession> sessions) {
+        Iterator<DefaultSession> iterator = sessions.iterator();
+        return iterator.hasNext() ? iterator.next().getChannel().alloc() : ByteBufAllocator.DEFAULT;
+    }
+}
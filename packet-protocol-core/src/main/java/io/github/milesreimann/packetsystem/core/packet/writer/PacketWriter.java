@@ -0,0 +1,123 @@
+package io.github.milesreimann.packetsystem.core.packet.writer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.core.connection.model.FlushPolicy;
+import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes packets to a channel according to the {@link FlushPolicy} of the connection.
+ * <p>
+ * Batches sent from outside the event loop are handed over as a single task, so they cost
+ * one cross-thread hand-off instead of one per packet. Already encoded frames are written the
+ * same way and bypass the packet encoder of the channel.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class PacketWriter {
+    private final FlushPolicy flushPolicy;
+
+    public void write(Channel channel, Packet packet) {
+        channel.writeAndFlush(packet, channel.voidPromise());
+    }
+
+    public CompletableFuture<Void> writeAsync(Channel channel, Packet packet) {
+        return NettyUtils.toCompletableFuture(channel.writeAndFlush(packet));
+    }
+
+    public void writeAll(Channel channel, Collection<? extends Packet> packets) {
+        writeAll0(channel, packets);
+    }
+
+    /**
+     * Writes an encoded frame. Ownership of the frame passes to the channel.
+     */
+    public void writeFrame(Channel channel, OutboundFrame frame) {
+        channel.writeAndFlush(frame, channel.voidPromise());
+    }
+
+    /**
+     * Writes encoded frames in the given order. Ownership of the frames passes to the channel.
+     */
+    public void writeFrames(Channel channel, List<OutboundFrame> frames) {
+        writeAll0(channel, frames);
+    }
+
+    /**
+     * Writes encoded frames in the given order and flushes them once, regardless of the flush policy.
+     * Ownership of the frames passes to the channel, and they are removed from the list once
+     * handed over. If writing fails part-way, the list holds the frames still owned by the caller.
+     */
+    public void writeFramesBatched(Channel channel, List<ByteBuf> frames) {
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        EventLoop eventLoop = channel.eventLoop();
+        if (!eventLoop.inEventLoop()) {
+            List<ByteBuf> snapshot = List.copyOf(frames);
+            eventLoop.execute(() -> writeBatchInEventLoop(channel, snapshot));
+            frames.clear();
+            return;
+        }
+
+        int handedOver = 0;
+
+        try {
+            for (ByteBuf frame : frames) {
+                // Counted before the write, since a failed write may already have released the frame
+                handedOver++;
+                channel.write(frame, channel.voidPromise());
+            }
+        } finally {
+            frames.subList(0, handedOver).clear();
+        }
+
+        channel.flush();
+    }
+
+    private void writeAll0(Channel channel, Collection<?> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            writeInEventLoop(channel, messages);
+            return;
+        }
+
+        List<?> snapshot = List.copyOf(messages);
+        eventLoop.execute(() -> writeInEventLoop(channel, snapshot));
+    }
+
+    private void writeInEventLoop(Channel channel, Collection<?> messages) {
+        if (flushPolicy == FlushPolicy.IMMEDIATE) {
+            for (Object message : messages) {
+                channel.writeAndFlush(message, channel.voidPromise());
+            }
+
+            return;
+        }
+
+        writeBatchInEventLoop(channel, messages);
+    }
+
+    private void writeBatchInEventLoop(Channel channel, Collection<?> messages) {
+        for (Object message : messages) {
+            channel.write(message, channel.voidPromise());
+        }
+
+        channel.flush();
+    }
+}
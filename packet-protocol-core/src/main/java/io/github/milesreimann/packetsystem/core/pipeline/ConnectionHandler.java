@@ -2,17 +2,26 @@ package io.github.milesreimann.packetsystem.core.pipeline;
 
 import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
-import io.netty.channel.Channel;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchExecutors;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchTask;
+import io.github.milesreimann.packetsystem.core.packet.stream.StreamChunkPacket;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import lombok.Getter;
+import io.netty.handler.codec.DecoderException;
 import lombok.RequiredArgsConstructor;
 
-
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
+ * Shared inbound handler of all channels of a connection.
+ * <p>
+ * The handler itself is stateless; all per-channel state lives in the {@link DefaultSession}
+ * registered for the channel.
+ * </p>
+ *
  * @author Miles
  * @since 28.08.25
  */
@@ -20,33 +29,94 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class ConnectionHandler extends SimpleChannelInboundHandler<Packet> {
     private final AbstractConnection connection;
-    private final Consumer<ConnectionHandler> channelActiveCallback;
-
-    @Getter
-    private Channel channel;
+    private final Consumer<DefaultSession> sessionActiveCallback;
 
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
-        this.channel = ctx.channel();
-        channelActiveCallback.accept(this);
+        connection.getSessionRegistry().register(ctx.channel(), sessionActiveCallback);
 
         super.channelActive(ctx);
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-        this.channel = null;
+        connection.getSessionRegistry().unregister(ctx.channel());
         super.channelInactive(ctx);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        connection.getSessionRegistry().writabilityChanged(ctx.channel());
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
     protected void channelRead0(ChannelHandlerContext ctx, Packet packet) {
-        connection.getPacketListenerRegistry().getPacketListeners(packet.getClass()).forEach(listener -> listener.handle(packet, connection));
+        DefaultSession session = connection.getSessionRegistry().getSession(ctx.channel());
+        if (session == null) {
+            packet.releaseResources();
+            return;
+        }
+
+        Executor executor = connection.getPacketListenerRegistry().getDispatchExecutor(packet.getClass());
+
+        // Responses to pending requests bypass the packet listeners
+        if (connection.getPendingRequests().complete(session, packet, executor)) {
+            return;
+        }
+
+        if (executor == DispatchExecutors.INLINE) {
+            dispatch(session, packet);
+            return;
+        }
+
+        // Stream chunks hold a slice of their frame until handled, so they count against the receive window of the session
+        int streamBytes = packet instanceof StreamChunkPacket chunk && chunk.getData() != null ? chunk.getData().readableBytes() : 0;
+        if (streamBytes > 0) {
+            session.streamDataQueued(streamBytes);
+        }
+
+        try {
+            session.getSerialExecutor(executor).execute(DispatchTask.of(
+                () -> {
+                    try {
+                        dispatch(session, packet);
+                    } finally {
+                        session.streamDataHandled(streamBytes);
+                    }
+                },
+                () -> {
+                    packet.releaseResources();
+                    session.streamDataHandled(streamBytes);
+                }
+            ));
+        } catch (RuntimeException e) {
+            packet.releaseResources();
+            session.streamDataHandled(streamBytes);
+            throw e;
+        }
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        // After a failed decode, the position of the next frame is unknown
+        if (cause instanceof DecoderException) {
+            connection.getLogger().error("Closing channel {} after a decoding failure", ctx.channel(), cause);
+            ctx.close();
+            return;
+        }
+
         connection.getLogger().error(cause);
     }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(DefaultSession session, Packet packet) {
+        try {
+            connection.getPacketListenerRegistry().getPacketListeners(packet.getClass()).forEach(listener -> listener.handle(packet, session));
+        } catch (RuntimeException e) {
+            connection.getLogger().error("Failed to handle packet '{}'", packet.getClass().getName(), e);
+        } finally {
+            packet.releaseResources();
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.github.milesreimann.packetsystem.core.packet.codec.compression.FrameCompressor;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Decompresses frames flagged as compressed and strips the compression flag of all other frames.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class FrameDecompressor extends MessageToMessageDecoder<ByteBuf> {
+    private final FrameCompressor frameCompressor;
+    private final int maxUncompressedLength;
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf frame, List<Object> list) {
+        if (!frame.isReadable()) {
+            return;
+        }
+
+        byte flag = frame.readByte();
+        if (flag == FrameCompressor.FLAG_UNCOMPRESSED) {
+            list.add(frame.retain());
+            return;
+        }
+
+        if (flag != FrameCompressor.FLAG_COMPRESSED) {
+            throw new CorruptedFrameException("Unknown compression flag: " + flag);
+        }
+
+        // The length is left in the frame for the compressor, which reads it again
+        int lengthIndex = frame.readerIndex();
+        int uncompressedLength = VarInts.readVarInt(frame);
+        frame.readerIndex(lengthIndex);
+
+        if (uncompressedLength < 0 || uncompressedLength > maxUncompressedLength) {
+            throw new CorruptedFrameException("Invalid uncompressed frame length: " + uncompressedLength);
+        }
+
+        // Limited to the declared length, so a frame cannot decompress into more memory than it announced
+        ByteBuf uncompressed = ctx.alloc().ioBuffer(uncompressedLength, uncompressedLength);
+
+        try {
+            frameCompressor.decompress(frame, uncompressed, uncompressedLength);
+        } catch (RuntimeException e) {
+            uncompressed.release();
+            throw e;
+        }
+
+        list.add(uncompressed);
+    }
+}
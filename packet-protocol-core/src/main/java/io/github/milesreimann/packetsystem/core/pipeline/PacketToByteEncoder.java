@@ -3,31 +3,39 @@ package io.github.milesreimann.packetsystem.core.pipeline;
 import io.github.milesreimann.packetsystem.api.packet.Packet;
 import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
 import io.github.milesreimann.packetsystem.core.exception.PacketEncodeException;
-import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.List;
+import java.util.function.LongSupplier;
+
 /**
+ * Encodes packets into complete frames, including their length prefix.
+ * <p>
+ * Every channel has its own encoder, so sequence identifiers are counted per channel.
+ * </p>
+ *
  * @author Miles
  * @since 28.08.25
  */
 @RequiredArgsConstructor
 @Log4j2
-public class PacketToByteEncoder extends MessageToByteEncoder<Packet> {
+public class PacketToByteEncoder extends MessageToMessageEncoder<Packet> {
     private final AbstractConnection connection;
 
-    @Override
-    protected void encode(ChannelHandlerContext ctx, Packet packet, ByteBuf byteBuf) {
-        if (packet == null) {
-            return;
-        }
+    // Only accessed from the event loop of the channel
+    private long sequence;
+    private final LongSupplier nextSequence = () -> ++sequence;
 
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Packet packet, List<Object> list) {
         try {
-            connection.getPacketCodec().encode(packet, byteBuf);
+            list.add(connection.getPacketCodec().encodeFrame(packet, ctx.alloc(), nextSequence));
         } catch (PacketEncodeException e) {
             log.error("Failed to encode packet '{}'", packet.getUniqueId(), e);
+            throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package io.github.milesreimann.packetsystem.core.pipeline;
 
 import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.CompressionAlgorithm;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.FlushPolicy;
+import io.github.milesreimann.packetsystem.core.connection.model.WireFormat;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
-import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -13,10 +17,12 @@ import lombok.NoArgsConstructor;
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Pipeline {
+    private static final String FLUSH_CONSOLIDATOR = "flushConsolidator";
     private static final String FRAME_DECODER = "frameDecoder";
+    private static final String FRAME_DECOMPRESSOR = "frameDecompressor";
     private static final String PACKET_DECODER = "packetDecoder";
-    private static final String FRAME_PREPENDER = "framePrepender";
     private static final String PACKET_ENCODER = "packetEncoder";
+    private static final String WRITE_SCHEDULER = "writeScheduler";
     private static final String CONNECTION_HANDLER = "connectionHandler";
 
     public static void init(
@@ -24,10 +30,32 @@ public class Pipeline {
         ChannelPipeline pipeline,
         ConnectionHandler connectionHandler
     ) {
-        pipeline.addLast(FRAME_DECODER, new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, 0, 4, 0, 4));
+        ConnectionOptions options = connection.getOptions();
+        boolean compact = options.getWireFormat() == WireFormat.COMPACT;
+
+        if (options.getFlushPolicy() == FlushPolicy.CONSOLIDATED) {
+            pipeline.addLast(FLUSH_CONSOLIDATOR, new FlushConsolidationHandler(options.getFlushConsolidationLimit(), true));
+        }
+
+        int maxFrameLength = options.getMaxFrameLength();
+        pipeline.addLast(FRAME_DECODER, compact
+            ? new VarIntFrameDecoder(maxFrameLength)
+            : new LengthFieldBasedFrameDecoder(maxFrameLength + Integer.BYTES, 0, Integer.BYTES, 0, Integer.BYTES));
+
+        // Outbound frames are compressed by the packet encoder, so a broadcast is compressed only once
+        if (options.getCompression() != CompressionAlgorithm.NONE) {
+            pipeline.addLast(FRAME_DECOMPRESSOR, new FrameDecompressor(
+                connection.getFrameCompressor(),
+                options.getMaxUncompressedFrameLength()
+            ));
+        }
+
         pipeline.addLast(PACKET_DECODER, new ByteToPacketDecoder(connection));
-        pipeline.addLast(FRAME_PREPENDER, new LengthFieldPrepender(4));
         pipeline.addLast(PACKET_ENCODER, new PacketToByteEncoder(connection));
+
+        // Packets are scheduled before they are encoded, so their priority and conflation key are still known
+        pipeline.addLast(WRITE_SCHEDULER, new WriteScheduler(options, connection.getConflationRegistry()));
+
         pipeline.addLast(CONNECTION_HANDLER, connectionHandler);
     }
 }
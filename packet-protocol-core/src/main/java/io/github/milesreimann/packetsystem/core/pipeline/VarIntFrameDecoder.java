@@ -0,0 +1,97 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Splits the inbound stream into frames prefixed with their length as VarInt.
+ * <p>
+ * A frame exceeding the maximum length is discarded, including the part that has not been
+ * received yet, so the next frame is read from its length again. A malformed length cannot
+ * be recovered from, since the start of the next frame is unknown; the channel is closed and
+ * all further input is ignored.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class VarIntFrameDecoder extends ByteToMessageDecoder {
+    private final int maxFrameLength;
+    private long bytesToDiscard;
+    private boolean corrupted;
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> list) {
+        if (corrupted) {
+            byteBuf.skipBytes(byteBuf.readableBytes());
+            return;
+        }
+
+        if (bytesToDiscard > 0) {
+            discard(byteBuf);
+            if (bytesToDiscard > 0) {
+                return;
+            }
+        }
+
+        int readerIndex = byteBuf.readerIndex();
+        int length = 0;
+
+        for (int i = 0; i < VarInts.MAX_VAR_INT_BYTES; i++) {
+            if (!byteBuf.isReadable()) {
+                byteBuf.readerIndex(readerIndex);
+                return;
+            }
+
+            byte b = byteBuf.readByte();
+            length |= (b & 0x7F) << (i * 7);
+
+            if (b >= 0) {
+                readFrame(ctx, byteBuf, readerIndex, length, list);
+                return;
+            }
+        }
+
+        throw corrupted(ctx, byteBuf, "Frame length is longer than " + VarInts.MAX_VAR_INT_BYTES + " bytes");
+    }
+
+    private void readFrame(ChannelHandlerContext ctx, ByteBuf byteBuf, int readerIndex, int length, List<Object> list) {
+        if (length < 0) {
+            throw corrupted(ctx, byteBuf, "Negative frame length: " + length);
+        }
+
+        if (length > maxFrameLength) {
+            bytesToDiscard = length;
+            discard(byteBuf);
+            throw new TooLongFrameException("Frame length " + length + " exceeds the maximum of " + maxFrameLength);
+        }
+
+        if (byteBuf.readableBytes() < length) {
+            byteBuf.readerIndex(readerIndex);
+            return;
+        }
+
+        list.add(byteBuf.readRetainedSlice(length));
+    }
+
+    private void discard(ByteBuf byteBuf) {
+        int discarded = (int) Math.min(bytesToDiscard, byteBuf.readableBytes());
+        byteBuf.skipBytes(discarded);
+        bytesToDiscard -= discarded;
+    }
+
+    private CorruptedFrameException corrupted(ChannelHandlerContext ctx, ByteBuf byteBuf, String message) {
+        corrupted = true;
+        byteBuf.skipBytes(byteBuf.readableBytes());
+        ctx.close();
+        return new CorruptedFrameException(message);
+    }
+}
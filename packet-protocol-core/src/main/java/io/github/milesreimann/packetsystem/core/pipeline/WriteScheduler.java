@@ -0,0 +1,283 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.api.packet.Priority;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
+import io.github.milesreimann.packetsystem.core.packet.writer.OutboundFrame;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Schedules the outbound packets of a channel while its outbound buffer is full.
+ * <p>
+ * While the channel is writable and nothing is queued, writes pass straight through. Once the
+ * outbound buffer of the channel is full, writes are queued until the channel is flushed or
+ * becomes writable again. Pending packets of a {@link ConflationRegistry conflated} type are
+ * replaced in place by newer packets with the same key, so a slow channel only ever holds
+ * the latest value per key. A replaced packet counts as written. The replacement keeps the
+ * slot of the pending packet, even if it would have been queued in another lane.
+ * </p>
+ *
+ * <p>
+ * With {@link ConnectionOptions#isPriorityScheduling() priority scheduling}, writes are queued
+ * in one lane per {@link PacketPriority} and written in weighted round-robin order. Every
+ * round, each lane may write as many packets as its weight, higher lanes first, so urgent
+ * packets overtake queued bulk traffic while every lane keeps a guaranteed share. Broadcast
+ * frames keep the priority of their packet through their {@link OutboundFrame}, while frames
+ * of the backlog are sent with normal priority.
+ * </p>
+ *
+ * <p>
+ * While the scheduler is {@link #pause() paused}, all writes are queued, so a backlog replayed
+ * with {@link #writeUnscheduled(Object)} is not overtaken by packets sent in the meantime.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class WriteScheduler extends ChannelDuplexHandler {
+    private static final ClassValue<PacketPriority> TYPE_PRIORITIES = new ClassValue<>() {
+        @Override
+        protected PacketPriority computeValue(Class<?> type) {
+            Priority priority = type.getAnnotation(Priority.class);
+            return priority != null ? priority.value() : PacketPriority.NORMAL;
+        }
+    };
+
+    private final ConflationRegistry conflationRegistry;
+    private final boolean priorityScheduling;
+
+    // Indexed by the ordinal of the priority, highest first
+    private final Lane[] lanes;
+    // Pending writes by their conflation key, across all lanes
+    private final Map<Object, PendingWrite> conflatedWrites = new HashMap<>();
+    private int queuedCount;
+    private ChannelHandlerContext ctx;
+    private boolean paused;
+
+    public WriteScheduler(ConnectionOptions options, ConflationRegistry conflationRegistry) {
+        this.conflationRegistry = conflationRegistry;
+        this.priorityScheduling = options.isPriorityScheduling();
+        this.lanes = new Lane[]{
+            new Lane(options.getHighPriorityWeight()),
+            new Lane(options.getNormalPriorityWeight()),
+            new Lane(options.getLowPriorityWeight())
+        };
+    }
+
+    /**
+     * Queues all writes until {@link #resume()} is called, except those passed to
+     * {@link #writeUnscheduled(Object)}. Must be called on the event loop of the channel.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Writes the queued packets again. Must be called on the event loop of the channel.
+     */
+    public void resume() {
+        paused = false;
+
+        if (queuedCount > 0) {
+            drain(ctx);
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Writes the message past this scheduler, even while it is paused. Must be called on the event loop of the channel.
+     */
+    public ChannelFuture writeUnscheduled(Object msg) {
+        return ctx.write(msg);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        // The transport only accepts the plain frame
+        Object unwrapped = msg instanceof OutboundFrame frame ? frame.content() : msg;
+
+        if (!paused && queuedCount == 0 && ctx.channel().isWritable()) {
+            ctx.write(unwrapped, promise);
+            return;
+        }
+
+        Object key = conflationKeyOf(msg);
+        if (key != null) {
+            PendingWrite pending = conflatedWrites.get(key);
+
+            if (pending != null) {
+                ReferenceCountUtil.safeRelease(pending.msg);
+
+                if (!pending.promise.isVoid()) {
+                    pending.promise.trySuccess();
+                }
+
+                pending.msg = unwrapped;
+                pending.promise = promise;
+                return;
+            }
+        }
+
+        PendingWrite write = new PendingWrite(unwrapped, promise, key);
+        lanes[priorityOf(msg).ordinal()].writes.add(write);
+        queuedCount++;
+
+        if (key != null) {
+            conflatedWrites.put(key, write);
+        }
+    }
+
+    /**
+     * Resolves the priority of a packet, which is either set on the packet itself or declared by its type.
+     */
+    public static PacketPriority resolvePriority(Packet packet) {
+        PacketPriority priority = packet.getPriority();
+        return priority != null ? priority : TYPE_PRIORITIES.get(packet.getClass());
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        drain(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!paused && queuedCount > 0 && ctx.channel().isWritable()) {
+            drain(ctx);
+            ctx.flush();
+        }
+
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        discardAll(new ClosedChannelException());
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        // Queued packets are handed on unscheduled, so none of them is lost
+        for (Lane lane : lanes) {
+            PendingWrite write;
+
+            while ((write = lane.writes.poll()) != null) {
+                ctx.write(write.msg, write.promise);
+            }
+        }
+
+        conflatedWrites.clear();
+        queuedCount = 0;
+        ctx.flush();
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        while (!paused && queuedCount > 0 && ctx.channel().isWritable()) {
+            PendingWrite write = nextLane().writes.poll();
+            if (write.key != null) {
+                conflatedWrites.remove(write.key);
+            }
+
+            ctx.write(write.msg, write.promise);
+            queuedCount--;
+        }
+    }
+
+    /**
+     * Picks the highest non-empty lane with credits left. Once all non-empty lanes have used up
+     * their credits, a new round starts. Must only be called while packets are queued.
+     */
+    private Lane nextLane() {
+        while (true) {
+            for (Lane lane : lanes) {
+                if (lane.credits > 0 && !lane.writes.isEmpty()) {
+                    lane.credits--;
+                    return lane;
+                }
+            }
+
+            for (Lane lane : lanes) {
+                lane.credits = lane.weight;
+            }
+        }
+    }
+
+    private void discardAll(Throwable cause) {
+        for (Lane lane : lanes) {
+            PendingWrite write;
+
+            while ((write = lane.writes.poll()) != null) {
+                ReferenceCountUtil.safeRelease(write.msg);
+
+                if (!write.promise.isVoid()) {
+                    write.promise.tryFailure(cause);
+                }
+            }
+        }
+
+        conflatedWrites.clear();
+        queuedCount = 0;
+    }
+
+    private PacketPriority priorityOf(Object msg) {
+        if (!priorityScheduling) {
+            return PacketPriority.NORMAL;
+        }
+
+        return switch (msg) {
+            case Packet packet -> resolvePriority(packet);
+            case OutboundFrame frame -> frame.getPriority();
+            default -> PacketPriority.NORMAL;
+        };
+    }
+
+    private Object conflationKeyOf(Object msg) {
+        return switch (msg) {
+            case Packet packet -> conflationRegistry.getKey(packet);
+            case OutboundFrame frame -> frame.getConflationKey();
+            default -> null;
+        };
+    }
+
+    private static class PendingWrite {
+        private final Object key;
+        private Object msg;
+        private ChannelPromise promise;
+
+        private PendingWrite(Object msg, ChannelPromise promise, Object key) {
+            this.msg = msg;
+            this.promise = promise;
+            this.key = key;
+        }
+    }
+
+    private static class Lane {
+        private final int weight;
+        private final Queue<PendingWrite> writes = new ArrayDeque<>();
+        private int credits;
+
+        private Lane(int weight) {
+            this.weight = weight;
+            this.credits = weight;
+        }
+    }
+}
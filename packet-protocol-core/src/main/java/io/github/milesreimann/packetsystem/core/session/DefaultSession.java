@@ -0,0 +1,285 @@
+package io.github.milesreimann.packetsystem.core.session;
+
+import io.github.milesreimann.packetsystem.api.connection.Connection;
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.connection.SessionListener;
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.listener.PacketListenerRegistry;
+import io.github.milesreimann.packetsystem.api.packet.registry.PacketRegistry;
+import io.github.milesreimann.packetsystem.api.stream.StreamReceiver;
+import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.SerialExecutor;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
+import io.netty.channel.Channel;
+import lombok.Getter;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.channels.FileChannel;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Session bound to a single channel of an {@link AbstractConnection}.
+ * <p>
+ * Registries, codecs and the packet writer are shared with the parent connection, so a session
+ * only holds its channel, its identifier and its attributes.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public class DefaultSession implements Session {
+    @Getter
+    private final long id;
+    @Getter
+    private final Channel channel;
+    @Getter
+    private final AbstractConnection connection;
+    @Getter
+    private final String host;
+    @Getter
+    private final int port;
+    private final PacketWriter packetWriter;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Lock writabilityLock = new ReentrantLock();
+    private final Condition writabilityChanged = writabilityLock.newCondition();
+
+    // Only accessed from the event loop of the channel, so a plain map is sufficient
+    private final Map<Executor, SerialExecutor> serialExecutors = new IdentityHashMap<>();
+    private final AtomicLong queuedStreamBytes = new AtomicLong();
+
+    public DefaultSession(long id, Channel channel, AbstractConnection connection, PacketWriter packetWriter) {
+        this.id = id;
+        this.channel = channel;
+        this.connection = connection;
+        this.packetWriter = packetWriter;
+
+        SocketAddress remoteAddress = channel.remoteAddress();
+        if (remoteAddress instanceof InetSocketAddress inetSocketAddress) {
+            this.host = inetSocketAddress.getHostString();
+            this.port = inetSocketAddress.getPort();
+        } else {
+            this.host = String.valueOf(remoteAddress);
+            this.port = -1;
+        }
+    }
+
+    @Override
+    public void open() {
+        // The session is opened by its peer connecting
+    }
+
+    @Override
+    public CompletableFuture<Void> openAsync() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void close() {
+        channel.close();
+    }
+
+    @Override
+    public void sendPacket(Packet packet) {
+        packetWriter.write(channel, packet);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendPacketAsync(Packet packet) {
+        return packetWriter.writeAsync(channel, packet);
+    }
+
+    @Override
+    public <R extends Packet> CompletableFuture<R> request(Packet request, Class<R> responseClass, long timeout, TimeUnit unit) {
+        return connection.request(this, request, responseClass, timeout, unit);
+    }
+
+    @Override
+    public void sendPackets(Collection<? extends Packet> packets) {
+        packetWriter.writeAll(channel, packets);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendStream(String name, byte[] payload) {
+        return connection.getStreamSender().send(this, name, payload);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendStream(String name, InputStream inputStream) {
+        return connection.getStreamSender().send(this, name, inputStream);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendStream(String name, FileChannel fileChannel) {
+        return connection.getStreamSender().send(this, name, fileChannel);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel.isActive();
+    }
+
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
+    @Override
+    public boolean awaitWritable(long timeout, TimeUnit unit) throws InterruptedException {
+        if (channel.isWritable()) {
+            return true;
+        }
+
+        // Writability only changes on the event loop, so waiting on it would never wake up
+        if (channel.eventLoop().inEventLoop()) {
+            throw new IllegalStateException("Cannot wait for writability on the event loop of " + this);
+        }
+
+        long remainingNanos = unit.toNanos(timeout);
+        writabilityLock.lock();
+
+        try {
+            while (!channel.isWritable()) {
+                if (!channel.isActive() || remainingNanos <= 0) {
+                    return false;
+                }
+
+                remainingNanos = writabilityChanged.awaitNanos(remainingNanos);
+            }
+
+            return true;
+        } finally {
+            writabilityLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up all threads waiting for this session to become writable. Called once the
+     * writability of the channel has changed or the channel has become inactive.
+     */
+    public void signalWritabilityChanged() {
+        writabilityLock.lock();
+
+        try {
+            writabilityChanged.signalAll();
+        } finally {
+            writabilityLock.unlock();
+        }
+    }
+
+    @Override
+    public PacketRegistry getPacketRegistry() {
+        return connection.getPacketRegistry();
+    }
+
+    @Override
+    public PacketListenerRegistry getPacketListenerRegistry() {
+        return connection.getPacketListenerRegistry();
+    }
+
+    @Override
+    public void setStreamReceiver(StreamReceiver receiver) {
+        connection.setStreamReceiver(receiver);
+    }
+
+    @Override
+    public Session getSession(long id) {
+        return connection.getSession(id);
+    }
+
+    @Override
+    public Collection<? extends Session> getSessions() {
+        return connection.getSessions();
+    }
+
+    @Override
+    public void addSessionListener(SessionListener listener) {
+        connection.addSessionListener(listener);
+    }
+
+    @Override
+    public void removeSessionListener(SessionListener listener) {
+        connection.removeSessionListener(listener);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(String key) {
+        return (T) attributes.get(key);
+    }
+
+    @Override
+    public <T> void setAttribute(String key, T value) {
+        if (value == null) {
+            attributes.remove(key);
+            return;
+        }
+
+        attributes.put(key, value);
+    }
+
+    /**
+     * Gets the executor that runs listener tasks of this session on the given executor one at a time.
+     * Must only be called from the event loop of the channel.
+     *
+     * @param executor the dispatch executor
+     * @return the serial executor of this session for the given executor
+     */
+    public SerialExecutor getSerialExecutor(Executor executor) {
+        return serialExecutors.computeIfAbsent(executor, SerialExecutor::new);
+    }
+
+    /**
+     * Counts received stream data that waits for its listener. Once the high water mark is
+     * reached, the session stops reading from its channel until enough of it has been handled.
+     * Must only be called from the event loop of the channel.
+     *
+     * @param bytes the number of queued bytes
+     */
+    public void streamDataQueued(int bytes) {
+        long queued = queuedStreamBytes.addAndGet(bytes);
+
+        if (queued >= connection.getOptions().getStreamReceiveHighWaterMark() && channel.config().isAutoRead()) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    /**
+     * Counts queued stream data that has been handled or discarded. May be called from any thread.
+     *
+     * @param bytes the number of bytes previously passed to {@link #streamDataQueued(int)}
+     */
+    public void streamDataHandled(int bytes) {
+        if (bytes == 0) {
+            return;
+        }
+
+        long lowWaterMark = connection.getOptions().getStreamReceiveLowWaterMark();
+        long queued = queuedStreamBytes.addAndGet(-bytes);
+
+        // Reading is resumed on the event loop, so it cannot race with pausing it
+        if (queued <= lowWaterMark && queued + bytes > lowWaterMark && channel.isActive()) {
+            channel.eventLoop().execute(() -> {
+                if (queuedStreamBytes.get() <= lowWaterMark && !channel.config().isAutoRead()) {
+                    channel.config().setAutoRead(true);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Session{id=" + id + ", remote=" + host + ":" + port + "}";
+    }
+}
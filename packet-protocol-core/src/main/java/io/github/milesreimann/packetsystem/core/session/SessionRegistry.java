@@ -0,0 +1,121 @@
+package io.github.milesreimann.packetsystem.core.session;
+
+import io.github.milesreimann.packetsystem.api.connection.SessionListener;
+import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Registry of all sessions connected to a connection.
+ * <p>
+ * Sessions are indexed by their identifier and attached to their channel, so both lookups
+ * are constant-time. The channels of all sessions are additionally kept in a {@link ChannelGroup}
+ * for fan-out writes.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class SessionRegistry {
+    private static final AttributeKey<DefaultSession> SESSION = AttributeKey.valueOf("session");
+
+    @Getter
+    private final AbstractConnection connection;
+    private final PacketWriter packetWriter;
+
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<Long, DefaultSession> sessions = new ConcurrentHashMap<>();
+    private final Collection<DefaultSession> sessionsView = Collections.unmodifiableCollection(sessions.values());
+    private final List<SessionListener> listeners = new CopyOnWriteArrayList<>();
+    @Getter
+    private final ChannelGroup channels = new DefaultChannelGroup("sessions", GlobalEventExecutor.INSTANCE);
+
+    /**
+     * Registers the session of a channel that has become active.
+     *
+     * @param channel        the active channel
+     * @param activeCallback called with the new session before any listener, so it can send pending packets first
+     * @return the new session
+     */
+    public DefaultSession register(Channel channel, Consumer<DefaultSession> activeCallback) {
+        DefaultSession session = new DefaultSession(nextId.incrementAndGet(), channel, connection, packetWriter);
+        channel.attr(SESSION).set(session);
+        sessions.put(session.getId(), session);
+        channels.add(channel);
+
+        activeCallback.accept(session);
+        callListeners(listener -> listener.onConnect(session));
+        return session;
+    }
+
+    public void unregister(Channel channel) {
+        DefaultSession session = channel.attr(SESSION).getAndSet(null);
+        if (session == null || sessions.remove(session.getId()) == null) {
+            return;
+        }
+
+        session.signalWritabilityChanged();
+        callListeners(listener -> listener.onDisconnect(session));
+    }
+
+    public void writabilityChanged(Channel channel) {
+        DefaultSession session = getSession(channel);
+        if (session == null) {
+            return;
+        }
+
+        boolean writable = channel.isWritable();
+        session.signalWritabilityChanged();
+        callListeners(listener -> listener.onWritabilityChanged(session, writable));
+    }
+
+    public DefaultSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    public DefaultSession getSession(Channel channel) {
+        return channel.attr(SESSION).get();
+    }
+
+    public Collection<DefaultSession> getSessions() {
+        return sessionsView;
+    }
+
+    public boolean isEmpty() {
+        return sessions.isEmpty();
+    }
+
+    public void addListener(SessionListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SessionListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void callListeners(Consumer<SessionListener> action) {
+        for (SessionListener listener : listeners) {
+            try {
+                action.accept(listener);
+            } catch (RuntimeException e) {
+                connection.getLogger().error("Session listener {} failed", listener.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.milesreimann.packetsystem.core.transport;
+
+import io.github.milesreimann.packetsystem.core.util.NettyUtils;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.IllegalReferenceCountException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Locale;
+
+/**
+ * Event loop groups borrowed by connections.
+ * <p>
+ * Connections {@link #retain() retain} the resources while they are open and release them
+ * once they are closed. The event loops are shut down when the last reference is released,
+ * so any number of connections can share a fixed set of threads.
+ * </p>
+ *
+ * <p>
+ * Connections without explicit resources borrow the {@link #acquireShared() shared} instance,
+ * which has a single boss thread and one worker thread per available processor. Its transport
+ * is selected by the {@value #SHARED_TRANSPORT_PROPERTY} system property, e.g. {@code io_uring},
+ * and defaults to {@link TransportType#AUTO}.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@Log4j2
+public final class TransportResources extends AbstractReferenceCounted {
+    public static final String SHARED_TRANSPORT_PROPERTY = "packetsystem.transport";
+
+    private static TransportResources shared;
+
+    /**
+     * The resolved transport of the event loops, never {@link TransportType#AUTO}.
+     */
+    @Getter
+    private final TransportType transportType;
+
+    @Getter
+    private final EventLoopGroup workerGroup;
+    private final int bossThreads;
+    private final String name;
+    private EventLoopGroup bossGroup;
+
+    private TransportResources(TransportType transportType, int bossThreads, int workerThreads, String name) {
+        this.transportType = transportType.resolve();
+        this.bossThreads = bossThreads;
+        this.name = name;
+        this.workerGroup = NettyUtils.createEventLoopGroup(this.transportType, workerThreads, name + "-worker");
+
+        if (this.transportType != transportType && transportType != TransportType.AUTO) {
+            log.warn("Transport {} is not available, falling back to {}", transportType, this.transportType);
+        }
+    }
+
+    /**
+     * Creates new resources with the given number of threads. The caller owns the initial reference.
+     *
+     * @param bossThreads   the number of threads accepting inbound connections of servers
+     * @param workerThreads the number of threads handling the I/O of all channels
+     * @return the new resources
+     */
+    public static TransportResources create(int bossThreads, int workerThreads) {
+        return create(TransportType.AUTO, bossThreads, workerThreads);
+    }
+
+    /**
+     * Creates new resources on the given transport with the given number of threads. The caller owns the initial reference.
+     *
+     * @param transportType the preferred transport, falls back to the automatically selected one if unavailable
+     * @param bossThreads   the number of threads accepting inbound connections of servers
+     * @param workerThreads the number of threads handling the I/O of all channels
+     * @return the new resources
+     */
+    public static TransportResources create(TransportType transportType, int bossThreads, int workerThreads) {
+        if (bossThreads < 1 || workerThreads < 1) {
+            throw new IllegalArgumentException("Thread counts must be positive");
+        }
+
+        return new TransportResources(transportType, bossThreads, workerThreads, "packet-transport");
+    }
+
+    /**
+     * Acquires a reference to the process-wide shared resources, creating them if no connection currently holds them.
+     *
+     * @return the shared resources, retained for the caller
+     */
+    public static synchronized TransportResources acquireShared() {
+        if (shared == null || shared.refCnt() == 0) {
+            shared = new TransportResources(sharedTransportType(), 1, Runtime.getRuntime().availableProcessors(), "packet-shared");
+            return shared;
+        }
+
+        return shared.retain();
+    }
+
+    /**
+     * Returns the group accepting inbound connections of servers. A single thread is sufficient for
+     * one listening socket per connection. The group is created on first use, so resources only
+     * used by clients never start a boss thread.
+     *
+     * @return the boss group
+     * @throws IllegalReferenceCountException if the resources have already been released
+     */
+    public synchronized EventLoopGroup getBossGroup() {
+        if (bossGroup == null) {
+            if (refCnt() == 0) {
+                throw new IllegalReferenceCountException(0);
+            }
+
+            bossGroup = NettyUtils.createEventLoopGroup(transportType, bossThreads, name + "-boss");
+        }
+
+        return bossGroup;
+    }
+
+    public Class<? extends ServerChannel> getServerChannelClass() {
+        return NettyUtils.getServerChannelClass(transportType);
+    }
+
+    public Class<? extends Channel> getClientChannelClass() {
+        return NettyUtils.getClientChannelClass(transportType);
+    }
+
+    @Override
+    public TransportResources retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public TransportResources touch(Object hint) {
+        return this;
+    }
+
+    private static TransportType sharedTransportType() {
+        String property = System.getProperty(SHARED_TRANSPORT_PROPERTY);
+        if (property == null || property.isBlank()) {
+            return TransportType.AUTO;
+        }
+
+        try {
+            return TransportType.valueOf(property.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException _) {
+            log.warn("Unknown transport '{}', falling back to {}", property, TransportType.AUTO);
+            return TransportType.AUTO;
+        }
+    }
+
+    @Override
+    protected void deallocate() {
+        EventLoopGroup bossGroup;
+        synchronized (this) {
+            bossGroup = this.bossGroup;
+        }
+
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+        }
+
+        workerGroup.shutdownGracefully();
+    }
+}
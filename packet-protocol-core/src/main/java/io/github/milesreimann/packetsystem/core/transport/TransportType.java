@@ -0,0 +1,71 @@
+package io.github.milesreimann.packetsystem.core.transport;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.uring.IoUring;
+
+/**
+ * Native or JDK transport used for the event loops and channels of connections.
+ * <p>
+ * A transport that is not available on the current platform falls back to the
+ * {@link #AUTO automatically selected} one.
+ * </p>
+ * <p>
+ * io_uring is only selected automatically if the {@value #PREFER_IO_URING_PROPERTY} system
+ * property is {@code true}, since it depends on the kernel and may be restricted by seccomp
+ * profiles of containers.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+public enum TransportType {
+    /**
+     * io_uring if preferred and available, otherwise Epoll on Linux, KQueue on macOS and BSD, NIO everywhere else.
+     */
+    AUTO,
+
+    /**
+     * io_uring on Linux kernels that support it. Submits I/O in batches, which lowers the
+     * syscall overhead at high packet rates.
+     */
+    IO_URING,
+
+    EPOLL,
+
+    KQUEUE,
+
+    NIO;
+
+    public static final String PREFER_IO_URING_PROPERTY = "packetsystem.transport.preferIoUring";
+
+    public boolean isAvailable() {
+        return switch (this) {
+            case AUTO, NIO -> true;
+            case IO_URING -> IoUring.isAvailable();
+            case EPOLL -> Epoll.isAvailable();
+            case KQUEUE -> KQueue.isAvailable();
+        };
+    }
+
+    /**
+     * Resolves this type to a concrete transport that is available on the current platform.
+     *
+     * @return this type if it is available, otherwise the automatically selected transport; never {@link #AUTO}
+     */
+    public TransportType resolve() {
+        if (this != AUTO && isAvailable()) {
+            return this;
+        }
+
+        if (Boolean.getBoolean(PREFER_IO_URING_PROPERTY) && IO_URING.isAvailable()) {
+            return IO_URING;
+        } else if (EPOLL.isAvailable()) {
+            return EPOLL;
+        } else if (KQUEUE.isAvailable()) {
+            return KQUEUE;
+        } else {
+            return NIO;
+        }
+    }
+}
@@ -1,56 +1,77 @@
 package io.github.milesreimann.packetsystem.core.util;
 
+import io.github.milesreimann.packetsystem.core.transport.TransportType;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.ServerChannel;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollIoHandler;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.kqueue.KQueue;
-import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueIoHandler;
 import io.netty.channel.kqueue.KQueueServerSocketChannel;
 import io.netty.channel.kqueue.KQueueSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Miles
  * @since 28.08.25
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class NettyUtils {
-    @SuppressWarnings("deprecation")
-    public static EventLoopGroup getAvailableEventLoopGroup() {
-        if (Epoll.isAvailable()) {
-            return new EpollEventLoopGroup();
-        } else if (KQueue.isAvailable()) {
-            return new KQueueEventLoopGroup();
-        } else {
-            return new NioEventLoopGroup();
-        }
+    public static EventLoopGroup createEventLoopGroup(TransportType transportType, int threads, String poolName) {
+        return new MultiThreadIoEventLoopGroup(threads, new DefaultThreadFactory(poolName), getIoHandlerFactory(transportType));
+    }
+
+    public static IoHandlerFactory getIoHandlerFactory(TransportType transportType) {
+        return switch (transportType.resolve()) {
+            case IO_URING -> IoUringIoHandler.newFactory();
+            case EPOLL -> EpollIoHandler.newFactory();
+            case KQUEUE -> KQueueIoHandler.newFactory();
+            case AUTO, NIO -> NioIoHandler.newFactory();
+        };
     }
 
-    public static Class<? extends ServerChannel> getServerChannelClass() {
-        if (Epoll.isAvailable()) {
-            return EpollServerSocketChannel.class;
-        } else if (KQueue.isAvailable()) {
-            return KQueueServerSocketChannel.class;
-        } else {
-            return NioServerSocketChannel.class;
-        }
+    public static Class<? extends ServerChannel> getServerChannelClass(TransportType transportType) {
+        return switch (transportType.resolve()) {
+            case IO_URING -> IoUringServerSocketChannel.class;
+            case EPOLL -> EpollServerSocketChannel.class;
+            case KQUEUE -> KQueueServerSocketChannel.class;
+            case AUTO, NIO -> NioServerSocketChannel.class;
+        };
     }
 
-    public static Class<? extends Channel> getClientChannelClass() {
-        if (Epoll.isAvailable()) {
-            return EpollSocketChannel.class;
-        } else if (KQueue.isAvailable()) {
-            return KQueueSocketChannel.class;
-        } else {
-            return NioSocketChannel.class;
-        }
+    public static Class<? extends Channel> getClientChannelClass(TransportType transportType) {
+        return switch (transportType.resolve()) {
+            case IO_URING -> IoUringSocketChannel.class;
+            case EPOLL -> EpollSocketChannel.class;
+            case KQUEUE -> KQueueSocketChannel.class;
+            case AUTO, NIO -> NioSocketChannel.class;
+        };
+    }
+
+    public static CompletableFuture<Void> toCompletableFuture(Future<?> future) {
+        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        future.addListener(f -> {
+            if (f.isSuccess()) {
+                completableFuture.complete(null);
+            } else {
+                completableFuture.completeExceptionally(f.cause());
+            }
+        });
+
+        return completableFuture;
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +37,23 @@ public class Reflections {
         }
     }
 
+    public static MethodHandle findGetter(Field field) {
+        return getGetter(field);
+    }
+
+    public static MethodHandle findSetter(Field field) {
+        return getSetter(field);
+    }
+
+    public static MethodHandle findNoArgsConstructor(Class<?> type) {
+        try {
+            MethodHandles.Lookup privateLookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            return privateLookup.findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ReflectionException("Unable to create no-args constructor for class " + type.getName(), e);
+        }
+    }
+
     private static MethodHandle getGetter(Field field) {
         return FIELD_GETTERS.computeIfAbsent(field, Reflections::createGetter);
     }
@@ -0,0 +1,144 @@
+package io.github.milesreimann.packetsystem.core.connection;
+
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientConnectionTest {
+    private static final String HOST = "127.0.0.1";
+
+    private final CountDownLatch disconnected = new CountDownLatch(1);
+    private ClientConnection client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void failsTheFirstConnectInsteadOfReconnecting() throws IOException {
+        // Reconnecting is enabled without a limit on the attempts by default
+        client = new ClientConnection(HOST, freePort(), ConnectionOptions.defaults());
+
+        CompletionException e = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(CompletionException.class, client::open));
+        assertInstanceOf(ConnectException.class, e.getCause());
+        assertFalse(client.isConnected());
+    }
+
+    @Test
+    void reconnectDelayGrowsExponentiallyUpToTheMaximum() {
+        ConnectionOptions options = ConnectionOptions.builder()
+            .reconnectInitialDelayMillis(100)
+            .reconnectMaxDelayMillis(1000)
+            .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertBetween(50, 100, ClientConnection.reconnectDelayMillis(0, options));
+            assertBetween(100, 200, ClientConnection.reconnectDelayMillis(1, options));
+            assertBetween(200, 400, ClientConnection.reconnectDelayMillis(2, options));
+            assertBetween(500, 1000, ClientConnection.reconnectDelayMillis(4, options));
+            assertBetween(500, 1000, ClientConnection.reconnectDelayMillis(Integer.MAX_VALUE, options));
+        }
+    }
+
+    @Test
+    void givesUpAfterTheMaximumAttempts() throws Exception {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(HOST));
+        client = client(server.getLocalPort(), ConnectionOptions.builder()
+            .reconnectInitialDelayMillis(10)
+            .reconnectMaxDelayMillis(20)
+            .reconnectMaxAttempts(2)
+            .build());
+
+        client.openAsync().get(5, TimeUnit.SECONDS);
+        Thread opener = startBlockingOpen();
+
+        try (Socket _ = server.accept()) {
+            server.close();
+        }
+
+        assertTrue(opener.join(Duration.ofSeconds(5)), "open() did not return after giving up");
+        assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+        assertFalse(client.isConnected());
+    }
+
+    @Test
+    void closeCancelsAPendingReconnect() throws Exception {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getByName(HOST));
+        int port = server.getLocalPort();
+        client = client(port, ConnectionOptions.builder()
+            .reconnectInitialDelayMillis(1000)
+            .reconnectMaxDelayMillis(1000)
+            .build());
+
+        client.openAsync().get(5, TimeUnit.SECONDS);
+        Thread opener = startBlockingOpen();
+
+        try (Socket _ = server.accept()) {
+            server.close();
+        }
+
+        assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+        client.close();
+        assertTrue(opener.join(Duration.ofSeconds(1)), "open() did not return after close()");
+
+        // The reconnect was due within a second, so nothing may connect to the port anymore
+        try (ServerSocket restarted = new ServerSocket()) {
+            restarted.setReuseAddress(true);
+            restarted.bind(new InetSocketAddress(HOST, port));
+            restarted.setSoTimeout(2000);
+
+            assertThrows(SocketTimeoutException.class, restarted::accept);
+        }
+    }
+
+    private ClientConnection client(int port, ConnectionOptions options) {
+        return new ClientConnection(HOST, port, options, null, _ -> disconnected.countDown());
+    }
+
+    /**
+     * Calls {@link ClientConnection#open()} on an already open client, which blocks until it is closed for good.
+     */
+    private Thread startBlockingOpen() throws InterruptedException {
+        Thread opener = new Thread(client::open);
+        opener.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (opener.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "open() did not block");
+            Thread.sleep(10);
+        }
+
+        return opener;
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, actual + " not in [" + min + ", " + max + "]");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.milesreimann.packetsystem.core.connection.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionOptionsTest {
+    @Test
+    void acceptsTheDefaults() {
+        assertDoesNotThrow(() -> ConnectionOptions.defaults().validate());
+    }
+
+    @Test
+    void rejectsOutOfRangeOptions() {
+        assertInvalid(ConnectionOptions.builder().maxFrameLength(0));
+        assertInvalid(ConnectionOptions.builder().maxFrameLength(Integer.MAX_VALUE));
+        assertInvalid(ConnectionOptions.builder().highPriorityWeight(0));
+        assertInvalid(ConnectionOptions.builder().lowPriorityWeight(-1));
+        assertInvalid(ConnectionOptions.builder().writeBufferLowWaterMark(128).writeBufferHighWaterMark(64));
+        assertInvalid(ConnectionOptions.builder().streamReceiveLowWaterMark(128).streamReceiveHighWaterMark(64));
+        assertInvalid(ConnectionOptions.builder().compressionLevel(-1));
+        assertInvalid(ConnectionOptions.builder().compressionLevel(10));
+        assertInvalid(ConnectionOptions.builder().backlogSpillSegmentSize(ConnectionOptions.MIN_SPILL_SEGMENT_SIZE - 1));
+        assertInvalid(ConnectionOptions.builder().reconnectInitialDelayMillis(0));
+        assertInvalid(ConnectionOptions.builder().reconnectInitialDelayMillis(100).reconnectMaxDelayMillis(50));
+        assertInvalid(ConnectionOptions.builder().streamChunkSize(0));
+    }
+
+    private static void assertInvalid(ConnectionOptions.ConnectionOptionsBuilder builder) {
+        ConnectionOptions options = builder.build();
+        assertThrows(IllegalArgumentException.class, options::validate);
+    }
+}
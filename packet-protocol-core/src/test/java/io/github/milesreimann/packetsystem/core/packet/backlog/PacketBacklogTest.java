@@ -0,0 +1,296 @@
+package io.github.milesreimann.packetsystem.core.packet.backlog;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.BacklogOverflowPolicy;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.FlushPolicy;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.exception.BacklogOverflowException;
+import io.github.milesreimann.packetsystem.core.packet.codec.DefaultPacketCodec;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketBacklogTest {
+    private ClientConnection connection;
+    private DefaultPacketCodec packetCodec;
+    private PacketWriter packetWriter;
+    private EmbeddedChannel channel;
+    private int frameSize;
+
+    @BeforeEach
+    void setUp() {
+        connection = new ClientConnection("localhost", 0, ConnectionOptions.builder().headerMode(HeaderMode.NONE).build());
+        connection.getPacketRegistry().registerPacket(TestPacket.class);
+        packetCodec = connection.getPacketCodec();
+        packetWriter = new PacketWriter(FlushPolicy.IMMEDIATE);
+        channel = new EmbeddedChannel();
+
+        ByteBuf frame = packetCodec.encodeFrame(new TestPacket(0), ByteBufAllocator.DEFAULT);
+        frameSize = frame.readableBytes();
+        frame.release();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void flushesFramesInTheOrderTheyWereAdded() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.DROP_OLDEST, 10);
+
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        backlog.add(new TestPacket(3));
+
+        assertFlushed(backlog, 1, 2, 3);
+    }
+
+    @Test
+    void dropOldestKeepsTheNewestFrames() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.DROP_OLDEST, 2);
+
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        backlog.add(new TestPacket(3));
+
+        assertFlushed(backlog, 2, 3);
+    }
+
+    @Test
+    void dropNewestKeepsTheOldestFrames() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.DROP_NEWEST, 2);
+
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        backlog.add(new TestPacket(3));
+
+        assertFlushed(backlog, 1, 2);
+    }
+
+    @Test
+    void failFastRejectsPacketsBeyondTheCapacity() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.FAIL_FAST, 2);
+
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        assertThrows(BacklogOverflowException.class, () -> backlog.add(new TestPacket(3)));
+
+        assertFlushed(backlog, 1, 2);
+    }
+
+    @Test
+    void blockFailsOnceTheTimeoutElapsed() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.BLOCK, 1, 10);
+
+        backlog.add(new TestPacket(1));
+        assertThrows(BacklogOverflowException.class, () -> backlog.add(new TestPacket(2)));
+
+        assertFlushed(backlog, 1);
+    }
+
+    @Test
+    void blockWaitsUntilTheBacklogIsFlushed() throws Exception {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.BLOCK, 1, 10_000);
+        backlog.add(new TestPacket(1));
+
+        Thread sender = Thread.ofVirtual().start(() -> backlog.add(new TestPacket(2)));
+
+        // The sender can only finish once the first frame has made room
+        while (sender.getState() != Thread.State.WAITING && sender.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertFlushed(backlog, 1);
+        sender.join(TimeUnit.SECONDS.toMillis(5));
+        assertFlushed(backlog, 2);
+    }
+
+    @Test
+    void blockFailsFastOnAnEventLoop() throws Exception {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.BLOCK, 1, 60_000);
+        backlog.add(new TestPacket(1));
+
+        EventLoop eventLoop = new DefaultEventLoop();
+
+        try {
+            ExecutionException e = assertThrows(
+                ExecutionException.class,
+                () -> eventLoop.submit(() -> backlog.add(new TestPacket(2))).get(5, TimeUnit.SECONDS)
+            );
+
+            assertInstanceOf(BacklogOverflowException.class, e.getCause());
+        } finally {
+            eventLoop.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void conflatedPacketReplacesThePendingFrameInPlace() {
+        ConflationRegistry conflationRegistry = new ConflationRegistry();
+        conflationRegistry.register(TestPacket.class, packet -> packet.getValue() % 10);
+        PacketBacklog backlog = new PacketBacklog(
+            packetCodec,
+            packetWriter,
+            conflationRegistry,
+            options(BacklogOverflowPolicy.DROP_OLDEST, 10).build()
+        );
+
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        backlog.add(new TestPacket(11));
+
+        assertFlushed(backlog, 11, 2);
+    }
+
+    @Test
+    void requeuesOnlyTheFramesNotHandedToTheChannel() {
+        PacketBacklog backlog = backlog(BacklogOverflowPolicy.DROP_OLDEST, 10);
+        backlog.add(new TestPacket(1));
+        backlog.add(new TestPacket(2));
+        backlog.add(new TestPacket(3));
+
+        // Fails the second write after releasing its frame, like a failing handler would
+        EmbeddedChannel failingChannel = new EmbeddedChannel() {
+            private int writes;
+
+            @Override
+            public ChannelFuture write(Object msg, ChannelPromise promise) {
+                if (++writes == 2) {
+                    ReferenceCountUtil.release(msg);
+                    throw new IllegalStateException("Write failed");
+                }
+
+                return super.write(msg, promise);
+            }
+        };
+
+        try {
+            backlog.flush(new DefaultSession(2, failingChannel, connection, packetWriter));
+            failingChannel.flush();
+
+            ByteBuf written = failingChannel.readOutbound();
+            ByteBuf expected = packetCodec.encodeFrame(new TestPacket(1), ByteBufAllocator.DEFAULT);
+
+            try {
+                assertTrue(ByteBufUtil.equals(expected, written));
+                assertNull(failingChannel.readOutbound());
+            } finally {
+                expected.release();
+                written.release();
+            }
+        } finally {
+            failingChannel.finishAndReleaseAll();
+        }
+
+        assertFlushed(backlog, 3);
+    }
+
+    @Test
+    void closingANeverConnectedClientSpillsItsBacklog(@TempDir Path spillDirectory) throws IOException {
+        ClientConnection client = new ClientConnection("localhost", 0, ConnectionOptions.builder()
+            .headerMode(HeaderMode.NONE)
+            .backlogSpillDirectory(spillDirectory)
+            .backlogSpillSegmentSize(4096)
+            .build());
+        client.getPacketRegistry().registerPacket(TestPacket.class);
+
+        client.sendPacket(new TestPacket(1));
+        client.close();
+
+        assertFalse(new BacklogSpill(spillDirectory, 4096, 1024 * 1024).isEmpty());
+    }
+
+    private PacketBacklog backlog(BacklogOverflowPolicy policy, int capacityInFrames) {
+        return backlog(policy, capacityInFrames, 5000);
+    }
+
+    private PacketBacklog backlog(BacklogOverflowPolicy policy, int capacityInFrames, long blockTimeoutMillis) {
+        ConnectionOptions options = options(policy, capacityInFrames)
+            .backlogBlockTimeoutMillis(blockTimeoutMillis)
+            .build();
+
+        return new PacketBacklog(packetCodec, packetWriter, new ConflationRegistry(), options);
+    }
+
+    private ConnectionOptions.ConnectionOptionsBuilder options(BacklogOverflowPolicy policy, int capacityInFrames) {
+        return ConnectionOptions.builder()
+            .headerMode(HeaderMode.NONE)
+            .backlogOverflowPolicy(policy)
+            .backlogCapacity((long) capacityInFrames * frameSize);
+    }
+
+    private void assertFlushed(PacketBacklog backlog, int... expectedValues) {
+        backlog.flush(new DefaultSession(1, channel, connection, packetWriter));
+
+        List<ByteBuf> frames = new ArrayList<>();
+        ByteBuf frame;
+
+        while ((frame = channel.readOutbound()) != null) {
+            frames.add(frame);
+        }
+
+        try {
+            assertEquals(expectedValues.length, frames.size());
+
+            for (int i = 0; i < expectedValues.length; i++) {
+                ByteBuf expected = packetCodec.encodeFrame(new TestPacket(expectedValues[i]), ByteBufAllocator.DEFAULT);
+
+                try {
+                    assertTrue(ByteBufUtil.equals(expected, frames.get(i)), "Frame " + i + " should hold " + expectedValues[i]);
+                } finally {
+                    expected.release();
+                }
+            }
+        } finally {
+            frames.forEach(ByteBuf::release);
+        }
+    }
+
+    public static class TestPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value;
+
+        public TestPacket() {
+        }
+
+        public TestPacket(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
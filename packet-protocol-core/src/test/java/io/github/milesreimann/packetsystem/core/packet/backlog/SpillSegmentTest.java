@@ -0,0 +1,160 @@
+package io.github.milesreimann.packetsystem.core.packet.backlog;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillSegmentTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversAllFramesInOrder() throws IOException {
+        Path path = directory.resolve("segment");
+        SpillSegment segment = SpillSegment.create(path, 0, SEGMENT_SIZE);
+        assertTrue(segment.append(frame("first")));
+        assertTrue(segment.append(frame("second")));
+        assertTrue(segment.append(frame("third")));
+        segment.seal();
+
+        SpillSegment recovered = SpillSegment.open(path, 0);
+
+        assertTrue(recovered.isSealed());
+        assertEquals(3, recovered.getFrameCount());
+        assertEquals(segment.getSize(), recovered.getSize());
+        assertEquals(List.of("first", "second", "third"), readAll(recovered));
+    }
+
+    @Test
+    void recoveryStopsAtARecordWithAMismatchingChecksum() throws IOException {
+        Path path = directory.resolve("segment");
+        SpillSegment segment = SpillSegment.create(path, 0, SEGMENT_SIZE);
+        segment.append(frame("first"));
+        segment.append(frame("second"));
+        segment.append(frame("third"));
+        segment.seal();
+
+        // Corrupts the first byte of the second frame, as if its page had not been written back
+        int secondFrameIndex = SpillSegment.HEADER_SIZE + SpillSegment.RECORD_HEADER_SIZE + "first".length() + SpillSegment.RECORD_HEADER_SIZE;
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            fileChannel.write(ByteBuffer.wrap(new byte[]{'X'}), secondFrameIndex);
+        }
+
+        SpillSegment recovered = SpillSegment.open(path, 0);
+
+        assertEquals(1, recovered.getFrameCount());
+        assertEquals(List.of("first"), readAll(recovered));
+    }
+
+    @Test
+    void recoveryStopsAtAnUnfinishedRecord() throws IOException {
+        Path path = directory.resolve("segment");
+        SpillSegment segment = SpillSegment.create(path, 0, SEGMENT_SIZE);
+        segment.append(frame("first"));
+        segment.seal();
+
+        SpillSegment recovered = SpillSegment.open(path, 0);
+
+        assertEquals(1, recovered.getFrameCount());
+        assertNull(recovered.readFrame((int) (SpillSegment.HEADER_SIZE + recovered.getSize()), UnpooledByteBufAllocator.DEFAULT));
+    }
+
+    @Test
+    void rejectsFramesThatDoNotFit() throws IOException {
+        SpillSegment segment = SpillSegment.create(directory.resolve("segment"), 0, 64);
+
+        assertFalse(segment.append(Unpooled.wrappedBuffer(new byte[64])));
+        assertTrue(segment.append(Unpooled.wrappedBuffer(new byte[64 - SpillSegment.HEADER_SIZE - SpillSegment.RECORD_HEADER_SIZE])));
+        assertFalse(segment.append(frame("x")));
+    }
+
+    @Test
+    void sealedSegmentRejectsFrames() throws IOException {
+        SpillSegment segment = SpillSegment.create(directory.resolve("segment"), 0, SEGMENT_SIZE);
+        segment.seal();
+
+        assertFalse(segment.append(frame("first")));
+    }
+
+    @Test
+    void spillRecoversSegmentsOfAPreviousInstance() throws IOException {
+        BacklogSpill spill = new BacklogSpill(directory, 64, 1024);
+        for (int i = 0; i < 10; i++) {
+            spill.append(frame("frame-" + i));
+        }
+
+        spill.force();
+
+        BacklogSpill recovered = new BacklogSpill(directory, 64, 1024);
+        assertEquals(spill.getSize(), recovered.getSize());
+
+        List<SpillSegment> segments = recovered.seal();
+        List<String> frames = segments.stream().flatMap(segment -> readAll(segment).stream()).toList();
+        assertEquals(10, frames.size());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("frame-" + i, frames.get(i));
+        }
+    }
+
+    @Test
+    void deleteUnmapsAndRemovesTheFile() throws IOException {
+        Path path = directory.resolve("segment");
+        SpillSegment segment = SpillSegment.create(path, 0, SEGMENT_SIZE);
+        assertTrue(segment.append(frame("first")));
+        segment.seal();
+
+        segment.delete();
+
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void emptySegmentsAreDeletedOnRecovery() throws IOException {
+        SpillSegment.create(directory.resolve("backlog-00000000000000000000.segment"), 0, SEGMENT_SIZE).seal();
+
+        BacklogSpill recovered = new BacklogSpill(directory, SEGMENT_SIZE, 1024 * 1024);
+
+        assertTrue(recovered.isEmpty());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static ByteBuf frame(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.US_ASCII);
+    }
+
+    private static List<String> readAll(SpillSegment segment) {
+        List<String> frames = new ArrayList<>();
+        int position = SpillSegment.HEADER_SIZE;
+        ByteBuf frame;
+
+        while ((frame = segment.readFrame(position, UnpooledByteBufAllocator.DEFAULT)) != null) {
+            position += SpillSegment.RECORD_HEADER_SIZE + frame.readableBytes();
+            frames.add(frame.toString(StandardCharsets.US_ASCII));
+            frame.release();
+        }
+
+        return frames;
+    }
+}
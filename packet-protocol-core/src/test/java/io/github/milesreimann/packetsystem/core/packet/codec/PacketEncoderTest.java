@@ -0,0 +1,144 @@
+package io.github.milesreimann.packetsystem.core.packet.codec;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldStringUTF8Codec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarIntCodec;
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.connection.model.WireFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class PacketEncoderTest {
+    private static final ByteBufAllocator ALLOCATOR = new UnpooledByteBufAllocator(false);
+
+    private static final String[] NAMES = {"", "packet", "ümlaut 漢字", "x".repeat(200)};
+    private static final long[] SEQUENCES = {1, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE};
+
+    @Test
+    void framesAreAllocatedWithTheirExactSize() {
+        for (WireFormat wireFormat : WireFormat.values()) {
+            for (HeaderMode headerMode : HeaderMode.values()) {
+                ClientConnection connection = connection(wireFormat, headerMode, 0);
+
+                for (String name : NAMES) {
+                    for (long sequence : SEQUENCES) {
+                        String mode = wireFormat + "/" + headerMode + " with '" + name + "' and sequence " + sequence;
+                        ByteBuf frame = encode(connection, new TestPacket(name, sequence), sequence);
+
+                        try {
+                            assertEquals(frame.writerIndex(), frame.capacity(), mode);
+                            assertDecodes(connection, frame, name, sequence, mode);
+                        } finally {
+                            frame.release();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void framesOfUnknownSizePatchTheirLengthPrefix() {
+        for (WireFormat wireFormat : WireFormat.values()) {
+            for (HeaderMode headerMode : HeaderMode.values()) {
+                // Gathering frames are not sized up front
+                ClientConnection connection = connection(wireFormat, headerMode, Integer.MAX_VALUE);
+
+                for (String name : NAMES) {
+                    String mode = wireFormat + "/" + headerMode + " with '" + name + "'";
+                    ByteBuf frame = encode(connection, new TestPacket(name, 300), 300);
+
+                    try {
+                        assertDecodes(connection, frame, name, 300, mode);
+                    } finally {
+                        frame.release();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void compactFramesUseTheSmallestLengthPrefix() {
+        ClientConnection connection = connection(WireFormat.COMPACT, HeaderMode.NONE, 0);
+
+        for (String name : NAMES) {
+            ByteBuf frame = encode(connection, new TestPacket(name, 0), 0);
+
+            try {
+                int length = VarInts.readVarInt(frame);
+                assertEquals(VarInts.varIntSize(length), frame.readerIndex(), name);
+            } finally {
+                frame.release();
+            }
+        }
+    }
+
+    private static ByteBuf encode(ClientConnection connection, TestPacket packet, long sequence) {
+        if (connection.getOptions().getHeaderMode() == HeaderMode.UUID) {
+            connection.getPacketCodec().assignUniqueId(packet);
+        }
+
+        return connection.getPacketCodec().encodeFrame(packet, ALLOCATOR, () -> sequence);
+    }
+
+    private static void assertDecodes(ClientConnection connection, ByteBuf frame, String name, long sequence, String mode) {
+        boolean compact = connection.getOptions().getWireFormat() == WireFormat.COMPACT;
+        int length = compact ? VarInts.readVarInt(frame) : frame.readInt();
+        assertEquals(frame.readableBytes(), length, mode);
+
+        TestPacket decoded = assertInstanceOf(TestPacket.class, connection.getPacketCodec().decode(frame), mode);
+        assertEquals(0, frame.readableBytes(), mode);
+        assertEquals(name.isEmpty() ? null : name, decoded.getName(), mode);
+        assertEquals((int) sequence, decoded.getCount(), mode);
+
+        if (connection.getOptions().getHeaderMode() == HeaderMode.SEQUENCE) {
+            assertEquals(sequence, decoded.getUniqueIdLeastSigBits(), mode);
+        }
+    }
+
+    private static ClientConnection connection(WireFormat wireFormat, HeaderMode headerMode, int gatheringWriteThreshold) {
+        ClientConnection connection = new ClientConnection("localhost", 0, ConnectionOptions.builder()
+            .wireFormat(wireFormat)
+            .headerMode(headerMode)
+            .gatheringWriteThreshold(gatheringWriteThreshold)
+            .build());
+        connection.getPacketRegistry().registerPacket(TestPacket.class);
+        return connection;
+    }
+
+    public static class TestPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value = -1;
+        @PacketField(codec = PacketFieldStringUTF8Codec.class)
+        private String name;
+        @PacketField(codec = PacketFieldVarIntCodec.class)
+        private int count;
+
+        public TestPacket() {
+        }
+
+        public TestPacket(String name, long count) {
+            this.name = name;
+            this.count = (int) count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
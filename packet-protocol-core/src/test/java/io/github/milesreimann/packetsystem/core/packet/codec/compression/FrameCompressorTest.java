@@ -0,0 +1,101 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.compression;
+
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.handler.codec.compression.DecompressionException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrameCompressorTest {
+    private static final byte[] DATA = "packet-protocol ".repeat(64).getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void snappyRoundTrip() {
+        assertRoundTrip(new SnappyFrameCompressor());
+    }
+
+    @Test
+    void deflateRoundTrip() {
+        assertRoundTrip(new DeflateFrameCompressor(6, null));
+    }
+
+    @Test
+    void deflateRoundTripOnVirtualThreads() throws Exception {
+        DeflateFrameCompressor compressor = new DeflateFrameCompressor(6, null);
+
+        // More threads than pooled instances, so surplus instances are ended after use
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4 * Runtime.getRuntime().availableProcessors(); i++) {
+                futures.add(executor.submit(() -> assertRoundTrip(compressor)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    void deflateRoundTripOnEventLoops() throws Exception {
+        DeflateFrameCompressor compressor = new DeflateFrameCompressor(6, null);
+        DefaultEventLoop eventLoop = new DefaultEventLoop();
+
+        try {
+            eventLoop.submit(() -> assertRoundTrip(compressor)).get(10, TimeUnit.SECONDS);
+            eventLoop.submit(() -> assertRoundTrip(compressor)).get(10, TimeUnit.SECONDS);
+        } finally {
+            eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void snappyWritesTheLengthOnlyOnce() {
+        ByteBuf compressed = Unpooled.buffer();
+        new SnappyFrameCompressor().compress(Unpooled.wrappedBuffer(DATA), compressed);
+
+        assertEquals(DATA.length, VarInts.readVarInt(compressed));
+        // The Snappy preamble is the length, so the first tag follows directly
+        assertEquals(0, compressed.getByte(compressed.readerIndex()) & 0x03);
+    }
+
+    @Test
+    void snappyDoesNotDecompressBeyondTheDeclaredLength() {
+        ByteBuf compressed = Unpooled.buffer();
+        new SnappyFrameCompressor().compress(Unpooled.wrappedBuffer(DATA), compressed);
+
+        int declaredLength = DATA.length / 2;
+        ByteBuf out = Unpooled.buffer(declaredLength, declaredLength);
+
+        assertThrows(DecompressionException.class, () -> new SnappyFrameCompressor().decompress(compressed, out, declaredLength));
+    }
+
+    private static void assertRoundTrip(FrameCompressor compressor) {
+        ByteBuf compressed = Unpooled.buffer();
+        compressor.compress(Unpooled.wrappedBuffer(DATA), compressed);
+
+        int lengthIndex = compressed.readerIndex();
+        int uncompressedLength = VarInts.readVarInt(compressed);
+        compressed.readerIndex(lengthIndex);
+        assertEquals(DATA.length, uncompressedLength);
+
+        ByteBuf out = Unpooled.buffer(uncompressedLength, uncompressedLength);
+        compressor.decompress(compressed, out, uncompressedLength);
+
+        byte[] decompressed = new byte[out.readableBytes()];
+        out.readBytes(decompressed);
+        assertEquals(new String(DATA, StandardCharsets.US_ASCII), new String(decompressed, StandardCharsets.US_ASCII));
+    }
+}
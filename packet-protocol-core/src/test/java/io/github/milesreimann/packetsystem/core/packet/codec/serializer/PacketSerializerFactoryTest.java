@@ -0,0 +1,195 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldByteBufCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldIntegerCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldStringUTF8Codec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldBooleanCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldByteCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldCharCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldDoubleCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldFloatCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldLongCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldShortCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.PacketFieldVarIntCodec;
+import io.github.milesreimann.packetsystem.core.exception.ReflectionException;
+import io.github.milesreimann.packetsystem.core.packet.codec.PacketFieldRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PacketSerializerFactoryTest {
+    private PacketFieldRegistry packetFieldRegistry;
+    private PacketSerializerFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        packetFieldRegistry = new PacketFieldRegistry();
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_INT_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_LONG_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_DOUBLE_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_FLOAT_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_SHORT_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_BYTE_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_BOOLEAN_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.PRIMITIVE_CHAR_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.VAR_INT_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.INTEGER_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.STRING_UTF8_CODEC);
+        packetFieldRegistry.registerFieldCodec(PacketFieldCodecs.BYTE_BUF_CODEC);
+        factory = new PacketSerializerFactory(packetFieldRegistry);
+    }
+
+    @Test
+    void packetsWithoutGeneratedSerializerGetARuntimeSerializer() {
+        assertInstanceOf(RuntimePacketSerializer.class, factory.createSerializer(AllFieldsPacket.class));
+    }
+
+    @Test
+    void roundTripsPrivateAndPackagePrivateFieldsOfAllTypes() {
+        PacketSerializer<AllFieldsPacket> serializer = factory.createSerializer(AllFieldsPacket.class);
+        AllFieldsPacket packet = AllFieldsPacket.sample();
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        try {
+            serializer.encode(packet, byteBuf);
+            assertEquals(serializer.sizeOf(packet), byteBuf.readableBytes());
+
+            AllFieldsPacket decoded = serializer.decode(byteBuf);
+            assertEquals(packet.intValue, decoded.intValue);
+            assertEquals(packet.getLongValue(), decoded.getLongValue());
+            assertEquals(packet.doubleValue, decoded.doubleValue);
+            assertEquals(packet.floatValue, decoded.floatValue);
+            assertEquals(packet.shortValue, decoded.shortValue);
+            assertEquals(packet.byteValue, decoded.byteValue);
+            assertEquals(packet.booleanValue, decoded.booleanValue);
+            assertEquals(packet.charValue, decoded.charValue);
+            assertEquals(packet.varIntValue, decoded.varIntValue);
+            assertEquals(packet.boxedValue, decoded.boxedValue);
+            assertEquals(packet.getText(), decoded.getText());
+            assertEquals(0, byteBuf.readableBytes());
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    @Test
+    void roundTripsNullObjectFields() {
+        PacketSerializer<AllFieldsPacket> serializer = factory.createSerializer(AllFieldsPacket.class);
+        AllFieldsPacket packet = new AllFieldsPacket();
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        try {
+            serializer.encode(packet, byteBuf);
+            assertEquals(serializer.sizeOf(packet), byteBuf.readableBytes());
+
+            AllFieldsPacket decoded = serializer.decode(byteBuf);
+            assertNull(decoded.boxedValue);
+            assertNull(decoded.getText());
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    @Test
+    void releasesDecodedResourcesIfDecodingFails() {
+        PacketSerializer<PayloadPacket> serializer = factory.createSerializer(PayloadPacket.class);
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        // The payload is decoded as a retained slice, but the following int is missing
+        byteBuf.writeBoolean(false).writeInt(3).writeBytes(new byte[]{1, 2, 3});
+
+        assertThrows(IndexOutOfBoundsException.class, () -> serializer.decode(byteBuf));
+        assertEquals(1, byteBuf.refCnt());
+        byteBuf.release();
+    }
+
+    @Test
+    void rejectsFieldsWithUnregisteredCodecs() {
+        PacketFieldRegistry emptyRegistry = new PacketFieldRegistry();
+
+        assertThrows(NoSuchElementException.class, () -> new PacketSerializerFactory(emptyRegistry).createSerializer(AllFieldsPacket.class));
+    }
+
+    @Test
+    void rejectsPacketsWithoutNoArgsConstructor() {
+        assertThrows(ReflectionException.class, () -> factory.createSerializer(NoDefaultConstructorPacket.class));
+    }
+
+    public static class AllFieldsPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        int intValue;
+        @PacketField(codec = DefaultPacketFieldLongCodec.class)
+        private long longValue;
+        @PacketField(codec = DefaultPacketFieldDoubleCodec.class)
+        double doubleValue;
+        @PacketField(codec = DefaultPacketFieldFloatCodec.class)
+        float floatValue;
+        @PacketField(codec = DefaultPacketFieldShortCodec.class)
+        short shortValue;
+        @PacketField(codec = DefaultPacketFieldByteCodec.class)
+        byte byteValue;
+        @PacketField(codec = DefaultPacketFieldBooleanCodec.class)
+        boolean booleanValue;
+        @PacketField(codec = DefaultPacketFieldCharCodec.class)
+        char charValue;
+        @PacketField(codec = PacketFieldVarIntCodec.class)
+        int varIntValue;
+        @PacketField(codec = PacketFieldIntegerCodec.class)
+        Integer boxedValue;
+        @PacketField(codec = PacketFieldStringUTF8Codec.class)
+        private String text;
+
+        static AllFieldsPacket sample() {
+            AllFieldsPacket packet = new AllFieldsPacket();
+            packet.intValue = -42;
+            packet.longValue = Long.MIN_VALUE;
+            packet.doubleValue = Math.PI;
+            packet.floatValue = -1.5f;
+            packet.shortValue = Short.MAX_VALUE;
+            packet.byteValue = -7;
+            packet.booleanValue = true;
+            packet.charValue = 'ä';
+            packet.varIntValue = 300;
+            packet.boxedValue = 17;
+            packet.text = "Grüße";
+            return packet;
+        }
+
+        public long getLongValue() {
+            return longValue;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    public static class PayloadPacket extends Packet {
+        @PacketField(codec = PacketFieldByteBufCodec.class)
+        ByteBuf payload;
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        int trailer;
+    }
+
+    public static class NoDefaultConstructorPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        int value;
+
+        public NoDefaultConstructorPacket(int value) {
+            this.value = value;
+        }
+    }
+}
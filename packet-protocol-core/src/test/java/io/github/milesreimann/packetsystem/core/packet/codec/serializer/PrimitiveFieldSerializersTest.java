@@ -0,0 +1,81 @@
+package io.github.milesreimann.packetsystem.core.packet.codec.serializer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+import io.github.milesreimann.packetsystem.common.packet.codec.PacketFieldCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveFieldSerializersTest {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final ByteBuf byteBuf = Unpooled.buffer();
+
+    @AfterEach
+    void tearDown() {
+        byteBuf.release();
+    }
+
+    @Test
+    void primitiveFieldsAreBoundToMatchingPrimitiveCodecs() throws ReflectiveOperationException {
+        FieldSerializer intSerializer = create("intValue", int.class, PacketFieldCodecs.PRIMITIVE_INT_CODEC).orElseThrow();
+        FieldSerializer charSerializer = create("charValue", char.class, PacketFieldCodecs.PRIMITIVE_CHAR_CODEC).orElseThrow();
+
+        TestPacket packet = new TestPacket();
+        packet.intValue = -7;
+        packet.charValue = 'x';
+
+        intSerializer.encode(packet, byteBuf);
+        charSerializer.encode(packet, byteBuf);
+        assertEquals(intSerializer.sizeOf(packet) + charSerializer.sizeOf(packet), byteBuf.readableBytes());
+
+        TestPacket decoded = new TestPacket();
+        intSerializer.decode(decoded, byteBuf);
+        charSerializer.decode(decoded, byteBuf);
+
+        assertEquals(-7, decoded.intValue);
+        assertEquals('x', decoded.charValue);
+    }
+
+    @Test
+    void variableLengthIntCodecsAreBoundAsPrimitiveCodecs() throws ReflectiveOperationException {
+        FieldSerializer serializer = create("intValue", int.class, PacketFieldCodecs.VAR_INT_CODEC).orElseThrow();
+
+        TestPacket packet = new TestPacket();
+        packet.intValue = 300;
+        serializer.encode(packet, byteBuf);
+        assertEquals(PacketFieldCodecs.VAR_INT_CODEC.sizeOfInt(300), byteBuf.readableBytes());
+
+        TestPacket decoded = new TestPacket();
+        serializer.decode(decoded, byteBuf);
+        assertEquals(300, decoded.intValue);
+    }
+
+    @Test
+    void mismatchingCodecsAreLeftToTheObjectSerializer() throws ReflectiveOperationException {
+        assertTrue(create("intValue", int.class, PacketFieldCodecs.PRIMITIVE_LONG_CODEC).isEmpty());
+        assertTrue(create("intValue", int.class, PacketFieldCodecs.INTEGER_CODEC).isEmpty());
+        assertTrue(create("boxedValue", Integer.class, PacketFieldCodecs.PRIMITIVE_INT_CODEC).isEmpty());
+    }
+
+    private static Optional<FieldSerializer> create(String fieldName, Class<?> fieldType, PacketFieldCodec<?> codec) throws ReflectiveOperationException {
+        MethodHandle getter = LOOKUP.findGetter(TestPacket.class, fieldName, fieldType);
+        MethodHandle setter = LOOKUP.findSetter(TestPacket.class, fieldName, fieldType);
+        return PrimitiveFieldSerializers.create(fieldName, fieldType, getter, setter, codec);
+    }
+
+    static class TestPacket extends Packet {
+        int intValue;
+        char charValue;
+        Integer boxedValue;
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.milesreimann.packetsystem.core.packet.listener.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerialExecutorTest {
+    @Test
+    void runsTasksOneAfterAnotherInSubmissionOrder() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+        List<Integer> order = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            executor.execute(() -> order.add(value));
+        }
+
+        // Only the first task has been handed to the delegate, the others wait for it
+        assertEquals(1, delegate.submitted.size());
+
+        delegate.runAll();
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    void rejectedTaskIsNotKeptInTheQueue() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+        AtomicBoolean rejectedTaskRan = new AtomicBoolean();
+        AtomicBoolean acceptedTaskRan = new AtomicBoolean();
+
+        delegate.rejecting = true;
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> rejectedTaskRan.set(true)));
+
+        delegate.rejecting = false;
+        executor.execute(() -> acceptedTaskRan.set(true));
+        delegate.runAll();
+
+        assertFalse(rejectedTaskRan.get());
+        assertTrue(acceptedTaskRan.get());
+    }
+
+    @Test
+    void rejectedTaskIsNotDiscardedForTheCaller() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+        AtomicBoolean discarded = new AtomicBoolean();
+
+        delegate.rejecting = true;
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(DispatchTask.of(() -> {}, () -> discarded.set(true))));
+
+        // The caller keeps the task and releases it itself
+        assertFalse(discarded.get());
+    }
+
+    @Test
+    void strandedTasksAreDiscardedWhenTheDelegateRejectsOnCompletion() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+        AtomicBoolean firstRan = new AtomicBoolean();
+        AtomicBoolean secondRan = new AtomicBoolean();
+        AtomicBoolean secondDiscarded = new AtomicBoolean();
+
+        executor.execute(() -> firstRan.set(true));
+        executor.execute(DispatchTask.of(() -> secondRan.set(true), () -> secondDiscarded.set(true)));
+
+        delegate.rejecting = true;
+        delegate.runAll();
+
+        assertTrue(firstRan.get());
+        assertFalse(secondRan.get());
+        assertTrue(secondDiscarded.get());
+    }
+
+    @Test
+    void acceptsTasksAgainAfterARejection() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+        List<Integer> order = new ArrayList<>();
+
+        delegate.rejecting = true;
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> order.add(0)));
+
+        delegate.rejecting = false;
+        executor.execute(() -> order.add(1));
+        executor.execute(() -> order.add(2));
+        delegate.runAll();
+
+        assertEquals(List.of(1, 2), order);
+    }
+
+    private static class ManualExecutor implements Executor {
+        private final Deque<Runnable> submitted = new ArrayDeque<>();
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable task) {
+            if (rejecting) {
+                throw new RejectedExecutionException();
+            }
+
+            submitted.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+
+            while ((task = submitted.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
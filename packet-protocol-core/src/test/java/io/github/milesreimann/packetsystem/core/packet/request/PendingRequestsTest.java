@@ -0,0 +1,156 @@
+package io.github.milesreimann.packetsystem.core.packet.request;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.core.connection.AbstractConnection;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.ServerConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchExecutors;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PendingRequestsTest {
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+    private final ServerConnection server = connection(HeaderMode.UUID);
+    private final DefaultSession first = register(server);
+    private final DefaultSession second = register(server);
+
+    @AfterEach
+    void tearDown() {
+        channels.forEach(EmbeddedChannel::finishAndReleaseAll);
+    }
+
+    @Test
+    void requestsTimeOutWithoutAResponse() {
+        CompletableFuture<TestResponse> response = first.request(new TestRequest(), TestResponse.class, 50, TimeUnit.MILLISECONDS);
+
+        assertFails(TimeoutException.class, response);
+    }
+
+    @Test
+    void responsesCompleteTheirRequest() {
+        TestRequest request = new TestRequest();
+        CompletableFuture<TestResponse> response = first.request(request, TestResponse.class, 5, TimeUnit.SECONDS);
+        Object sent = ((EmbeddedChannel) first.getChannel()).readOutbound();
+        assertNotNull(sent, "The request has not been sent");
+        ReferenceCountUtil.release(sent);
+
+        TestResponse packet = responseTo(request);
+        assertTrue(server.getPendingRequests().complete(first, packet, DispatchExecutors.INLINE));
+
+        assertSame(packet, response.getNow(null));
+        // A request is completed only once
+        assertFalse(server.getPendingRequests().complete(first, responseTo(request), DispatchExecutors.INLINE));
+    }
+
+    @Test
+    void responsesOfOtherSessionsOrTypesAreIgnored() {
+        TestRequest request = new TestRequest();
+        CompletableFuture<TestResponse> response = first.request(request, TestResponse.class, 5, TimeUnit.SECONDS);
+
+        assertFalse(server.getPendingRequests().complete(second, responseTo(request), DispatchExecutors.INLINE));
+
+        TestRequest otherType = new TestRequest();
+        otherType.assignUniqueId(request.getUniqueIdMostSigBits(), request.getUniqueIdLeastSigBits());
+        assertFalse(server.getPendingRequests().complete(first, otherType, DispatchExecutors.INLINE));
+
+        assertFalse(response.isDone());
+    }
+
+    @Test
+    void requestsFailWhenTheirSessionDisconnects() {
+        CompletableFuture<TestResponse> firstResponse = first.request(new TestRequest(), TestResponse.class, 5, TimeUnit.SECONDS);
+        CompletableFuture<TestResponse> secondResponse = second.request(new TestRequest(), TestResponse.class, 5, TimeUnit.SECONDS);
+
+        server.getSessionRegistry().unregister(first.getChannel());
+
+        assertFails(ClosedChannelException.class, firstResponse);
+        assertFalse(secondResponse.isDone());
+    }
+
+    @Test
+    void requestsFailWhenTheConnectionCloses() {
+        ClientConnection client = new ClientConnection("localhost", 0, ConnectionOptions.defaults());
+        client.getPacketRegistry().registerPacket(TestRequest.class);
+        client.getPacketRegistry().registerPacket(TestResponse.class);
+
+        // Without a session, the request waits in the backlog
+        CompletableFuture<TestResponse> response = client.request(new TestRequest(), TestResponse.class, 5, TimeUnit.SECONDS);
+        assertFalse(response.isDone());
+
+        client.close();
+
+        assertFails(ClosedChannelException.class, response);
+    }
+
+    @Test
+    void requestsAreRejectedWithoutUniqueIdentifiers() {
+        for (HeaderMode headerMode : new HeaderMode[]{HeaderMode.SEQUENCE, HeaderMode.NONE}) {
+            DefaultSession session = register(connection(headerMode));
+
+            CompletableFuture<TestResponse> response = session.request(new TestRequest(), TestResponse.class, 5, TimeUnit.SECONDS);
+
+            assertFails(IllegalStateException.class, response);
+            assertNull(((EmbeddedChannel) session.getChannel()).readOutbound(), headerMode + " request has been sent");
+        }
+    }
+
+    private static TestResponse responseTo(TestRequest request) {
+        TestResponse response = new TestResponse();
+        response.assignUniqueId(request.getUniqueIdMostSigBits(), request.getUniqueIdLeastSigBits());
+        return response;
+    }
+
+    private static void assertFails(Class<? extends Throwable> expectedType, CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(expectedType, e.getCause());
+    }
+
+    private static ServerConnection connection(HeaderMode headerMode) {
+        ServerConnection connection = new ServerConnection("127.0.0.1", 0, ConnectionOptions.builder()
+            .headerMode(headerMode)
+            .build());
+        connection.getPacketRegistry().registerPacket(TestRequest.class);
+        connection.getPacketRegistry().registerPacket(TestResponse.class);
+        return connection;
+    }
+
+    private DefaultSession register(AbstractConnection connection) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channels.add(channel);
+        return connection.getSessionRegistry().register(channel, _ -> {
+        });
+    }
+
+    public static class TestRequest extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value;
+    }
+
+    public static class TestResponse extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value;
+    }
+}
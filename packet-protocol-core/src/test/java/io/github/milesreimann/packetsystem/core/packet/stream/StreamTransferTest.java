@@ -0,0 +1,138 @@
+package io.github.milesreimann.packetsystem.core.packet.stream;
+
+import io.github.milesreimann.packetsystem.api.connection.Session;
+import io.github.milesreimann.packetsystem.api.stream.StreamSink;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.ServerConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.packet.listener.dispatch.DispatchExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamTransferTest {
+    private static final String HOST = "127.0.0.1";
+    private static final int CHUNK_SIZE = 1024;
+
+    private final CompletableFuture<byte[]> received = new CompletableFuture<>();
+    private volatile long declaredLength;
+    private ExecutorService dispatchExecutor;
+    private ServerConnection server;
+    private ClientConnection client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port = freePort();
+
+        // A receive window of a few chunks, so a slow sink pauses reading from the channel
+        server = new ServerConnection(HOST, port, ConnectionOptions.builder()
+            .streamReceiveHighWaterMark(4 * CHUNK_SIZE)
+            .streamReceiveLowWaterMark(CHUNK_SIZE)
+            .build());
+        dispatchExecutor = DispatchExecutors.virtualThreadPerPacket();
+        server.getPacketListenerRegistry().setDispatchExecutor(dispatchExecutor);
+        server.setStreamReceiver((_, _, length) -> {
+            declaredLength = length;
+            return new SlowSink();
+        });
+        server.openAsync().get(5, TimeUnit.SECONDS);
+
+        client = new ClientConnection(HOST, port, ConnectionOptions.builder()
+            .streamChunkSize(CHUNK_SIZE)
+            .reconnect(false)
+            .build());
+        client.openAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+        dispatchExecutor.shutdownNow();
+    }
+
+    @Test
+    void transfersByteArrays() throws Exception {
+        byte[] payload = payload(64 * CHUNK_SIZE + 17);
+
+        clientSession().sendStream("bytes", payload).get(10, TimeUnit.SECONDS);
+
+        assertArrayEquals(payload, received.get(10, TimeUnit.SECONDS));
+        assertEquals(payload.length, declaredLength);
+    }
+
+    @Test
+    void transfersInputStreams() throws Exception {
+        byte[] payload = payload(32 * CHUNK_SIZE);
+
+        clientSession().sendStream("input", new ByteArrayInputStream(payload)).get(10, TimeUnit.SECONDS);
+
+        assertArrayEquals(payload, received.get(10, TimeUnit.SECONDS));
+        assertEquals(-1, declaredLength);
+    }
+
+    private Session clientSession() throws InterruptedException {
+        // The session is registered once the channel is active, which may follow the connect
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.getSessions().isEmpty()) {
+            assertTrue(System.nanoTime() < deadline, "Client session not registered");
+            Thread.sleep(10);
+        }
+
+        return client.getSessions().iterator().next();
+    }
+
+    private static byte[] payload(int length) {
+        byte[] payload = new byte[length];
+        new Random(42).nextBytes(payload);
+        return payload;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private class SlowSink implements StreamSink {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        @Override
+        public void write(ByteBuffer data) throws IOException {
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            output.write(bytes);
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            received.complete(output.toByteArray());
+        }
+
+        @Override
+        public void abort(String reason) {
+            received.completeExceptionally(new IOException(reason));
+        }
+    }
+}
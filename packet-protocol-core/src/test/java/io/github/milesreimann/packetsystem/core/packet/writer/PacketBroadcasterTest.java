@@ -0,0 +1,169 @@
+package io.github.milesreimann.packetsystem.core.packet.writer;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.core.connection.ServerConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.github.milesreimann.packetsystem.core.session.DefaultSession;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketBroadcasterTest {
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+    private ServerConnection server;
+    private DefaultSession first;
+    private DefaultSession second;
+    private DefaultSession third;
+
+    @BeforeEach
+    void setUp() {
+        server = connection();
+        first = register(server);
+        second = register(server);
+        third = register(server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channels.forEach(EmbeddedChannel::finishAndReleaseAll);
+    }
+
+    @Test
+    void broadcastWritesTheSameFrameToAllSessions() {
+        server.broadcast(new TestPacket(1));
+
+        assertWritten(first, 1);
+        assertWritten(second, 1);
+        assertWritten(third, 1);
+    }
+
+    @Test
+    void broadcastOnlyWritesToSessionsAcceptedByTheFilter() {
+        server.broadcast(new TestPacket(2), session -> session != second);
+
+        assertWritten(first, 2);
+        assertWritten(second);
+        assertWritten(third, 2);
+    }
+
+    @Test
+    void broadcastAllWritesThePacketsInOrder() {
+        server.broadcastAll(List.of(new TestPacket(3), new TestPacket(4)));
+
+        assertWritten(first, 3, 4);
+        assertWritten(second, 3, 4);
+        assertWritten(third, 3, 4);
+    }
+
+    @Test
+    void multicastOnlyWritesToTheGivenSessions() {
+        server.multicast(new TestPacket(5), List.of(first, third));
+
+        assertWritten(first, 5);
+        assertWritten(second);
+        assertWritten(third, 5);
+    }
+
+    @Test
+    void multicastSkipsDisconnectedSessions() {
+        second.getChannel().close();
+
+        server.multicast(new TestPacket(6), List.of(first, second));
+
+        assertWritten(first, 6);
+        assertWritten(second);
+    }
+
+    @Test
+    void multicastRejectsSessionsOfOtherConnections() {
+        // Session identifiers are only unique per connection, so the foreign session shares its identifier with the first
+        DefaultSession foreign = register(connection());
+        assertEquals(first.getId(), foreign.getId());
+
+        assertThrows(IllegalArgumentException.class, () -> server.multicast(new TestPacket(7), List.of(first, foreign)));
+
+        assertWritten(first);
+        assertWritten(foreign);
+    }
+
+    @Test
+    void framesAreAllocatedByTheAllocatorOfTheChannels() {
+        ByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+        channels.forEach(channel -> channel.config().setAllocator(allocator));
+
+        server.broadcast(new TestPacket(8));
+
+        OutboundFrame frame = first.getChannel().readOutbound();
+        try {
+            assertSame(allocator, frame.content().alloc());
+        } finally {
+            frame.release();
+        }
+    }
+
+    private ServerConnection connection() {
+        ServerConnection connection = new ServerConnection("127.0.0.1", 0, ConnectionOptions.builder()
+            .headerMode(HeaderMode.NONE)
+            .build());
+        connection.getPacketRegistry().registerPacket(TestPacket.class);
+        return connection;
+    }
+
+    private DefaultSession register(ServerConnection connection) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channels.add(channel);
+        return connection.getSessionRegistry().register(channel, _ -> {
+        });
+    }
+
+    private void assertWritten(DefaultSession session, int... expectedValues) {
+        EmbeddedChannel channel = (EmbeddedChannel) session.getChannel();
+
+        for (int expectedValue : expectedValues) {
+            OutboundFrame frame = channel.readOutbound();
+            ByteBuf expected = server.getPacketCodec().encodeFrame(new TestPacket(expectedValue), ByteBufAllocator.DEFAULT);
+
+            try {
+                assertTrue(ByteBufUtil.equals(expected, frame.content()), "Frame should hold " + expectedValue);
+            } finally {
+                expected.release();
+                frame.release();
+            }
+        }
+
+        assertNull(channel.readOutbound());
+    }
+
+    public static class TestPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value;
+
+        public TestPacket() {
+        }
+
+        public TestPacket(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
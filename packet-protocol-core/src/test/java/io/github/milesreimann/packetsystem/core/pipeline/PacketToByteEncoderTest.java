@@ -0,0 +1,90 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+import io.github.milesreimann.packetsystem.common.packet.codec.primitive.DefaultPacketFieldIntCodec;
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.HeaderMode;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PacketToByteEncoderTest {
+    private final ClientConnection connection = new ClientConnection("localhost", 0, ConnectionOptions.builder()
+        .headerMode(HeaderMode.SEQUENCE)
+        .build());
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+
+    PacketToByteEncoderTest() {
+        connection.getPacketRegistry().registerPacket(TestPacket.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channels.forEach(EmbeddedChannel::finishAndReleaseAll);
+    }
+
+    @Test
+    void countsSequenceIdentifiersPerChannel() {
+        EmbeddedChannel first = channel();
+        EmbeddedChannel second = channel();
+
+        assertEquals(1, write(first));
+        assertEquals(2, write(first));
+        assertEquals(1, write(second));
+        assertEquals(3, write(first));
+        assertEquals(2, write(second));
+    }
+
+    @Test
+    void framesNotBoundToAChannelDoNotAdvanceItsSequence() {
+        EmbeddedChannel channel = channel();
+        assertEquals(1, write(channel));
+
+        TestPacket broadcast = new TestPacket();
+        connection.getPacketCodec().encodeFrame(broadcast, ByteBufAllocator.DEFAULT).release();
+        assertEquals(1, broadcast.getUniqueIdLeastSigBits());
+
+        assertEquals(2, write(channel));
+    }
+
+    @Test
+    void packetsKeepTheirIdentifier() {
+        EmbeddedChannel channel = channel();
+        TestPacket packet = new TestPacket();
+        packet.assignUniqueId(0, 42);
+
+        channel.writeOutbound(packet);
+
+        assertEquals(42, packet.getUniqueIdLeastSigBits());
+        assertEquals(1, write(channel));
+    }
+
+    private EmbeddedChannel channel() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketToByteEncoder(connection));
+        channels.add(channel);
+        return channel;
+    }
+
+    private long write(EmbeddedChannel channel) {
+        TestPacket packet = new TestPacket();
+        channel.writeOutbound(packet);
+        return packet.getUniqueIdLeastSigBits();
+    }
+
+    public static class TestPacket extends Packet {
+        @PacketField(codec = DefaultPacketFieldIntCodec.class)
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
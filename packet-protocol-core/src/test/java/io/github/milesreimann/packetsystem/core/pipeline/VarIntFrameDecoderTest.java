@@ -0,0 +1,101 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.common.util.VarInts;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VarIntFrameDecoderTest {
+    private static final int MAX_FRAME_LENGTH = 16;
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = new EmbeddedChannel(new VarIntFrameDecoder(MAX_FRAME_LENGTH));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void splitsFramesReceivedInPieces() {
+        ByteBuf byteBuf = frame("abc");
+
+        channel.writeInbound(byteBuf.readRetainedSlice(2));
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(byteBuf);
+        assertFrame("abc");
+    }
+
+    @Test
+    void discardsTooLongFramesAndReadsTheNextOne() {
+        int length = 100;
+        ByteBuf byteBuf = Unpooled.buffer();
+        VarInts.writeVarInt(byteBuf, length);
+        byteBuf.writeZero(40);
+
+        assertThrows(TooLongFrameException.class, () -> channel.writeInbound(byteBuf));
+        assertNull(channel.readInbound());
+
+        // The rest of the discarded frame arrives together with the next frame
+        ByteBuf rest = Unpooled.buffer().writeZero(length - 40);
+        channel.writeInbound(Unpooled.wrappedBuffer(rest, frame("abc")));
+
+        assertFrame("abc");
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    void closesTheChannelOnOverlongLengths() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        for (int i = 0; i < VarInts.MAX_VAR_INT_BYTES; i++) {
+            byteBuf.writeByte(0x80);
+        }
+        byteBuf.writeBytes(frame("abc"));
+
+        assertThrows(CorruptedFrameException.class, () -> channel.writeInbound(byteBuf));
+        assertNull(channel.readInbound());
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    void closesTheChannelOnNegativeLengths() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        VarInts.writeVarInt(byteBuf, -1);
+        byteBuf.writeBytes(frame("abc"));
+
+        assertThrows(CorruptedFrameException.class, () -> channel.writeInbound(byteBuf));
+        assertNull(channel.readInbound());
+        assertFalse(channel.isOpen());
+    }
+
+    private void assertFrame(String expected) {
+        ByteBuf frame = channel.readInbound();
+        assertEquals(expected, frame.toString(StandardCharsets.US_ASCII));
+        frame.release();
+    }
+
+    private static ByteBuf frame(String content) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        VarInts.writeVarInt(byteBuf, content.length());
+        byteBuf.writeCharSequence(content, StandardCharsets.US_ASCII);
+        return byteBuf;
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.milesreimann.packetsystem.core.pipeline;
+
+import io.github.milesreimann.packetsystem.api.packet.Packet;
+import io.github.milesreimann.packetsystem.api.packet.PacketPriority;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.packet.conflation.ConflationRegistry;
+import io.github.milesreimann.packetsystem.core.packet.writer.OutboundFrame;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteSchedulerTest {
+    private final ConflationRegistry conflationRegistry = new ConflationRegistry();
+    private EmbeddedChannel channel;
+    private WriteScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void passesWritesThroughWhileNothingIsQueued() {
+        setUp(ConnectionOptions.builder().build());
+        TestPacket packet = new TestPacket(0, 1);
+
+        channel.writeOutbound(packet);
+
+        assertSame(packet, channel.readOutbound());
+    }
+
+    @Test
+    void unwrapsOutboundFrames() {
+        setUp(ConnectionOptions.builder().build());
+        ByteBuf content = Unpooled.buffer().writeInt(1);
+
+        channel.writeOutbound(new OutboundFrame(content, PacketPriority.NORMAL, null));
+
+        ByteBuf written = channel.readOutbound();
+        assertSame(content, written);
+        written.release();
+    }
+
+    @Test
+    void keepsTheOrderWithoutPriorityScheduling() {
+        setUp(ConnectionOptions.builder().build());
+        scheduler.pause();
+
+        channel.writeOutbound(packet(1, PacketPriority.LOW));
+        channel.writeOutbound(packet(2, PacketPriority.HIGH));
+        channel.writeOutbound(packet(3, PacketPriority.NORMAL));
+        assertNull(channel.readOutbound());
+
+        scheduler.resume();
+
+        assertWritten(1, 2, 3);
+    }
+
+    @Test
+    void writesLanesInWeightedRoundRobinOrder() {
+        setUp(priorityOptions());
+        scheduler.pause();
+
+        channel.writeOutbound(packet(1, PacketPriority.LOW));
+        channel.writeOutbound(packet(2, PacketPriority.LOW));
+        channel.writeOutbound(packet(3, PacketPriority.NORMAL));
+        channel.writeOutbound(packet(4, PacketPriority.NORMAL));
+        channel.writeOutbound(packet(5, PacketPriority.HIGH));
+        channel.writeOutbound(packet(6, PacketPriority.HIGH));
+        channel.writeOutbound(packet(7, PacketPriority.HIGH));
+
+        scheduler.resume();
+
+        assertWritten(5, 6, 3, 1, 7, 4, 2);
+    }
+
+    @Test
+    void schedulesOutboundFramesByTheirPriority() {
+        setUp(priorityOptions());
+        scheduler.pause();
+
+        channel.writeOutbound(packet(1, PacketPriority.NORMAL));
+        ByteBuf content = Unpooled.buffer().writeInt(2);
+        channel.writeOutbound(new OutboundFrame(content, PacketPriority.HIGH, null));
+
+        scheduler.resume();
+
+        assertSame(content, channel.readOutbound());
+        assertEquals(1, ((TestPacket) channel.readOutbound()).getValue());
+        content.release();
+    }
+
+    @Test
+    void replacesPendingPacketsWithTheSameKey() {
+        conflationRegistry.register(TestPacket.class, TestPacket::getKey);
+        setUp(ConnectionOptions.builder().build());
+        scheduler.pause();
+
+        ChannelFuture replaced = channel.writeOneOutbound(new TestPacket(1, 1));
+        channel.writeOneOutbound(new TestPacket(2, 2));
+        channel.writeOneOutbound(new TestPacket(1, 3));
+
+        assertTrue(replaced.isSuccess());
+
+        scheduler.resume();
+
+        assertWritten(3, 2);
+    }
+
+    @Test
+    void replacementKeepsTheSlotAcrossLanes() {
+        conflationRegistry.register(TestPacket.class, TestPacket::getKey);
+        setUp(priorityOptions());
+        scheduler.pause();
+
+        TestPacket low = new TestPacket(1, 1);
+        low.setPriority(PacketPriority.LOW);
+        channel.writeOutbound(low);
+        channel.writeOutbound(packet(2, PacketPriority.NORMAL));
+        TestPacket high = new TestPacket(1, 3);
+        high.setPriority(PacketPriority.HIGH);
+        channel.writeOutbound(high);
+
+        scheduler.resume();
+
+        assertWritten(2, 3);
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void replacesPendingOutboundFramesWithTheSameKey() {
+        setUp(ConnectionOptions.builder().build());
+        scheduler.pause();
+
+        ByteBuf first = Unpooled.buffer().writeInt(1);
+        ByteBuf second = Unpooled.buffer().writeInt(2);
+        channel.writeOutbound(new OutboundFrame(first, PacketPriority.NORMAL, "key"));
+        channel.writeOutbound(new OutboundFrame(second, PacketPriority.NORMAL, "key"));
+
+        assertEquals(0, first.refCnt());
+
+        scheduler.resume();
+
+        assertSame(second, channel.readOutbound());
+        assertNull(channel.readOutbound());
+        second.release();
+    }
+
+    @Test
+    void failsQueuedWritesOnceTheChannelIsClosed() {
+        setUp(ConnectionOptions.builder().build());
+        scheduler.pause();
+
+        ByteBuf content = Unpooled.buffer().writeInt(1);
+        ChannelFuture future = channel.writeOneOutbound(new OutboundFrame(content, PacketPriority.NORMAL, null));
+        channel.close();
+
+        assertFalse(future.isSuccess());
+        assertInstanceOf(ClosedChannelException.class, future.cause());
+        assertEquals(0, content.refCnt());
+    }
+
+    private void setUp(ConnectionOptions options) {
+        scheduler = new WriteScheduler(options, conflationRegistry);
+        channel = new EmbeddedChannel(scheduler);
+    }
+
+    private void assertWritten(int... values) {
+        List<Integer> written = new ArrayList<>();
+        TestPacket packet;
+
+        while ((packet = channel.readOutbound()) != null) {
+            written.add(packet.getValue());
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int value : values) {
+            expected.add(value);
+        }
+
+        assertEquals(expected, written);
+    }
+
+    private static ConnectionOptions priorityOptions() {
+        return ConnectionOptions.builder()
+            .priorityScheduling(true)
+            .highPriorityWeight(2)
+            .normalPriorityWeight(1)
+            .lowPriorityWeight(1)
+            .build();
+    }
+
+    private static TestPacket packet(int value, PacketPriority priority) {
+        // Distinct keys, so the packets are only conflated by the tests registering a key
+        TestPacket packet = new TestPacket(-value, value);
+        packet.setPriority(priority);
+        return packet;
+    }
+
+    private static class TestPacket extends Packet {
+        private final int key;
+        private final int value;
+
+        private TestPacket(int key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        private int getKey() {
+            return key;
+        }
+
+        private int getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.milesreimann.packetsystem.core.session;
+
+import io.github.milesreimann.packetsystem.core.connection.ClientConnection;
+import io.github.milesreimann.packetsystem.core.connection.model.ConnectionOptions;
+import io.github.milesreimann.packetsystem.core.connection.model.FlushPolicy;
+import io.github.milesreimann.packetsystem.core.packet.writer.PacketWriter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultSessionTest {
+    private EmbeddedChannel channel;
+    private DefaultSession session;
+
+    @BeforeEach
+    void setUp() {
+        ClientConnection connection = new ClientConnection("localhost", 0, ConnectionOptions.builder()
+            .streamReceiveHighWaterMark(100)
+            .streamReceiveLowWaterMark(50)
+            .build());
+        channel = new EmbeddedChannel();
+        session = new DefaultSession(1, channel, connection, new PacketWriter(FlushPolicy.IMMEDIATE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void pausesReadingAboveTheHighWaterMark() {
+        session.streamDataQueued(60);
+        assertTrue(channel.config().isAutoRead());
+
+        session.streamDataQueued(60);
+        assertFalse(channel.config().isAutoRead());
+    }
+
+    @Test
+    void resumesReadingBelowTheLowWaterMark() {
+        session.streamDataQueued(120);
+
+        session.streamDataHandled(40);
+        channel.runPendingTasks();
+        assertFalse(channel.config().isAutoRead());
+
+        session.streamDataHandled(40);
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    @Test
+    void staysPausedIfDataIsQueuedBeforeReadingResumes() {
+        session.streamDataQueued(120);
+
+        // Resuming is scheduled on the event loop, which checks the queued bytes again
+        session.streamDataHandled(80);
+        session.streamDataQueued(80);
+        channel.runPendingTasks();
+
+        assertFalse(channel.config().isAutoRead());
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.milesreimann.packetsystem.core.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.IllegalReferenceCountException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransportResourcesTest {
+    @Test
+    void bossGroupIsCreatedOnceAndShutDownOnRelease() throws InterruptedException {
+        TransportResources resources = TransportResources.create(TransportType.NIO, 1, 1);
+        EventLoopGroup bossGroup = resources.getBossGroup();
+        assertSame(bossGroup, resources.getBossGroup());
+
+        resources.release();
+
+        assertTrue(bossGroup.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(resources.getWorkerGroup().awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void bossGroupIsNotCreatedAfterRelease() {
+        TransportResources resources = TransportResources.create(TransportType.NIO, 1, 1);
+        resources.release();
+
+        assertThrows(IllegalReferenceCountException.class, resources::getBossGroup);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.milesreimann.packetsystem.core.transport;
+
+import io.netty.channel.uring.IoUring;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TransportTypeTest {
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(TransportType.PREFER_IO_URING_PROPERTY);
+    }
+
+    @Test
+    void autoDoesNotSelectIoUringUnlessPreferred() {
+        assertNotEquals(TransportType.IO_URING, TransportType.AUTO.resolve());
+    }
+
+    @Test
+    void autoSelectsIoUringIfPreferredAndAvailable() {
+        TransportType fallback = TransportType.AUTO.resolve();
+        System.setProperty(TransportType.PREFER_IO_URING_PROPERTY, "true");
+
+        assertEquals(IoUring.isAvailable() ? TransportType.IO_URING : fallback, TransportType.AUTO.resolve());
+    }
+
+    @Test
+    void unavailableTransportsFallBackToTheAutomaticallySelectedOne() {
+        for (TransportType transportType : TransportType.values()) {
+            if (!transportType.isAvailable()) {
+                assertEquals(TransportType.AUTO.resolve(), transportType.resolve());
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package io.github.milesreimann.packetsystem.processor;
+
+import io.github.milesreimann.packetsystem.processor.model.PacketFieldModel;
+import io.github.milesreimann.packetsystem.processor.model.PacketModel;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates a packet serializer for every packet class that declares
+ * {@code @PacketField}-annotated fields.
+ * <p>
+ * Each serializer is emitted as plain Java source next to its packet and accesses fields
+ * directly, or through their getter and setter if the field is private. All generated
+ * serializers of a compilation are listed in the {@value #INDEX_RESOURCE} resource,
+ * which the runtime uses in place of reflective field access.
+ * </p>
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@SupportedAnnotationTypes(PacketSerializerProcessor.PACKET_FIELD_ANNOTATION)
+public class PacketSerializerProcessor extends AbstractProcessor {
+    static final String PACKET_FIELD_ANNOTATION = "io.github.milesreimann.packetsystem.api.packet.codec.PacketField";
+    static final String INDEX_RESOURCE = "META-INF/packet-protocol/packet-serializers";
+
+    private static final String PACKET_CLASS = "io.github.milesreimann.packetsystem.api.packet.Packet";
+    private static final String SERIALIZER_SUFFIX = "_PacketSerializer";
+    private static final String PRIMITIVE_CODEC_PACKAGE = "io.github.milesreimann.packetsystem.api.packet.codec.primitive";
+    private static final Map<TypeKind, String> PRIMITIVE_CODEC_NAMES = Map.of(
+        TypeKind.INT, "Int",
+        TypeKind.LONG, "Long",
+        TypeKind.DOUBLE, "Double",
+        TypeKind.FLOAT, "Float",
+        TypeKind.SHORT, "Short",
+        TypeKind.BYTE, "Byte",
+        TypeKind.BOOLEAN, "Boolean",
+        TypeKind.CHAR, "Char"
+    );
+    private static final Set<String> LOMBOK_GETTER_ANNOTATIONS = Set.of("lombok.Getter", "lombok.Data", "lombok.Value");
+    private static final Set<String> LOMBOK_SETTER_ANNOTATIONS = Set.of("lombok.Setter", "lombok.Data");
+
+    private final Map<String, String> serializerIndex = new TreeMap<>();
+    private final Set<String> processedPackets = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private PacketSerializerWriter serializerWriter;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.serializerWriter = new PacketSerializerWriter(processingEnv.getFiler());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement packetFieldAnnotation = elements.getTypeElement(PACKET_FIELD_ANNOTATION);
+        if (packetFieldAnnotation == null) {
+            return false;
+        }
+
+        Set<TypeElement> packetTypes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(packetFieldAnnotation)) {
+            if (element.getEnclosingElement() instanceof TypeElement packetType) {
+                packetTypes.add(packetType);
+            }
+        }
+
+        packetTypes.forEach(packetType -> processPacket(packetType, packetFieldAnnotation));
+        return false;
+    }
+
+    private void processPacket(TypeElement packetType, TypeElement packetFieldAnnotation) {
+        String packetBinaryName = elements.getBinaryName(packetType).toString();
+        if (!processedPackets.add(packetBinaryName) || !isGeneratable(packetType)) {
+            return;
+        }
+
+        List<PacketFieldModel> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(packetType.getEnclosedElements())) {
+            AnnotationMirror packetField = findAnnotation(field, packetFieldAnnotation);
+            if (packetField == null) {
+                continue;
+            }
+
+            PacketFieldModel fieldModel = createFieldModel(packetType, field, packetField);
+            if (fieldModel == null) {
+                return;
+            }
+
+            fields.add(fieldModel);
+        }
+
+        PacketModel packetModel = new PacketModel(
+            elements.getPackageOf(packetType).getQualifiedName().toString(),
+            packetType.getQualifiedName().toString(),
+            packetBinaryName,
+            createSerializerName(packetType),
+            fields
+        );
+
+        try {
+            serializerWriter.write(packetModel, packetType);
+            serializerIndex.put(packetBinaryName, packetModel.serializerBinaryName());
+        } catch (IOException e) {
+            error(packetType, "Failed to write packet serializer: " + e.getMessage());
+        }
+    }
+
+    private boolean isGeneratable(TypeElement packetType) {
+        TypeElement packetClass = elements.getTypeElement(PACKET_CLASS);
+        if (packetClass == null) {
+            return false;
+        }
+
+        if (!types.isSubtype(types.erasure(packetType.asType()), types.erasure(packetClass.asType()))) {
+            error(packetType, "@PacketField may only be used in subclasses of " + PACKET_CLASS);
+            return false;
+        }
+
+        Set<Modifier> modifiers = packetType.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        NestingKind nestingKind = packetType.getNestingKind();
+        if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+            return false;
+        }
+
+        if (modifiers.contains(Modifier.PRIVATE)
+            || (nestingKind == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC))) {
+            error(packetType, "Packet class must not be private and nested packets must be static");
+            return false;
+        }
+
+        if (!hasAccessibleNoArgsConstructor(packetType)) {
+            error(packetType, "Packet class requires a non-private no-args constructor");
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean hasAccessibleNoArgsConstructor(TypeElement packetType) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(packetType.getEnclosedElements());
+        if (constructors.isEmpty()) {
+            return true;
+        }
+
+        return constructors.stream().anyMatch(constructor ->
+            constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)
+        );
+    }
+
+    private PacketFieldModel createFieldModel(
+        TypeElement packetType,
+        VariableElement field,
+        AnnotationMirror packetField
+    ) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@PacketField fields must be neither static nor final");
+            return null;
+        }
+
+        TypeMirror codecType = findCodecType(packetField);
+        if (codecType == null) {
+            error(field, "Unable to resolve the codec of @PacketField");
+            return null;
+        }
+
+        String name = field.getSimpleName().toString();
+        String typeName = types.erasure(field.asType()).toString();
+        String codecTypeName = types.erasure(codecType).toString();
+        String primitiveCodecName = findPrimitiveCodecName(field, codecType);
+
+        if (!modifiers.contains(Modifier.PRIVATE)) {
+            return new PacketFieldModel(name, typeName, codecTypeName, primitiveCodecName, null, null);
+        }
+
+        String getterName = createGetterName(field);
+        String setterName = createSetterName(field);
+
+        if (!hasAccessor(packetType, field, getterName, 0, LOMBOK_GETTER_ANNOTATIONS)
+            || !hasAccessor(packetType, field, setterName, 1, LOMBOK_SETTER_ANNOTATIONS)) {
+            error(field, "Private @PacketField fields require a getter '" + getterName + "' and a setter '" + setterName + "'");
+            return null;
+        }
+
+        return new PacketFieldModel(name, typeName, codecTypeName, primitiveCodecName, getterName, setterName);
+    }
+
+    private String findPrimitiveCodecName(VariableElement field, TypeMirror codecType) {
+        String primitiveName = PRIMITIVE_CODEC_NAMES.get(field.asType().getKind());
+        if (primitiveName == null) {
+            return null;
+        }
+
+        TypeElement primitiveCodec = elements.getTypeElement(PRIMITIVE_CODEC_PACKAGE + ".PacketField" + primitiveName + "Codec");
+        if (primitiveCodec == null || !types.isAssignable(codecType, primitiveCodec.asType())) {
+            return null;
+        }
+
+        return primitiveName;
+    }
+
+    private boolean hasAccessor(
+        TypeElement packetType,
+        VariableElement field,
+        String methodName,
+        int parameterCount,
+        Set<String> lombokAnnotations
+    ) {
+        boolean declared = ElementFilter.methodsIn(packetType.getEnclosedElements()).stream()
+            .anyMatch(method -> method.getSimpleName().contentEquals(methodName)
+                && method.getParameters().size() == parameterCount
+                && !method.getModifiers().contains(Modifier.PRIVATE));
+
+        return declared || hasAnyAnnotation(field, lombokAnnotations) || hasAnyAnnotation(packetType, lombokAnnotations);
+    }
+
+    private String createGetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+
+        if (field.asType().getKind() != TypeKind.BOOLEAN) {
+            return "get" + capitalize(name);
+        }
+
+        return hasBooleanPrefix(name) ? name : "is" + capitalize(name);
+    }
+
+    private String createSetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+
+        if (field.asType().getKind() == TypeKind.BOOLEAN && hasBooleanPrefix(name)) {
+            return "set" + name.substring(2);
+        }
+
+        return "set" + capitalize(name);
+    }
+
+    private boolean hasBooleanPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    private String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private String createSerializerName(TypeElement packetType) {
+        StringBuilder name = new StringBuilder(packetType.getSimpleName());
+        Element enclosing = packetType.getEnclosingElement();
+
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, enclosingType.getSimpleName() + "_");
+            enclosing = enclosingType.getEnclosingElement();
+        }
+
+        return name.append(SERIALIZER_SUFFIX).toString();
+    }
+
+    private TypeMirror findCodecType(AnnotationMirror packetField) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : packetField.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("codec")
+                && entry.getValue().getValue() instanceof TypeMirror codecType) {
+                return codecType;
+            }
+        }
+
+        return null;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, TypeElement annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (types.isSameType(annotation.getAnnotationType(), annotationType.asType())) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean hasAnyAnnotation(Element element, Set<String> annotationNames) {
+        return element.getAnnotationMirrors().stream()
+            .map(annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())
+            .anyMatch(annotationNames::contains);
+    }
+
+    private void writeIndex() {
+        if (serializerIndex.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+
+            try (Writer writer = resource.openWriter()) {
+                for (Map.Entry<String, String> entry : serializerIndex.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write packet serializer index: " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.milesreimann.packetsystem.processor;
+
+import io.github.milesreimann.packetsystem.processor.model.PacketFieldModel;
+import io.github.milesreimann.packetsystem.processor.model.PacketModel;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the Java source of a generated packet serializer.
+ *
+ * @author Miles
+ * @since 28.08.25
+ */
+@RequiredArgsConstructor
+public class PacketSerializerWriter {
+    private static final String INDENT = "    ";
+    private static final String PRIMITIVE_CODEC_PACKAGE = "io.github.milesreimann.packetsystem.api.packet.codec.primitive";
+
+    private final Filer filer;
+
+    public void write(PacketModel packet, Element originatingElement) throws IOException {
+        JavaFileObject sourceFile = filer.createSourceFile(packet.serializerBinaryName(), originatingElement);
+
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(generateSource(packet));
+        }
+    }
+
+    private String generateSource(PacketModel packet) {
+        StringBuilder source = new StringBuilder();
+        String packetType = packet.packetTypeName();
+
+        source.append("// Generated by ").append(PacketSerializerProcessor.class.getSimpleName()).append(". Do not edit.\n");
+        if (!packet.packageName().isEmpty()) {
+            source.append("package ").append(packet.packageName()).append(";\n\n");
+        }
+
+        source.append("import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;\n");
+        source.append("import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodecResolver;\n");
+        source.append("import io.github.milesreimann.packetsystem.api.packet.codec.PacketSerializer;\n");
+        source.append("import io.netty.buffer.ByteBuf;\n");
+        source.append("import io.netty.util.ReferenceCounted;\n\n");
+
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        source.append("public final class ").append(packet.serializerSimpleName())
+            .append(" implements PacketSerializer<").append(packetType).append("> {\n");
+
+        for (PacketFieldModel field : packet.fields()) {
+            line(source, 1, "private final " + codecTypeName(field) + " " + codecFieldName(field) + ";");
+        }
+
+        source.append('\n');
+        line(source, 1, "public " + packet.serializerSimpleName() + "(PacketFieldCodecResolver codecResolver) {");
+        for (PacketFieldModel field : packet.fields()) {
+            String resolveExpression = "codecResolver.resolve(" + field.codecTypeName() + ".class)";
+            if (field.hasPrimitiveCodec()) {
+                resolveExpression = "(" + codecTypeName(field) + ") " + resolveExpression;
+            }
+
+            line(source, 2, "this." + codecFieldName(field) + " = " + resolveExpression + ";");
+        }
+        line(source, 1, "}");
+
+        source.append('\n');
+        line(source, 1, "@Override");
+        line(source, 1, "public void encode(" + packetType + " packet, ByteBuf byteBuf) {");
+        for (PacketFieldModel field : packet.fields()) {
+            line(source, 2, codecFieldName(field) + ".encode" + primitiveSuffix(field) + "(" + readExpression(field) + ", byteBuf);");
+        }
+        line(source, 1, "}");
+
+        source.append('\n');
+        line(source, 1, "@Override");
+        line(source, 1, "public int sizeOf(" + packetType + " packet) {");
+        line(source, 2, "int size = 0;");
+        for (PacketFieldModel field : packet.fields()) {
+            String fieldSize = field.name() + "Size";
+            line(source, 2, "int " + fieldSize + " = " + codecFieldName(field) + ".sizeOf" + primitiveSuffix(field) + "(" + readExpression(field) + ");");
+            line(source, 2, "if (" + fieldSize + " < 0) {");
+            line(source, 3, "return -1;");
+            line(source, 2, "}");
+            line(source, 2, "size += " + fieldSize + ";");
+        }
+        line(source, 2, "return size;");
+        line(source, 1, "}");
+
+        source.append('\n');
+        line(source, 1, "@Override");
+        line(source, 1, "public " + packetType + " decode(ByteBuf byteBuf) {");
+        line(source, 2, packetType + " packet = new " + packetType + "();");
+        line(source, 2, "try {");
+        for (PacketFieldModel field : packet.fields()) {
+            if (field.hasPrimitiveCodec()) {
+                line(source, 3, writeStatement(field, codecFieldName(field) + ".decode" + field.primitiveCodecName() + "(byteBuf)"));
+                continue;
+            }
+
+            // Reference-counted values (e.g. retained slices) are released once the packet has been handled
+            String valueName = field.name() + "Value";
+            line(source, 3, "Object " + valueName + " = " + codecFieldName(field) + ".decode(byteBuf);");
+            line(source, 3, "if (" + valueName + " instanceof ReferenceCounted " + field.name() + "Resource) {");
+            line(source, 4, "packet.attachResource(" + field.name() + "Resource);");
+            line(source, 3, "}");
+            line(source, 3, writeStatement(field, "(" + field.typeName() + ") " + valueName));
+        }
+        line(source, 2, "} catch (RuntimeException e) {");
+        line(source, 3, "packet.releaseResources();");
+        line(source, 3, "throw e;");
+        line(source, 2, "}");
+        line(source, 2, "return packet;");
+        line(source, 1, "}");
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String readExpression(PacketFieldModel field) {
+        return field.hasDirectAccess()
+            ? "packet." + field.name()
+            : "packet." + field.getterName() + "()";
+    }
+
+    private String writeStatement(PacketFieldModel field, String valueExpression) {
+        return field.hasDirectAccess()
+            ? "packet." + field.name() + " = " + valueExpression + ";"
+            : "packet." + field.setterName() + "(" + valueExpression + ");";
+    }
+
+    private String codecTypeName(PacketFieldModel field) {
+        return field.hasPrimitiveCodec()
+            ? PRIMITIVE_CODEC_PACKAGE + ".PacketField" + field.primitiveCodecName() + "Codec"
+            : "PacketFieldCodec";
+    }
+
+    private String primitiveSuffix(PacketFieldModel field) {
+        return field.hasPrimitiveCodec() ? field.primitiveCodecName() : "";
+    }
+
+    private String codecFieldName(PacketFieldModel field) {
+        return field.name() + "Codec";
+    }
+
+    private void line(StringBuilder source, int depth, String content) {
+        source.append(INDENT.repeat(depth)).append(content).append('\n');
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.milesreimann.packetsystem.processor.model;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public record PacketFieldModel(
+    String name,
+    String typeName,
+    String codecTypeName,
+    String primitiveCodecName,
+    String getterName,
+    String setterName
+) {
+    public boolean hasDirectAccess() {
+        return getterName == null;
+    }
+
+    public boolean hasPrimitiveCodec() {
+        return primitiveCodecName != null;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.milesreimann.packetsystem.processor.model;
+
+import java.util.List;
+
+/**
+ * @author Miles
+ * @since 28.08.25
+ */
+public record PacketModel(
+    String packageName,
+    String packetTypeName,
+    String packetBinaryName,
+    String serializerSimpleName,
+    List<PacketFieldModel> fields
+) {
+    public String serializerBinaryName() {
+        return packageName.isEmpty() ? serializerSimpleName : packageName + "." + serializerSimpleName;
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.milesreimann.packetsystem.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacketSerializerProcessorTest {
+    private static final String IMPORTS = """
+        package test;
+
+        import io.github.milesreimann.packetsystem.api.packet.Packet;
+        import io.github.milesreimann.packetsystem.api.packet.codec.PacketField;
+        import io.github.milesreimann.packetsystem.api.packet.codec.PacketFieldCodec;
+        import io.github.milesreimann.packetsystem.api.packet.codec.primitive.PacketFieldIntCodec;
+
+        """;
+
+    @Test
+    void nestedPacketsGetTheNamesOfTheirEnclosingClassesPrefixed() throws IOException {
+        Compilation compilation = compile(source("test.Outer", """
+            public class Outer {
+                public static class Name extends Packet {
+                    @PacketField(codec = PacketFieldIntCodec.class)
+                    int value;
+                }
+            }
+            """));
+
+        assertSucceeded(compilation);
+
+        String serializer = generatedSource(compilation, "test.Outer_Name_PacketSerializer");
+        assertTrue(serializer.contains("public final class Outer_Name_PacketSerializer implements PacketSerializer<test.Outer.Name>"), serializer);
+        assertTrue(serializer.contains("packet.value = valueCodec.decodeInt(byteBuf);"), serializer);
+    }
+
+    @Test
+    void privateFieldsAreAccessedThroughTheirGetterAndSetter() throws IOException {
+        Compilation compilation = compile(source("test.PrivatePacket", """
+            public class PrivatePacket extends Packet {
+                @PacketField(codec = PacketFieldCodec.class)
+                private String name;
+                @PacketField(codec = PacketFieldCodec.class)
+                private boolean isActive;
+
+                public String getName() {
+                    return name;
+                }
+
+                public void setName(String name) {
+                    this.name = name;
+                }
+
+                public boolean isActive() {
+                    return isActive;
+                }
+
+                public void setActive(boolean active) {
+                    this.isActive = active;
+                }
+            }
+            """));
+
+        assertSucceeded(compilation);
+
+        String serializer = generatedSource(compilation, "test.PrivatePacket_PacketSerializer");
+        assertTrue(serializer.contains("nameCodec.encode(packet.getName(), byteBuf);"), serializer);
+        assertTrue(serializer.contains("packet.setName((java.lang.String) nameValue);"), serializer);
+        assertTrue(serializer.contains("isActiveCodec.encode(packet.isActive(), byteBuf);"), serializer);
+        assertTrue(serializer.contains("packet.setActive((boolean) isActiveValue);"), serializer);
+    }
+
+    @Test
+    void privateFieldsWithoutAccessorsAreRejected() {
+        Compilation compilation = compile(source("test.HiddenPacket", """
+            public class HiddenPacket extends Packet {
+                @PacketField(codec = PacketFieldIntCodec.class)
+                private int value;
+            }
+            """));
+
+        assertEquals(Compilation.Status.FAILURE, compilation.status());
+        assertTrue(compilation.errors().stream()
+            .map(error -> error.getMessage(null))
+            .anyMatch(message -> message.contains("require a getter 'getValue' and a setter 'setValue'")));
+    }
+
+    @Test
+    void indexMapsBinaryPacketNamesToTheirSerializers() throws IOException {
+        Compilation compilation = compile(
+            source("test.Outer", """
+                public class Outer {
+                    public static class Name extends Packet {
+                        @PacketField(codec = PacketFieldIntCodec.class)
+                        int value;
+                    }
+                }
+                """),
+            source("test.TopLevelPacket", """
+                public class TopLevelPacket extends Packet {
+                    @PacketField(codec = PacketFieldIntCodec.class)
+                    int value;
+                }
+                """)
+        );
+
+        assertSucceeded(compilation);
+
+        JavaFileObject index = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, PacketSerializerProcessor.INDEX_RESOURCE)
+            .orElseThrow();
+        assertEquals(
+            "test.Outer$Name=test.Outer_Name_PacketSerializer\ntest.TopLevelPacket=test.TopLevelPacket_PacketSerializer\n",
+            index.getCharContent(false).toString()
+        );
+    }
+
+    @Test
+    void noIndexIsWrittenWithoutPackets() {
+        Compilation compilation = compile(source("test.Plain", """
+            public class Plain {
+            }
+            """));
+
+        assertSucceeded(compilation);
+        assertTrue(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, PacketSerializerProcessor.INDEX_RESOURCE).isEmpty());
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        return Compiler.javac()
+            .withProcessors(new PacketSerializerProcessor())
+            .compile(sources);
+    }
+
+    private static JavaFileObject source(String className, String body) {
+        return JavaFileObjects.forSourceString(className, IMPORTS + body);
+    }
+
+    private static String generatedSource(Compilation compilation, String className) throws IOException {
+        return compilation.generatedSourceFile(className).orElseThrow().getCharContent(false).toString();
+    }
+
+    private static void assertSucceeded(Compilation compilation) {
+        assertEquals(Compilation.Status.SUCCESS, compilation.status(), () -> compilation.diagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .toList()
+            .toString());
+    }
+}